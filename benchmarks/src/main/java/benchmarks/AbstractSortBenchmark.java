@@ -0,0 +1,83 @@
+/**
+ * This class consists of the shared JMH state and benchmark method of the sorting
+ * benchmarks. Subclasses choose which algorithms and which array sizes are benchmarked
+ * by declaring the "algorithm" and "size" parameters and by mapping an algorithm name
+ * to its sort() method.
+ *
+ * Every invocation copies the pristine input into a preallocated working array with
+ * System.arraycopy() and sorts the copy, so the allocation rate reported by the GC
+ * profiler (-prof gc) is the allocation rate of the sort itself.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@SuppressWarnings("rawtypes")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Xss64m"})
+public abstract class AbstractSortBenchmark {
+
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "FEW_UNIQUE", "ORGAN_PIPE", "NEARLY_SORTED"})
+    public InputDistribution distribution;
+
+    private Comparable[] input;              // pristine input which is never sorted
+    private Comparable[] work;               // copy of the input that is sorted on each invocation
+    private Consumer<Comparable[]> sorter;   // sort() method of the benchmarked algorithm
+
+    /*
+     * Returns the sort() method of the given algorithm.
+     *
+     * algorithm is the name of the algorithm (the "algorithm" parameter).
+     */
+
+    protected abstract Consumer<Comparable[]> sorter(String algorithm);
+
+    /*
+     * Returns the value of the "algorithm" parameter of the subclass.
+     */
+
+    protected abstract String algorithm();
+
+    /*
+     * Returns the value of the "size" parameter of the subclass.
+     */
+
+    protected abstract int size();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = distribution.generate(size());
+        work = new Comparable[input.length];
+        sorter = sorter(algorithm());
+    }
+
+    @Benchmark
+    public Comparable[] sort() {
+        System.arraycopy(input, 0, work, 0, input.length);
+        sorter.accept(work);
+
+        return work;
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * This class consists of the JMH benchmarks of the argsort() methods of Merge and Quick
+ * sort, which return the permutation that sorts an array instead of rearranging it,
+ * on int and long key columns and on Integer[] arrays. Sorting a copy of the keys is
+ * the baseline, i.e., the cost of the order without the indexes.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sorting.Merge;
+import sorting.Quick;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+public class ArgsortBenchmark {
+
+    @Param({"RANDOM", "FEW_UNIQUE", "NEARLY_SORTED"})
+    public InputDistribution distribution;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Integer[] boxed;   // keys as objects
+    private int[] ints;        // int key column
+    private long[] longs;      // long key column
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boxed = distribution.generate(size);
+        ints = new int[size];
+        longs = new long[size];
+
+        for (int i = 0; i < size; ++i) {
+            ints[i] = boxed[i];
+            longs[i] = (long) boxed[i] << 16;
+        }
+    }
+
+    @Benchmark
+    public int[] sortIntCopy() {
+        int[] copy = ints.clone();
+        Merge.sort(copy);
+
+        return copy;
+    }
+
+    @Benchmark
+    public int[] mergeArgsortInt() {
+        return Merge.argsort(ints);
+    }
+
+    @Benchmark
+    public int[] quickArgsortInt() {
+        return Quick.argsort(ints);
+    }
+
+    @Benchmark
+    public int[] mergeArgsortLong() {
+        return Merge.argsort(longs);
+    }
+
+    @Benchmark
+    public int[] quickArgsortLong() {
+        return Quick.argsort(longs);
+    }
+
+    @Benchmark
+    public int[] mergeArgsortComparable() {
+        return Merge.argsort(boxed);
+    }
+
+    @Benchmark
+    public int[] quickArgsortComparable() {
+        return Quick.argsort(boxed);
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * This class consists of the JMH benchmarks of the O(N^2) sorting algorithms of
+ * the sorting package (Selection and Insertion) for every InputDistribution, and of the
+ * classic Quick.sort() which is also O(N^2) on the SORTED, REVERSE_SORTED and ORGAN_PIPE
+ * inputs since it does not shuffle the array.
+ *
+ * Quadratic algorithms are benchmarked up to 10^5 elements by default since bigger
+ * arrays take minutes per invocation. Bigger sizes can still be run with, e.g.:
+ *
+ *              -p size=1000000
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package benchmarks;
+
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Param;
+
+import sorting.Insertion;
+import sorting.Quick;
+import sorting.Selection;
+
+@SuppressWarnings("rawtypes")
+public class ElementarySortBenchmark extends AbstractSortBenchmark {
+
+    @Param({"Selection", "Insertion", "Quick"})
+    public String algorithm;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int size;
+
+    protected Consumer<Comparable[]> sorter(String algorithm) {
+        switch (algorithm) {
+            case "Selection": return Selection::sort;
+            case "Insertion": return Insertion::sort;
+            case "Quick": return Quick::sort;
+            default: throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
+    protected String algorithm() {
+        return algorithm;
+    }
+
+    protected int size() {
+        return size;
+    }
+}
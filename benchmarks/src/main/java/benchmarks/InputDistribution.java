@@ -0,0 +1,131 @@
+/**
+ * This enum consists of the input distributions used by the sorting benchmarks.
+ * Each constant knows how to generate an Integer[] array of a given size whose
+ * elements follow its distribution, e.g., random, already sorted, reverse sorted, etc.
+ *
+ * All distributions are generated from a seeded java.util.Random so that every
+ * benchmark run (and every algorithm) sees exactly the same input.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package benchmarks;
+
+import java.util.Random;
+
+public enum InputDistribution {
+
+    // uniformly distributed random keys
+    RANDOM {
+        Integer[] generate(int size, Random random) {
+            Integer[] arr = new Integer[size];
+
+            for (int i = 0; i < size; ++i) {
+                arr[i] = random.nextInt();
+            }
+
+            return arr;
+        }
+    },
+
+    // keys already in ascending order
+    SORTED {
+        Integer[] generate(int size, Random random) {
+            Integer[] arr = new Integer[size];
+
+            for (int i = 0; i < size; ++i) {
+                arr[i] = i;
+            }
+
+            return arr;
+        }
+    },
+
+    // keys in descending order
+    REVERSE_SORTED {
+        Integer[] generate(int size, Random random) {
+            Integer[] arr = new Integer[size];
+
+            for (int i = 0; i < size; ++i) {
+                arr[i] = size - i;
+            }
+
+            return arr;
+        }
+    },
+
+    // random keys drawn from a tiny set of distinct values (lots of duplicates)
+    FEW_UNIQUE {
+        Integer[] generate(int size, Random random) {
+            Integer[] arr = new Integer[size];
+
+            for (int i = 0; i < size; ++i) {
+                arr[i] = random.nextInt(FEW_UNIQUE_KEYS);
+            }
+
+            return arr;
+        }
+    },
+
+    // keys go up till the middle of the array and then down, e.g., [1, 2, 3, 3, 2, 1]
+    ORGAN_PIPE {
+        Integer[] generate(int size, Random random) {
+            Integer[] arr = new Integer[size];
+
+            for (int i = 0; i < size; ++i) {
+                arr[i] = i < size/2 ? i : size - i;
+            }
+
+            return arr;
+        }
+    },
+
+    // ascending keys with a small fraction of random swaps
+    NEARLY_SORTED {
+        Integer[] generate(int size, Random random) {
+            Integer[] arr = SORTED.generate(size, random);
+            int swaps = Math.max(1, size/NEARLY_SORTED_SWAP_RATIO);
+
+            for (int s = 0; s < swaps; ++s) {
+                int ix1 = random.nextInt(size);
+                int ix2 = random.nextInt(size);
+
+                Integer temp = arr[ix1];
+                arr[ix1] = arr[ix2];
+                arr[ix2] = temp;
+            }
+
+            return arr;
+        }
+    };
+
+    private static final int FEW_UNIQUE_KEYS = 10;          // distinct keys of FEW_UNIQUE
+    private static final int NEARLY_SORTED_SWAP_RATIO = 100; // one random swap per 100 elements
+    private static final long SEED = 42L;                    // seed shared by every generated input
+
+    /*
+     * Generates an array of the given size that follows this distribution.
+     *
+     * size is the number of elements of the array.
+     * random is the source of randomness (if the distribution needs any).
+     */
+
+    abstract Integer[] generate(int size, Random random);
+
+    /**
+     * Generates an array of the given size that follows this distribution. The
+     * same size always generates the same array.
+     *
+     * @param size is the number of elements of the array.
+     * @return a new Integer array that follows this distribution.
+     */
+
+    public Integer[] generate(int size) {
+        if (size <= 0) {
+            return new Integer[0];
+        }
+
+        return generate(size, new Random(SEED));
+    }
+}
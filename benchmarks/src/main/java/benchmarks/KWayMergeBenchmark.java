@@ -0,0 +1,122 @@
+/**
+ * This class consists of the JMH benchmarks of the lazy k-way merge of sorted partitions
+ * (MergeIterator) against materializing every partition into one array which is sorted
+ * again with Merge.sort(), and of the sorting Collector (SortingCollectors.toSortedList())
+ * on sequential and parallel streams against Stream.sorted().
+ *
+ * @author Igor G. Peternella
+ * @date 10-17-2026
+ */
+
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sorting.Merge;
+import sorting.MergeIterator;
+import sorting.SortingCollectors;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class KWayMergeBenchmark {
+
+    @Param({"8", "64"})
+    public int partitions;
+
+    @Param({"1000000"})
+    public int size;
+
+    private List<List<Integer>> sortedPartitions;   // partitions of size/partitions sorted keys
+    private List<Integer> unsorted;                 // every key in random order
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+
+        sortedPartitions = new ArrayList<List<Integer>>();
+        unsorted = new ArrayList<Integer>();
+
+        for (int p = 0; p < partitions; ++p) {
+            Integer[] keys = new Integer[size/partitions];
+
+            for (int i = 0; i < keys.length; ++i) {
+                keys[i] = random.nextInt();
+            }
+
+            unsorted.addAll(Arrays.asList(keys));
+            Arrays.sort(keys);
+            sortedPartitions.add(Arrays.asList(keys));
+        }
+    }
+
+    @Benchmark
+    public long mergeIterator() {
+        long sum = 0;
+        Iterator<Integer> it = MergeIterator.of(sortedPartitions);
+
+        while (it.hasNext()) {
+            sum += it.next();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long materializeAndSort() {
+        long sum = 0;
+        Integer[] all = new Integer[size/partitions * partitions];
+        int k = 0;
+
+        for (List<Integer> partition : sortedPartitions) {
+            for (Integer key : partition) {
+                all[k++] = key;
+            }
+        }
+
+        Merge.sort(all);
+
+        for (Integer key : all) {
+            sum += key;
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public List<Integer> collectSorted() {
+        return unsorted.stream().collect(SortingCollectors.toSortedList());
+    }
+
+    @Benchmark
+    public List<Integer> collectSortedParallel() {
+        return unsorted.parallelStream().collect(SortingCollectors.toSortedList());
+    }
+
+    @Benchmark
+    public List<Integer> streamSorted() {
+        return unsorted.stream().sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * This class consists of the JMH benchmarks of the key-extractor sort() overloads
+ * against the Comparator overloads for a computed sort key. The Comparator computes
+ * both keys on every compare, i.e., O(N*log(N)) times, while the key-extractor sort
+ * computes each key only once.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package benchmarks;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sorting.Merge;
+import sorting.Quick;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class KeyExtractorSortBenchmark {
+
+    // computed sort key: the record normalized to lower case without padding
+    private static final Function<String, String> KEY = s -> s.trim().toLowerCase(Locale.ROOT);
+    private static final Comparator<String> BY_KEY = Comparator.comparing(KEY);
+
+    @Param({"Merge", "Quick.introSort"})
+    public String algorithm;
+
+    @Param({"RANDOM", "NEARLY_SORTED"})
+    public InputDistribution distribution;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private String[] input;   // pristine records which are never sorted
+    private String[] work;    // copy of the records sorted on each invocation
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Integer[] keys = distribution.generate(size);
+
+        input = new String[size];
+        for (int i = 0; i < size; ++i) {
+            input[i] = "  RECORD-" + keys[i] + "  ";
+        }
+        work = new String[size];
+    }
+
+    @Benchmark
+    public String[] comparator() {
+        System.arraycopy(input, 0, work, 0, size);
+
+        switch (algorithm) {
+            case "Merge": Merge.sort(work, BY_KEY); break;
+            case "Quick.introSort": Quick.introSort(work, BY_KEY); break;
+            default: throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+
+        return work;
+    }
+
+    @Benchmark
+    public String[] keyExtractor() {
+        System.arraycopy(input, 0, work, 0, size);
+
+        switch (algorithm) {
+            case "Merge": Merge.sort(work, KEY); break;
+            case "Quick.introSort": Quick.introSort(work, KEY); break;
+            default: throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+
+        return work;
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * This class consists of the JMH benchmarks of the searches of the static EytzingerMap
+ * against BinarySearchTree and a binary search of a sorted array (Arrays.binarySearch()).
+ * The maps are built from random Integer keys and every invocation runs a batch of
+ * searches: half of them are search hits and half are random keys (mostly misses).
+ *
+ * @author Igor G. Peternella
+ * @date 10-17-2026
+ */
+
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tree.BinarySearchTree;
+import tree.EytzingerMap;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class OrderedMapBenchmark {
+
+    private static final int QUERIES = 1024;   // searches of each invocation
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private EytzingerMap<Integer, Integer> eytzinger;
+    private BinarySearchTree<Integer, Integer> bst;
+    private Integer[] sorted;    // sorted keys for the binary search
+    private Integer[] queries;   // search keys
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        Integer[] keys = new Integer[size];
+
+        for (int i = 0; i < size; ++i) {
+            keys[i] = random.nextInt();
+        }
+
+        eytzinger = new EytzingerMap<Integer, Integer>(keys, keys);
+        bst = new BinarySearchTree<Integer, Integer>();
+        for (Integer key : keys) {
+            bst.put(key, key);
+        }
+
+        sorted = keys.clone();
+        Arrays.sort(sorted);
+
+        queries = new Integer[QUERIES];
+        for (int i = 0; i < QUERIES; ++i) {
+            queries[i] = random.nextBoolean() ? keys[random.nextInt(size)] : random.nextInt();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public long eytzingerFloor() {
+        long sum = 0;
+
+        for (Integer query : queries) {
+            Integer floor = eytzinger.floor(query);
+            if (floor != null) { sum += floor; }
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public long bstFloor() {
+        long sum = 0;
+
+        for (Integer query : queries) {
+            Integer floor = bst.floor(query);
+            if (floor != null) { sum += floor; }
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public long binarySearchFloor() {
+        long sum = 0;
+
+        for (Integer query : queries) {
+            int i = Arrays.binarySearch(sorted, query);
+
+            // search miss: -(insertion point) - 1, the floor is before the insertion point
+            if (i < 0) { i = -i - 2; }
+            if (i >= 0) { sum += sorted[i]; }
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public long eytzingerGet() {
+        long sum = 0;
+
+        for (Integer query : queries) {
+            Integer value = eytzinger.get(query);
+            if (value != null) { sum += value; }
+        }
+
+        return sum;
+    }
+}
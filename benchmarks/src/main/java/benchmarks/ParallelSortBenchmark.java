@@ -0,0 +1,82 @@
+/**
+ * This class consists of the JMH benchmarks of the parallel (fork-join) sorting
+ * algorithms of the sorting package. Each algorithm is run on ForkJoinPools with
+ * a growing number of threads (the "parallelism" parameter) to show how the sort
+ * scales with the number of cores. Parallelism 1 is the sequential baseline.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sorting.Merge;
+import sorting.Quick;
+
+@SuppressWarnings("rawtypes")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class ParallelSortBenchmark {
+
+    @Param({"Merge", "Quick"})
+    public String algorithm;
+
+    @Param({"RANDOM", "NEARLY_SORTED"})
+    public InputDistribution distribution;
+
+    @Param({"1000000", "10000000", "50000000"})
+    public int size;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int parallelism;
+
+    private Comparable[] input;   // pristine input which is never sorted
+    private Comparable[] work;    // copy of the input that is sorted on each invocation
+    private ForkJoinPool pool;    // pool with "parallelism" threads
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = distribution.generate(size);
+        work = new Comparable[input.length];
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Comparable[] parallelSort() {
+        System.arraycopy(input, 0, work, 0, input.length);
+
+        switch (algorithm) {
+            case "Merge": Merge.parallelSort(work, pool); break;
+            case "Quick": Quick.parallelSort(work, pool); break;
+            default: throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+
+        return work;
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * This class consists of the JMH benchmarks of the long[] overloads of the sorting
+ * algorithms, which sort primitives directly with no boxing. Comparing them with
+ * SortBenchmark (which sorts Integer[] arrays) shows the cost of boxing and of
+ * calling compareTo() on every comparison.
+ *
+ * The forked JVMs resolve the jdk.incubator.vector module, so small blocks are sorted by
+ * the vectorized sorting networks; -jvmArgsPrepend -Dsorting.vectorNetworks=false measures
+ * the scalar Insertion sort kernel instead.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sorting.Heap;
+import sorting.Merge;
+import sorting.Quick;
+import sorting.Sort;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+public class PrimitiveSortBenchmark {
+
+    @Param({"Merge", "Quick.introSort", "Heap", "Heap.bottomUpSort", "Heap.bottomUpSort(4)", "Heap.bottomUpSort(8)", "Sort"})
+    public String algorithm;
+
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "FEW_UNIQUE", "ORGAN_PIPE", "NEARLY_SORTED"})
+    public InputDistribution distribution;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private long[] input;                // pristine input which is never sorted
+    private long[] work;                 // copy of the input that is sorted on each invocation
+    private Consumer<long[]> sorter;     // sort() method of the benchmarked algorithm
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Integer[] boxed = distribution.generate(size);
+
+        input = new long[boxed.length];
+        for (int i = 0; i < boxed.length; ++i) {
+            input[i] = boxed[i];
+        }
+        work = new long[input.length];
+
+        switch (algorithm) {
+            case "Merge": sorter = Merge::sort; break;
+            case "Quick.introSort": sorter = Quick::introSort; break;
+            case "Heap": sorter = Heap::sort; break;
+            case "Heap.bottomUpSort": sorter = Heap::bottomUpSort; break;
+            case "Heap.bottomUpSort(4)": sorter = arr -> Heap.bottomUpSort(arr, 4); break;
+            case "Heap.bottomUpSort(8)": sorter = arr -> Heap.bottomUpSort(arr, 8); break;
+            case "Sort": sorter = Sort::sort; break;
+            default: throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
+    @Benchmark
+    public long[] sort() {
+        System.arraycopy(input, 0, work, 0, input.length);
+        sorter.accept(work);
+
+        return work;
+    }
+}
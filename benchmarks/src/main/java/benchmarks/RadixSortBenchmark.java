@@ -0,0 +1,119 @@
+/**
+ * This class consists of the JMH benchmarks of Radix sort against the comparison
+ * sorts Quick.sort() and Merge.sort(). Both int[] keys (LSD Radix sort) and String[]
+ * keys (MSD Radix sort) are benchmarked.
+ *
+ * The int[] keys use the RANDOM and FEW_UNIQUE distributions since the classic
+ * Quick.sort() is O(N^2) (and overflows the stack) on big sorted arrays.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sorting.Merge;
+import sorting.Quick;
+import sorting.Radix;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RadixSortBenchmark {
+
+    private static final int MAX_STRING_LENGTH = 24;   // random strings have 1 to 24 chars
+    private static final String PREFIX = "key-";       // common prefix of every random string
+
+    @Param({"Radix", "Quick", "Merge"})
+    public String algorithm;
+
+    @Param({"RANDOM", "FEW_UNIQUE"})
+    public InputDistribution distribution;
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private int[] intInput;         // pristine int keys
+    private int[] intWork;          // copy of the int keys sorted on each invocation
+    private String[] stringInput;   // pristine String keys
+    private String[] stringWork;    // copy of the String keys sorted on each invocation
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Integer[] boxed = distribution.generate(size);
+
+        intInput = new int[size];
+        stringInput = new String[size];
+        for (int i = 0; i < size; ++i) {
+            intInput[i] = boxed[i];
+            stringInput[i] = randomString(boxed[i]);
+        }
+
+        intWork = new int[size];
+        stringWork = new String[size];
+    }
+
+    /*
+     * Returns a string with the common prefix followed by lower case letters. Equal
+     * keys (e.g., of the FEW_UNIQUE distribution) always generate equal strings.
+     */
+
+    private static String randomString(int key) {
+        Random keyRandom = new Random(key);
+        int length = 1 + keyRandom.nextInt(MAX_STRING_LENGTH);
+        StringBuilder sb = new StringBuilder(PREFIX);
+
+        for (int i = 0; i < length; ++i) {
+            sb.append((char) ('a' + keyRandom.nextInt(26)));
+        }
+
+        return sb.toString();
+    }
+
+    @Benchmark
+    public int[] sortInts() {
+        System.arraycopy(intInput, 0, intWork, 0, size);
+
+        switch (algorithm) {
+            case "Radix": Radix.sort(intWork); break;
+            case "Quick": Quick.sort(intWork); break;
+            case "Merge": Merge.sort(intWork); break;
+            default: throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+
+        return intWork;
+    }
+
+    @Benchmark
+    public String[] sortStrings() {
+        System.arraycopy(stringInput, 0, stringWork, 0, size);
+
+        switch (algorithm) {
+            case "Radix": Radix.sort(stringWork); break;
+            case "Quick": Quick.sort(stringWork); break;
+            case "Merge": Merge.sort(stringWork); break;
+            default: throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+
+        return stringWork;
+    }
+}
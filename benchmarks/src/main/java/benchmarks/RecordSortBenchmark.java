@@ -0,0 +1,113 @@
+/**
+ * This class consists of the JMH benchmarks of RecordSort, which sorts fixed-width
+ * records in place in a direct ByteBuffer, against sorting the same records as byte[]
+ * objects with Arrays.sort() and an unsigned key comparator. The records have 32 bytes
+ * with a 16-byte key at offset 4 whose bytes come from the input distribution.
+ *
+ * @author Igor G. Peternella
+ * @date 10-17-2026
+ */
+
+package benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sorting.RecordSort;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RecordSortBenchmark {
+
+    private static final int RECORD_WIDTH = 32;
+    private static final int KEY_OFFSET = 4;
+    private static final int KEY_LENGTH = 16;
+
+    private static final RecordSort SORT = new RecordSort(RECORD_WIDTH, KEY_OFFSET, KEY_LENGTH);
+
+    @Param({"Quick", "Merge", "Radix", "Arrays.sort"})
+    public String algorithm;
+
+    @Param({"RANDOM", "FEW_UNIQUE", "NEARLY_SORTED"})
+    public InputDistribution distribution;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private ByteBuffer input;   // pristine records
+    private ByteBuffer work;    // copy of the records sorted on each invocation
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Integer[] keys = distribution.generate(size);
+
+        input = ByteBuffer.allocateDirect(size * RECORD_WIDTH);
+        work = ByteBuffer.allocateDirect(size * RECORD_WIDTH);
+
+        // the key is the big-endian int of the distribution (sign bit flipped so the unsigned
+        // order is the int order) followed by 12 bytes derived from it; the payload is the index
+        for (int i = 0; i < size; ++i) {
+            int record = i * RECORD_WIDTH;
+            int key = keys[i] ^ Integer.MIN_VALUE;
+
+            input.putInt(record, i);
+            input.putInt(record + KEY_OFFSET, key);
+            input.putLong(record + KEY_OFFSET + 4, (long) key * 0x9e3779b97f4a7c15L);
+            input.putInt(record + KEY_OFFSET + 12, key * 31);
+        }
+    }
+
+    @Benchmark
+    public ByteBuffer sortRecords() {
+        work.clear();
+        work.put(0, input, 0, size * RECORD_WIDTH);
+
+        switch (algorithm) {
+            case "Quick": SORT.quickSort(work); break;
+            case "Merge": SORT.mergeSort(work); break;
+            case "Radix": SORT.radixSort(work); break;
+            case "Arrays.sort": sortObjects(work); break;
+            default: throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+
+        return work;
+    }
+
+    /*
+     * The baseline: every record is copied to a byte[] object, the objects are sorted and
+     * copied back to the buffer.
+     */
+
+    private static void sortObjects(ByteBuffer buf) {
+        byte[][] records = new byte[buf.remaining() / RECORD_WIDTH][RECORD_WIDTH];
+
+        for (int i = 0; i < records.length; ++i) {
+            buf.get(i * RECORD_WIDTH, records[i]);
+        }
+
+        Arrays.sort(records, (x, y) -> Arrays.compareUnsigned(x, KEY_OFFSET, KEY_OFFSET + KEY_LENGTH,
+                                                              y, KEY_OFFSET, KEY_OFFSET + KEY_LENGTH));
+
+        for (int i = 0; i < records.length; ++i) {
+            buf.put(i * RECORD_WIDTH, records[i]);
+        }
+    }
+}
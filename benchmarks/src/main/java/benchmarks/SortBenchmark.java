@@ -0,0 +1,58 @@
+/**
+ * This class consists of the JMH benchmarks of the O(N*log(N)) sorting algorithms of
+ * the sorting package (Merge, NaturalMerge, Quick's introSort() and dualPivotSort() modes,
+ * and Heap with its bottom-up binary, 4-ary and 8-ary modes) and of the adaptive Sort.sort()
+ * dispatcher for array sizes from 10 to 10^7 elements and for every InputDistribution.
+ *
+ * The classic Quick.sort() has no shuffle, so it is O(N^2) on the SORTED, REVERSE_SORTED
+ * and ORGAN_PIPE inputs: it is benchmarked with the quadratic sorts in ElementarySortBenchmark.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package benchmarks;
+
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Param;
+
+import sorting.Heap;
+import sorting.Merge;
+import sorting.NaturalMerge;
+import sorting.Quick;
+import sorting.Sort;
+
+@SuppressWarnings("rawtypes")
+public class SortBenchmark extends AbstractSortBenchmark {
+
+    @Param({"Merge", "NaturalMerge", "Quick.introSort", "Quick.dualPivotSort", "Heap",
+            "Heap.bottomUpSort", "Heap.bottomUpSort(4)", "Heap.bottomUpSort(8)", "Sort"})
+    public String algorithm;
+
+    @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    protected Consumer<Comparable[]> sorter(String algorithm) {
+        switch (algorithm) {
+            case "Merge": return Merge::sort;
+            case "NaturalMerge": return NaturalMerge::sort;
+            case "Quick.introSort": return Quick::introSort;
+            case "Quick.dualPivotSort": return Quick::dualPivotSort;
+            case "Heap": return Heap::sort;
+            case "Heap.bottomUpSort": return Heap::bottomUpSort;
+            case "Heap.bottomUpSort(4)": return arr -> Heap.bottomUpSort(arr, 4);
+            case "Heap.bottomUpSort(8)": return arr -> Heap.bottomUpSort(arr, 8);
+            case "Sort": return Sort::sort;
+            default: throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
+    protected String algorithm() {
+        return algorithm;
+    }
+
+    protected int size() {
+        return size;
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * This class consists of the JMH benchmarks of the selection and top-k methods against
+ * a full sort of the array: Quick.select() (median), Quick.partialSort() and Heap.topK()
+ * (the k smallest/biggest items) and Quick.introSort() followed by a read of the wanted
+ * elements, which is what selection replaces.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dynamicarray.DynamicArray;
+import sorting.Heap;
+import sorting.Quick;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TopKBenchmark {
+
+    @Param({"RANDOM", "FEW_UNIQUE", "NEARLY_SORTED"})
+    public InputDistribution distribution;
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"100"})
+    public int k;
+
+    private Integer[] input;   // pristine keys which are never rearranged
+    private Integer[] work;    // copy of the keys rearranged on each invocation
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = distribution.generate(size);
+        work = new Integer[size];
+    }
+
+    @Benchmark
+    public Comparable medianBySort() {
+        System.arraycopy(input, 0, work, 0, size);
+        Quick.introSort(work);
+
+        return work[size/2];
+    }
+
+    @Benchmark
+    public Comparable medianBySelect() {
+        System.arraycopy(input, 0, work, 0, size);
+
+        return Quick.select(work, size/2);
+    }
+
+    @Benchmark
+    public Integer[] smallestKBySort() {
+        System.arraycopy(input, 0, work, 0, size);
+        Quick.introSort(work);
+
+        return Arrays.copyOf(work, k);
+    }
+
+    @Benchmark
+    public Integer[] smallestKByPartialSort() {
+        System.arraycopy(input, 0, work, 0, size);
+        Quick.partialSort(work, k);
+
+        return Arrays.copyOf(work, k);
+    }
+
+    @Benchmark
+    public DynamicArray<Integer> biggestKByTopK() {
+        // streams over the pristine keys: no copy and no rearrangement is needed
+        return Heap.topK(Arrays.asList(input), k);
+    }
+}
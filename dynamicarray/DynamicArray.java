@@ -5,6 +5,19 @@
  * a bigger or smaller one as necessary during run-time. 
  * This class implements the Iterable interface.
  *
+ * The capacity of the main array can be managed by the client: an initial capacity avoids
+ * the resizes of a known number of items (ensureCapacity() and trimToSize() do the same
+ * later), a GrowthPolicy chooses how much the array grows when it is full and the shrink
+ * divisor chooses when it is halved: when size < capacity/shrinkDivisor (4 by default,
+ * i.e., at 25% occupancy). The array never shrinks below its initial capacity and the gap
+ * between full (grow) and 1/shrinkDivisor (shrink) occupancy is the hysteresis that keeps
+ * appends and pops around a boundary from resizing the array every time. Resizes and
+ * shifts are done with System.arraycopy().
+ *
+ * The bulk operations (appendAll(), insertAll(), removeRange(), removeIf() and popLast())
+ * add or remove many items with a single shift of the following items and at most one
+ * resize per call instead of one shift (and maybe one resize) per item.
+ *
  * Based on Algorithms (4th ed.) by Robert Sedgewick and Kevin Wayne.
  *
  * @author Igor G. Peternella
@@ -13,23 +26,87 @@
 
 package dynamicarray;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.function.Predicate;
 
 public class DynamicArray<T> implements Iterable<T>{
 
-    private int INITIAL_SIZE = 1; // initial size of the main array
-    private T[] arr;              // the main array of this data structure
-    private int size;             // the size of the collection
+    private static final int INITIAL_SIZE = 1;          // default initial size of the main array
+    private static final int DEFAULT_SHRINK_DIVISOR = 4; // halves the main array at 25% occupancy
+
+    private T[] arr;                                    // the main array of this data structure
+    private int size;                                   // the size of the collection
+    private final int initialCapacity;                  // the main array never shrinks below it
+    private final GrowthPolicy growthPolicy;            // new capacity of a full main array
+    private final int shrinkDivisor;                    // halves when size < capacity/shrinkDivisor (0: never)
 
     /**
      * Default constructor. Intializes an empty DynamicArray object with empty size and the
      * main array of this data structure as a new Object[] type which is cast into T[] type. 
      */
     
-    @SuppressWarnings("unchecked")
     public DynamicArray() {
-        size = 0;
-        arr = (T[]) new Object[INITIAL_SIZE];
+        this(INITIAL_SIZE);
+    }
+
+    /**
+     * Intializes an empty DynamicArray whose main array has the given capacity, so that
+     * many items are appended without resizes. The array doubles when it is full.
+     *
+     * @param initialCapacity is the initial capacity of the main array.
+     * @throws java.lang.IllegalArgumentException if initialCapacity is negative.
+     */
+
+    public DynamicArray(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Intializes an empty DynamicArray with an initial capacity and a growth policy.
+     *
+     * @param initialCapacity is the initial capacity of the main array.
+     * @param growthPolicy chooses the new capacity of the main array when it is full.
+     * @throws java.lang.IllegalArgumentException if initialCapacity is negative.
+     */
+
+    public DynamicArray(int initialCapacity, GrowthPolicy growthPolicy) {
+        this(initialCapacity, growthPolicy, DEFAULT_SHRINK_DIVISOR);
+    }
+
+    /**
+     * Intializes an empty DynamicArray with an initial capacity, a growth policy and a
+     * shrink divisor: the main array is halved when size < capacity/shrinkDivisor. Bigger
+     * divisors keep more unused slots but resize less often on pops.
+     *
+     * @param initialCapacity is the initial capacity of the main array.
+     * @param growthPolicy chooses the new capacity of the main array when it is full.
+     * @param shrinkDivisor is at least 3 (a halved array must not be full) or 0 to never shrink.
+     * @throws java.lang.IllegalArgumentException if initialCapacity is negative or too big,
+     *         growthPolicy is null or shrinkDivisor is 1 or 2 or negative.
+     */
+
+    @SuppressWarnings("unchecked")
+    public DynamicArray(int initialCapacity, GrowthPolicy growthPolicy, int shrinkDivisor) {
+        if (initialCapacity < 0 || initialCapacity > GrowthPolicy.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid initial capacity: " + initialCapacity);
+        }
+
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("null growth policy");
+        }
+
+        if (shrinkDivisor != 0 && shrinkDivisor < 3) {
+            throw new IllegalArgumentException("Shrink divisor must be 0 or at least 3: " + shrinkDivisor);
+        }
+
+        this.size = 0;
+        this.arr = (T[]) new Object[initialCapacity];
+        this.initialCapacity = initialCapacity;
+        this.growthPolicy = growthPolicy;
+        this.shrinkDivisor = shrinkDivisor;
     }
 
     /**
@@ -52,6 +129,42 @@ public class DynamicArray<T> implements Iterable<T>{
         return size;
     }
 
+    /**
+     * Returns the capacity (length of the main array) of the DynamicArray: the number of
+     * items it holds without a resize.
+     *
+     * @returns the capacity of the DynamicArray.
+     */
+
+    public int capacity() {
+        return arr.length;
+    }
+
+    /**
+     * Grows the main array, if necessary, so that it holds at least minCapacity items
+     * without further resizes.
+     * Complexity: O(N) when the array is resized.
+     *
+     * @param minCapacity is the desired minimum capacity.
+     */
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > arr.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the main array to the size of the DynamicArray, releasing its unused slots.
+     * Complexity: O(N).
+     */
+
+    public void trimToSize() {
+        if (size < arr.length) {
+            resize(size);
+        }
+    }
+
     /**
      * Appends an item to the end of the DynamicArray.
      * Complexity: O(1) amortized.
@@ -60,13 +173,13 @@ public class DynamicArray<T> implements Iterable<T>{
      */
 
     public void append(T item) {
-        arr[size] = item;
-        ++size;
-
         // resizes to a new array if necessary
         if (size == arr.length) {
-            resize(2 * size);
+            grow(size + 1);
         }
+
+        arr[size] = item;
+        ++size;
     }
 
     /**
@@ -85,19 +198,17 @@ public class DynamicArray<T> implements Iterable<T>{
             throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
         }   
 
-        // shifts elements to the right after the insertion
-        for (int i = size - 1; i >= ix; --i) {
-            arr[i + 1] = arr[i];
+        // resizes to a new array if necessary
+        if (size == arr.length) {
+            grow(size + 1);
         }
 
+        // shifts elements to the right after the insertion
+        System.arraycopy(arr, ix, arr, ix + 1, size - ix);
+
         // inserts item @ ix position
         arr[ix] = item;
         ++size;
-
-        // resizes to a new array if necessary
-        if (size == arr.length) {
-            resize(2 * size);
-        }
     }
     
     /**
@@ -134,10 +245,8 @@ public class DynamicArray<T> implements Iterable<T>{
         arr[size - 1] = null; // avoids loitering is removed
         --size;
 
-        // reduces arr length by half if0 25% occupation is reached
-        if (size < (float) arr.length/4) {
-            resize(arr.length/2);
-        }
+        // reduces arr length by half if 1/shrinkDivisor occupation is reached
+        shrink();
     
         return item;
     }
@@ -164,35 +273,243 @@ public class DynamicArray<T> implements Iterable<T>{
         T item = arr[ix];
 
         // shifts elements to the left
-        for (int i = ix; i < size - 1; ++i) {
-            arr[i] = arr[i + 1];        
-        }
+        System.arraycopy(arr, ix + 1, arr, ix, size - ix - 1);
     
         arr[size - 1] = null; // after shifting to left last element is set to null (empty space)
         --size;
 
-        // reduces arr length by half if 25% occupation is reached
-        if (size < (float) arr.length/4) {
-            resize(arr.length/2);
-        }
+        // reduces arr length by half if 1/shrinkDivisor occupation is reached
+        shrink();
     
         return item;
     }
 
+    /**
+     * Appends every item of an array to the end of the DynamicArray.
+     * Complexity: O(K) for K items (plus a resize if the array is full).
+     *
+     * @param items are the items to be appended.
+     */
+
+    public void appendAll(T[] items) {
+        insert(size, items, items.length);
+    }
+
+    /**
+     * Appends every item of an Iterable to the end of the DynamicArray. Items of unknown
+     * number (the Iterable is not a Collection nor a DynamicArray) are buffered first.
+     * Complexity: O(K) for K items (plus a resize if the array is full).
+     *
+     * @param items are the items to be appended.
+     */
+
+    public void appendAll(Iterable<? extends T> items) {
+        Object[] array = toArray(items);
+
+        insert(size, array, array.length);
+    }
+
+    /**
+     * Inserts every item of an array at a given index of the DynamicArray: the first item
+     * goes to index ix and the items from ix on are shifted once to the right.
+     * Complexity: O(N + K) for K items.
+     *
+     * @param ix is a valid index or the size of the DynamicArray (appends the items).
+     * @param items are the items to be inserted.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public void insertAll(int ix, T[] items) {
+        if (ix < 0 || ix > size) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+
+        insert(ix, items, items.length);
+    }
+
+    /**
+     * Inserts every item of an Iterable at a given index of the DynamicArray (see the
+     * array version).
+     * Complexity: O(N + K) for K items.
+     *
+     * @param ix is a valid index or the size of the DynamicArray (appends the items).
+     * @param items are the items to be inserted.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public void insertAll(int ix, Iterable<? extends T> items) {
+        if (ix < 0 || ix > size) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+
+        Object[] array = toArray(items);
+
+        insert(ix, array, array.length);
+    }
+
+    /**
+     * Removes the items at the indexes fromIndex (inclusive) to toIndex (exclusive) of the
+     * DynamicArray: the items from toIndex on are shifted once to the left.
+     * Complexity: O(N).
+     *
+     * @param fromIndex is the index of the first item to be removed.
+     * @param toIndex is the index after the last item to be removed.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0, toIndex > size or
+     *         fromIndex > toIndex.
+     */
+
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid range: [" + fromIndex + ", " + toIndex + ").");
+        }
+
+        System.arraycopy(arr, toIndex, arr, fromIndex, size - toIndex);
+        clear(size - (toIndex - fromIndex));
+
+        shrink();
+    }
+
+    /**
+     * Removes every item of the DynamicArray that satisfies a predicate. The kept items
+     * are compacted with a single pass and keep their relative order.
+     * Complexity: O(N).
+     *
+     * @param filter is the predicate that returns true for the items to be removed.
+     * @return true if any item was removed and false otherwise.
+     */
+
+    public boolean removeIf(Predicate<? super T> filter) {
+        int oldSize = size;
+        int kept = 0;
+        int i = 0;
+
+        try {
+            for (; i < size; ++i) {
+                if (!filter.test(arr[i])) {
+                    arr[kept++] = arr[i];
+                }
+            }
+        } finally {
+            // an exception of the filter keeps the items which were not tested yet
+            System.arraycopy(arr, i, arr, kept, size - i);
+            clear(kept + size - i);
+            shrink();
+        }
+
+        return size < oldSize;
+    }
+
+    /**
+     * Removes and returns the last n items of the DynamicArray in their order.
+     * Complexity: O(n).
+     *
+     * @param n is the number of items to be removed.
+     * @returns a DynamicArray with the last n items.
+     * @throws java.lang.IllegalArgumentException if n is negative.
+     * @throws java.util.NoSuchElementException if the DynamicArray has less than n items.
+     */
+
+    public DynamicArray<T> popLast(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+
+        if (n > size) {
+            throw new java.util.NoSuchElementException("Dynamic Array has less than " + n + " items.");
+        }
+
+        DynamicArray<T> items = new DynamicArray<T>(n);
+
+        System.arraycopy(arr, size - n, items.arr, 0, n);
+        items.size = n;
+
+        clear(size - n);
+        shrink();
+
+        return items;
+    }
+
+    // insert helper method that inserts count items at index ix with a single shift of the
+    // items from ix on and at most one resize.
+
+    private void insert(int ix, Object[] items, int count) {
+        if (count == 0) { return; }
+
+        if (size + count > arr.length) {
+            grow(size + count);
+        }
+
+        System.arraycopy(arr, ix, arr, ix + count, size - ix);
+        System.arraycopy(items, 0, arr, ix, count);
+        size += count;
+    }
+
+    // clear helper method that sets the size to newSize and nulls the slots after it to
+    // avoid loitering.
+
+    private void clear(int newSize) {
+        Arrays.fill(arr, newSize, size, null);
+        size = newSize;
+    }
+
+    // toArray helper method that returns the items of an Iterable as an array: Collections
+    // and DynamicArrays know their size, other Iterables are buffered in a DynamicArray.
+
+    private static Object[] toArray(Iterable<?> items) {
+        if (items instanceof Collection) {
+            return ((Collection<?>) items).toArray();
+        }
+
+        DynamicArray<?> buffer;
+
+        if (items instanceof DynamicArray) {
+            buffer = (DynamicArray<?>) items;
+        } else {
+            DynamicArray<Object> all = new DynamicArray<Object>();
+
+            for (Object item : items) {
+                all.append(item);
+            }
+            buffer = all;
+        }
+
+        return Arrays.copyOf(buffer.arr, buffer.size, Object[].class);
+    }
+
+    // grow helper method that resizes the main array to the capacity chosen by the growth
+    // policy, which is at least minCapacity (a negative minCapacity has overflowed).
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array size too large.");
+        }
+
+        resize(Math.max(growthPolicy.grow(arr.length, minCapacity), minCapacity));
+    }
+
+    // shrink helper method that halves the main array when less than 1/shrinkDivisor of it
+    // is used, but not below the initial capacity. The array is halved as many times as
+    // needed (e.g., after a bulk removal) but resized only once.
+
+    private void shrink() {
+        if (shrinkDivisor == 0) { return; }
+
+        int newCapacity = arr.length;
+
+        while (size < (float) newCapacity/shrinkDivisor && newCapacity/2 >= initialCapacity) {
+            newCapacity /= 2;
+        }
+
+        if (newCapacity < arr.length) {
+            resize(newCapacity);
+        }
+    }
+
     // resize helper method that copies every element of the current array into a new array
     // with a bigger of small capacity given by the argument newCapacity.
     
-    @SuppressWarnings("unchecked")
     private void resize(int newCapacity) {
-        T[] newArr = (T[]) new Object[newCapacity];
-
-        // copy arr array into newArr array
-        for (int i = 0; i < size; ++i) {
-            newArr[i] = arr[i];
-        }
-
-        // change reference
-        arr = newArr;
+        arr = Arrays.copyOf(arr, newCapacity);
     }
 
     /**
@@ -217,6 +534,20 @@ public class DynamicArray<T> implements Iterable<T>{
         arr[ix] = item;
     }
 
+    /**
+     * Sorts the items of the DynamicArray in place using the order defined by a Comparator.
+     * The items are sorted directly on the main array instead of on a copy of it with
+     * the stable merge sort of java.util.Arrays (TimSort), so equal items keep their
+     * relative order.
+     * Complexity: O(N*log(N)) compares and an auxiliar array of N/2 items.
+     *
+     * @param comparator defines the order of the items.
+     */
+
+    public void sort(Comparator<? super T> comparator) {
+        Arrays.sort(arr, 0, size, comparator);
+    }
+
     // helper method that returns true if an index is invalid.
     private boolean isValidIndex(int ix) {
         if (ix < 0 || ix >= size) {
@@ -273,5 +604,23 @@ public class DynamicArray<T> implements Iterable<T>{
         for (int i : a) {
             System.out.println(i);
         }
+
+        a.sort(Comparator.reverseOrder());
+
+        for (int i : a) {
+            System.out.println(i);
+        }
+
+        // bulk operations
+        a.insertAll(2, new Integer[] {100, 200, 300});
+        a.removeRange(0, 2);
+        a.removeIf(i -> i % 2 == 0);
+        a.appendAll(Arrays.asList(-1, -2));
+
+        System.out.println(a.popLast(2).size() + " popped, " + a.size() + " left");
+
+        for (int i : a) {
+            System.out.println(i);
+        }
     }
 }    
@@ -0,0 +1,357 @@
+/**
+ * This class consists of an implementation of a dynamic array as a gap buffer: the free
+ * slots of the main array are kept as a gap at the last edited position instead of at the
+ * end of the array such as in DynamicArray:
+ *
+ *      main array:  [ a b c d | . . . . . | e f g ]        (the items are a b c d e f g)
+ *                             ^gapStart   ^gapEnd
+ *
+ * An insertion or removal moves the gap to its index first (only the items between the
+ * old and the new gap positions are copied) and then fills or widens the gap in O(1).
+ * Hence, edits near a moving cursor cost O(distance moved) instead of the O(N) shifts
+ * of DynamicArray.append(item, ix) and pop(ix), while edits at random positions still
+ * cost O(N). getAt() is O(1): indexes after the gap skip it.
+ *
+ * The main array doubles when the gap is empty and is halved at 25% occupancy, like
+ * DynamicArray.
+ *
+ * @author Igor G. Peternella
+ * @date 10-17-2026
+ */
+
+package dynamicarray;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class GapBufferDynamicArray<T> implements Iterable<T> {
+
+    private static final int INITIAL_SIZE = 1;   // initial size of the main array
+
+    private Object[] arr;    // the main array: items before gapStart and from gapEnd on
+    private int gapStart;    // first free slot (the index of the item after the gap)
+    private int gapEnd;      // first slot after the gap
+
+    /**
+     * Default constructor. Intializes an empty GapBufferDynamicArray.
+     */
+
+    public GapBufferDynamicArray() {
+        this(INITIAL_SIZE);
+    }
+
+    /**
+     * Intializes an empty GapBufferDynamicArray whose main array has the given capacity.
+     *
+     * @param initialCapacity is the initial capacity of the main array.
+     * @throws java.lang.IllegalArgumentException if initialCapacity is negative.
+     */
+
+    public GapBufferDynamicArray(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Invalid initial capacity: " + initialCapacity);
+        }
+
+        arr = new Object[initialCapacity];
+        gapStart = 0;
+        gapEnd = initialCapacity;
+    }
+
+    /**
+     * Returns true if the GapBufferDynamicArray is empty (size is zero).
+     *
+     * @return true if the structure is empty and false otherwise.
+     */
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of items of the GapBufferDynamicArray.
+     *
+     * @returns the size of the GapBufferDynamicArray.
+     */
+
+    public int size() {
+        return arr.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Returns the capacity (length of the main array) of the GapBufferDynamicArray.
+     *
+     * @returns the capacity of the GapBufferDynamicArray.
+     */
+
+    public int capacity() {
+        return arr.length;
+    }
+
+    /**
+     * Appends an item to the end of the GapBufferDynamicArray.
+     * Complexity: O(1) amortized if the gap is at the end (e.g., after other appends).
+     *
+     * @param item is the item to be appended.
+     */
+
+    public void append(T item) {
+        insert(size(), item);
+    }
+
+    /**
+     * Overloaded method that appends an item to a valid index of the
+     * GapBufferDynamicArray: the gap is moved to the index and the item fills its first slot.
+     * Complexity: O(distance from the last edit).
+     *
+     * @param item is the item to be added.
+     * @param is a valid index to insert the item.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public void append(T item, int ix) {
+        if (!isValidIndex(ix)) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+
+        insert(ix, item);
+    }
+
+    /**
+     * Gets the item at a given index of the GapBufferDynamicArray.
+     * Complexity: O(1).
+     *
+     * @param is a valid index.
+     * @returns item at the given index.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    @SuppressWarnings("unchecked")
+    public T getAt(int ix) {
+        if (isValidIndex(ix)) {
+            return (T) arr[physical(ix)];
+        } else {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+    }
+
+    /**
+     * Removes and returns the item at the end of the GapBufferDynamicArray.
+     * Complexity: O(1) amortized if the gap is at the end.
+     *
+     * @returns item at the end of the GapBufferDynamicArray.
+     * @throws java.util.NoSuchElementException if this method is invoked on a empty GapBufferDynamicArray.
+     */
+
+    public T pop() {
+        if (isEmpty()) {
+            throw new java.util.NoSuchElementException("Empty Dynamic Array.");
+        }
+
+        return remove(size() - 1);
+    }
+
+    /**
+     * Removes and returns the item at a given index of the GapBufferDynamicArray: the gap
+     * is moved next to the item and widened over it.
+     * Complexity: O(distance from the last edit).
+     *
+     * @param ix is a valid index.
+     * @returns item at the index position of the GapBufferDynamicArray.
+     * @throws java.util.NoSuchElementException if this method is invoked on a empty GapBufferDynamicArray.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public T pop(int ix) {
+        if (isEmpty()) {
+            throw new java.util.NoSuchElementException("Empty Dynamic Array.");
+        }
+
+        if (!isValidIndex(ix)) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+
+        return remove(ix);
+    }
+
+    /**
+     * Replaces an item at the given index position.
+     * Complexity: O(1).
+     *
+     * @param ix is a valid index.
+     * @param item is the item to replace the previous value located at the given index.
+     * @throws java.util.NoSuchElementException if this method is invoked on a empty GapBufferDynamicArray.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public void replaceAt(int ix, T item) {
+        if (isEmpty()) {
+            throw new java.util.NoSuchElementException("Empty Dynamic Array.");
+        }
+
+        if (!isValidIndex(ix)) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+
+        arr[physical(ix)] = item;
+    }
+
+    /**
+     * Sorts the items of the GapBufferDynamicArray in place using the order defined by a
+     * Comparator with the stable merge sort of java.util.Arrays (TimSort). The gap is moved
+     * to the end first.
+     * Complexity: O(N*log(N)) compares and an auxiliar array of N/2 items.
+     *
+     * @param comparator defines the order of the items.
+     */
+
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        int size = size();
+
+        moveGap(size);
+        Arrays.sort((T[]) arr, 0, size, comparator);
+    }
+
+    // insert helper method that moves the gap to ix and fills its first slot with the item.
+
+    private void insert(int ix, T item) {
+        // doubles the main array if the gap is empty
+        if (gapStart == gapEnd) {
+            resize(Math.max(2 * arr.length, 1));
+        }
+
+        moveGap(ix);
+        arr[gapStart++] = item;
+    }
+
+    // remove helper method that widens the gap over the item at ix. The gap is moved to
+    // the closest side of the item: the item before the gap or the item after it.
+
+    @SuppressWarnings("unchecked")
+    private T remove(int ix) {
+        T item;
+
+        if (ix < gapStart) {
+            moveGap(ix + 1);
+            item = (T) arr[--gapStart];
+            arr[gapStart] = null; // avoids loitering
+        } else {
+            moveGap(ix);
+            item = (T) arr[gapEnd];
+            arr[gapEnd++] = null; // avoids loitering
+        }
+
+        // reduces arr length by half if 25% occupation is reached
+        if (size() < (float) arr.length/4) {
+            resize(arr.length/2);
+        }
+
+        return item;
+    }
+
+    // moveGap helper method that moves the gap so that it starts at index ix: the items
+    // between the old and the new gap positions are copied to the other side of the gap.
+
+    private void moveGap(int ix) {
+        int gap = gapEnd - gapStart;
+
+        if (ix < gapStart) {
+            // items ix .. gapStart - 1 move to the end of the gap
+            int count = gapStart - ix;
+
+            System.arraycopy(arr, ix, arr, gapEnd - count, count);
+
+            // the slots that were not overwritten are in the new gap
+            Arrays.fill(arr, ix, Math.min(gapStart, ix + gap), null);
+        } else if (ix > gapStart) {
+            // items after the gap up to index ix - 1 move to the start of the gap
+            int count = ix - gapStart;
+
+            System.arraycopy(arr, gapEnd, arr, gapStart, count);
+            Arrays.fill(arr, Math.max(gapEnd, ix), gapEnd + count, null);
+        }
+
+        gapStart = ix;
+        gapEnd = ix + gap;
+    }
+
+    // resize helper method that copies the items into a new main array with the given
+    // capacity: the items after the gap are copied to the end of the new array.
+
+    private void resize(int newCapacity) {
+        Object[] newArr = new Object[newCapacity];
+        int after = arr.length - gapEnd;
+
+        System.arraycopy(arr, 0, newArr, 0, gapStart);
+        System.arraycopy(arr, gapEnd, newArr, newCapacity - after, after);
+
+        arr = newArr;
+        gapEnd = newCapacity - after;
+    }
+
+    // physical helper method that returns the slot of the main array of an index.
+    private int physical(int ix) {
+        return ix < gapStart ? ix : ix + (gapEnd - gapStart);
+    }
+
+    // helper method that returns true if an index is valid.
+    private boolean isValidIndex(int ix) {
+        return ix >= 0 && ix < size();
+    }
+
+    // Iterable interface implementation for the GapBufferDynamicArray data structure.
+    public Iterator<T> iterator() {
+        return new GapBufferIterator();
+    }
+
+    // Nested private class to create Iterator Objects for the GapBufferDynamicArray: it
+    // walks the items before the gap and then the items after it.
+    private class GapBufferIterator implements Iterator<T> {
+        int iteratorIx, collectionSize;
+
+        public GapBufferIterator() {
+            iteratorIx = 0;
+            collectionSize = size();
+        }
+
+        public boolean hasNext() {
+            return iteratorIx < collectionSize;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more items.");
+            }
+
+            return (T) arr[physical(iteratorIx++)];
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException("Unsafe operation not implemented.");
+        }
+    }
+
+    // unit testing
+    public static void main(String[] args) {
+        GapBufferDynamicArray<Character> text = new GapBufferDynamicArray<Character>();
+
+        for (char c : "hello world".toCharArray()) {
+            text.append(c);
+        }
+
+        // edits around a cursor at index 5
+        text.append(',', 5);
+        text.pop(0);
+        text.append('H', 0);
+
+        StringBuilder sb = new StringBuilder();
+        for (char c : text) {
+            sb.append(c);
+        }
+
+        System.out.println(sb + " (size: " + text.size() + ", capacity: " + text.capacity() + ")");
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * This interface consists of the growth policy of a DynamicArray: the new capacity of the
+ * main array when it has no room for more items. The policies trade memory for resizes:
+ *
+ *      1. DOUBLING: doubles the capacity. ~log2(N) resizes to append N items and up to
+ *         half of the array unused;
+ *      2. ONE_AND_A_HALF: grows the capacity by half. ~log1.5(N) resizes (about 70% more
+ *         than DOUBLING) and up to a third of the array unused;
+ *      3. capped(maxIncrement): doubles the capacity until the increment would exceed
+ *         maxIncrement and then grows by maxIncrement, so big arrays waste at most
+ *         maxIncrement slots (at the cost of O(N/maxIncrement) resizes).
+ *
+ * A policy may return any capacity: the DynamicArray always grows to at least the
+ * required capacity.
+ *
+ * @author Igor G. Peternella
+ * @date 10-17-2026
+ */
+
+package dynamicarray;
+
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    // biggest array length that the JVMs allocate
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    GrowthPolicy DOUBLING = (capacity, minCapacity) -> saturate(2L * capacity);
+
+    GrowthPolicy ONE_AND_A_HALF = (capacity, minCapacity) -> saturate(capacity + (capacity >> 1));
+
+    /**
+     * Returns the new capacity of an array that has capacity slots and needs at least
+     * minCapacity slots.
+     *
+     * @param capacity is the current capacity of the array.
+     * @param minCapacity is the required capacity (bigger than capacity).
+     * @return the new capacity of the array.
+     */
+
+    int grow(int capacity, int minCapacity);
+
+    /**
+     * Returns a policy that doubles the capacity until the increment would exceed
+     * maxIncrement and then grows by maxIncrement slots.
+     *
+     * @param maxIncrement is the maximum number of slots added by a resize.
+     * @return the capped growth policy.
+     * @throws java.lang.IllegalArgumentException if maxIncrement is not positive.
+     */
+
+    static GrowthPolicy capped(int maxIncrement) {
+        if (maxIncrement <= 0) {
+            throw new IllegalArgumentException("maxIncrement must be positive: " + maxIncrement);
+        }
+
+        return (capacity, minCapacity) -> saturate((long) capacity + Math.min(capacity, maxIncrement));
+    }
+
+    // bounds a capacity computed with longs by the biggest array length
+    private static int saturate(long capacity) {
+        return (int) Math.min(capacity, MAX_CAPACITY);
+    }
+}
@@ -0,0 +1,420 @@
+/**
+ * This class consists of an implementation of the dynamic array data structure for
+ * long items: the items are stored in a long[] main array instead of the Object[] of
+ * DynamicArray<Long>, so they are not boxed (the boxed items and their references take 2 to 5
+ * times more memory) and iterating over them reads the main array sequentially.
+ *
+ * It has the append(), getAt(), pop(), replaceAt() contract of DynamicArray along with its
+ * capacity management (initial capacity, GrowthPolicy and shrink divisor). Items are
+ * iterated without boxing with forEach(LongConsumer) or the nextLong() method of
+ * the PrimitiveIterator returned by iterator().
+ *
+ * @author Igor G. Peternella
+ * @date 10-17-2026
+ */
+
+package dynamicarray;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+public class LongDynamicArray {
+
+    private static final int INITIAL_SIZE = 1;          // default initial size of the main array
+    private static final int DEFAULT_SHRINK_DIVISOR = 4; // halves the main array at 25% occupancy
+
+    private long[] arr;                                 // the main array of this data structure
+    private int size;                                   // the size of the collection
+    private final int initialCapacity;                  // the main array never shrinks below it
+    private final GrowthPolicy growthPolicy;            // new capacity of a full main array
+    private final int shrinkDivisor;                    // halves when size < capacity/shrinkDivisor (0: never)
+
+    /**
+     * Default constructor. Intializes an empty LongDynamicArray.
+     */
+
+    public LongDynamicArray() {
+        this(INITIAL_SIZE);
+    }
+
+    /**
+     * Intializes an empty LongDynamicArray whose main array has the given capacity.
+     * The array doubles when it is full.
+     *
+     * @param initialCapacity is the initial capacity of the main array.
+     * @throws java.lang.IllegalArgumentException if initialCapacity is negative.
+     */
+
+    public LongDynamicArray(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DOUBLING, DEFAULT_SHRINK_DIVISOR);
+    }
+
+    /**
+     * Intializes an empty LongDynamicArray with an initial capacity, a growth policy and a
+     * shrink divisor (see DynamicArray).
+     *
+     * @param initialCapacity is the initial capacity of the main array.
+     * @param growthPolicy chooses the new capacity of the main array when it is full.
+     * @param shrinkDivisor is at least 3 (a halved array must not be full) or 0 to never shrink.
+     * @throws java.lang.IllegalArgumentException if initialCapacity is negative or too big,
+     *         growthPolicy is null or shrinkDivisor is 1 or 2 or negative.
+     */
+
+    public LongDynamicArray(int initialCapacity, GrowthPolicy growthPolicy, int shrinkDivisor) {
+        if (initialCapacity < 0 || initialCapacity > GrowthPolicy.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid initial capacity: " + initialCapacity);
+        }
+
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("null growth policy");
+        }
+
+        if (shrinkDivisor != 0 && shrinkDivisor < 3) {
+            throw new IllegalArgumentException("Shrink divisor must be 0 or at least 3: " + shrinkDivisor);
+        }
+
+        this.size = 0;
+        this.arr = new long[initialCapacity];
+        this.initialCapacity = initialCapacity;
+        this.growthPolicy = growthPolicy;
+        this.shrinkDivisor = shrinkDivisor;
+    }
+
+    /**
+     * Returns true if the LongDynamicArray is empty (size is zero).
+     *
+     * @return true if the structure is empty and false otherwise.
+     */
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of items of the LongDynamicArray.
+     *
+     * @returns the size of the LongDynamicArray.
+     */
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the capacity (length of the main array) of the LongDynamicArray.
+     *
+     * @returns the capacity of the LongDynamicArray.
+     */
+
+    public int capacity() {
+        return arr.length;
+    }
+
+    /**
+     * Grows the main array, if necessary, so that it holds at least minCapacity items
+     * without further resizes.
+     * Complexity: O(N) when the array is resized.
+     *
+     * @param minCapacity is the desired minimum capacity.
+     */
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > arr.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the main array to the size of the LongDynamicArray.
+     * Complexity: O(N).
+     */
+
+    public void trimToSize() {
+        if (size < arr.length) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Appends an item to the end of the LongDynamicArray.
+     * Complexity: O(1) amortized.
+     *
+     * @param item is the item to be appended.
+     */
+
+    public void append(long item) {
+        // resizes to a new array if necessary
+        if (size == arr.length) {
+            grow(size + 1);
+        }
+
+        arr[size] = item;
+        ++size;
+    }
+
+    /**
+     * Overloaded method that appends an item to a valid index of the
+     * LongDynamicArray and shifts items to the right.
+     * Complexity: O(N).
+     *
+     * @param item is the item to be added.
+     * @param ix is a valid index to insert the item.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public void append(long item, int ix) {
+        if (!isValidIndex(ix)) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+
+        if (size == arr.length) {
+            grow(size + 1);
+        }
+
+        // shifts items to the right after the insertion
+        System.arraycopy(arr, ix, arr, ix + 1, size - ix);
+
+        arr[ix] = item;
+        ++size;
+    }
+
+    /**
+     * Appends every item of an array to the end of the LongDynamicArray.
+     * Complexity: O(K) for K items (plus a resize if the array is full).
+     *
+     * @param items are the items to be appended.
+     */
+
+    public void appendAll(long[] items) {
+        if (size + items.length > arr.length) {
+            grow(size + items.length);
+        }
+
+        System.arraycopy(items, 0, arr, size, items.length);
+        size += items.length;
+    }
+
+    /**
+     * Gets the item at a given index of the LongDynamicArray.
+     * Complexity: O(1).
+     *
+     * @param ix is a valid index.
+     * @returns item at the given index.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public long getAt(int ix) {
+        if (isValidIndex(ix)) {
+            return arr[ix];
+        } else {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+    }
+
+    /**
+     * Removes and returns the item at the end of the LongDynamicArray.
+     * Complexity: O(1) amortized.
+     *
+     * @returns item at the end of the LongDynamicArray.
+     * @throws java.util.NoSuchElementException if this method is invoked on a empty LongDynamicArray.
+     */
+
+    public long pop() {
+        if (isEmpty()) {
+            throw new java.util.NoSuchElementException("Empty Dynamic Array.");
+        }
+
+        long item = arr[--size];
+
+        shrink();
+
+        return item;
+    }
+
+    /**
+     * Removes and returns the item at a given index of the LongDynamicArray.
+     * Complexity: O(N).
+     *
+     * @param ix is a valid index.
+     * @returns item at the index position of the LongDynamicArray.
+     * @throws java.util.NoSuchElementException if this method is invoked on a empty LongDynamicArray.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public long pop(int ix) {
+        if (isEmpty()) {
+            throw new java.util.NoSuchElementException("Empty Dynamic Array.");
+        }
+
+        if (!isValidIndex(ix)) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+
+        long item = arr[ix];
+
+        // shifts items to the left
+        System.arraycopy(arr, ix + 1, arr, ix, size - ix - 1);
+        --size;
+
+        shrink();
+
+        return item;
+    }
+
+    /**
+     * Replaces an item at the given index position.
+     * Complexity: O(1).
+     *
+     * @param ix is a valid index.
+     * @param item is the item to replace the previous value located at the given index.
+     * @throws java.util.NoSuchElementException if this method is invoked on a empty LongDynamicArray.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public void replaceAt(int ix, long item) {
+        if (isEmpty()) {
+            throw new java.util.NoSuchElementException("Empty Dynamic Array.");
+        }
+
+        if (!isValidIndex(ix)) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+
+        arr[ix] = item;
+    }
+
+    /**
+     * Sorts the items of the LongDynamicArray in place in ascending order with java.util.Arrays.sort().
+     * Complexity: O(N*log(N)) compares.
+     */
+
+    public void sort() {
+        Arrays.sort(arr, 0, size);
+    }
+
+    /**
+     * Returns a copy of the items of the LongDynamicArray.
+     *
+     * @returns an array with the items in their order.
+     */
+
+    public long[] toArray() {
+        return Arrays.copyOf(arr, size);
+    }
+
+    /**
+     * Performs an action for every item of the LongDynamicArray in their order.
+     *
+     * @param action is performed for each item.
+     */
+
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < size; ++i) {
+            action.accept(arr[i]);
+        }
+    }
+
+    // grow helper method that resizes the main array to the capacity chosen by the growth
+    // policy, which is at least minCapacity (a negative minCapacity has overflowed).
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array size too large.");
+        }
+
+        resize(Math.max(growthPolicy.grow(arr.length, minCapacity), minCapacity));
+    }
+
+    // shrink helper method that halves the main array when less than 1/shrinkDivisor of it
+    // is used, but not below the initial capacity.
+
+    private void shrink() {
+        if (shrinkDivisor == 0) { return; }
+
+        int newCapacity = arr.length;
+
+        while (size < (float) newCapacity/shrinkDivisor && newCapacity/2 >= initialCapacity) {
+            newCapacity /= 2;
+        }
+
+        if (newCapacity < arr.length) {
+            resize(newCapacity);
+        }
+    }
+
+    // resize helper method that copies every item of the current array into a new array
+    // with a bigger or smaller capacity given by the argument newCapacity.
+
+    private void resize(int newCapacity) {
+        arr = Arrays.copyOf(arr, newCapacity);
+    }
+
+    // helper method that returns true if an index is valid.
+    private boolean isValidIndex(int ix) {
+        return ix >= 0 && ix < size;
+    }
+
+    /**
+     * Returns an iterator over the items of the LongDynamicArray whose nextLong() method
+     * does not box the items.
+     *
+     * @return a PrimitiveIterator over the items.
+     */
+
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongDynamicArrayIterator();
+    }
+
+    // Nested private class to create primitive Iterator Objects for the LongDynamicArray.
+    private class LongDynamicArrayIterator implements PrimitiveIterator.OfLong {
+        int iteratorIx, collectionSize;
+
+        public LongDynamicArrayIterator() {
+            iteratorIx = 0;
+            collectionSize = size;
+        }
+
+        public boolean hasNext() {
+            return iteratorIx < collectionSize;
+        }
+
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more items.");
+            }
+
+            return arr[iteratorIx++];
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException("Unsafe operation not implemented.");
+        }
+    }
+
+    // unit testing
+    public static void main(String[] args) {
+        LongDynamicArray a = new LongDynamicArray();
+
+        for (int i = 0; i < 10; ++i) {
+            a.append(9L - i);
+        }
+
+        a.append(-5L, 5);
+        a.pop(5);
+        a.pop();
+        a.append(15L);
+        a.sort();
+
+        a.forEach(item -> System.out.println(item));
+
+        PrimitiveIterator.OfLong it = a.iterator();
+        long sum = 0;
+        while (it.hasNext()) {
+            sum += it.nextLong();
+        }
+
+        System.out.println("sum: " + sum);
+    }
+}
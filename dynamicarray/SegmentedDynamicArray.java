@@ -0,0 +1,361 @@
+/**
+ * This class consists of an implementation of a segmented (chunked) dynamic array: the
+ * items are stored in fixed-size chunks whose references are kept in a directory array,
+ * instead of in a single main array such as in DynamicArray:
+ *
+ *      directory:  [ chunk 0 | chunk 1 | chunk 2 | ... ]
+ *                      |         |         |
+ *                   items     items     items
+ *                   0..C-1    C..2C-1   2C..3C-1      (C = chunk size)
+ *
+ * A full array grows by allocating one more chunk, so the items are never copied on
+ * appends and no allocation is bigger than a chunk: a DynamicArray copies all of its items
+ * when it doubles and a huge main array is a single big allocation (a humongous object
+ * for the G1 garbage collector). Only the directory grows by doubling, and it is C times
+ * smaller than the items.
+ *
+ * The chunk size is a power of 2, so getAt() is still O(1): the chunk of index ix is
+ * ix >>> log2(C) and its slot is ix & (C - 1). The empty chunks at the end are released
+ * by pops, except for one spare chunk that keeps appends and pops around a chunk boundary
+ * from allocating and releasing it every time.
+ *
+ * @author Igor G. Peternella
+ * @date 10-17-2026
+ */
+
+package dynamicarray;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class SegmentedDynamicArray<T> implements Iterable<T> {
+
+    private static final int DEFAULT_CHUNK_SIZE = 4096;  // 16-32 KB chunks of references
+    private static final int INITIAL_DIRECTORY_SIZE = 4;
+
+    private final int chunkBits;    // log2 of the chunk size
+    private final int chunkMask;    // chunk size - 1: slot of an index in its chunk
+    private Object[][] directory;   // chunks of items: directory[0 .. chunkCount - 1]
+    private int chunkCount;         // number of allocated chunks
+    private int size;               // the size of the collection
+
+    /**
+     * Default constructor. Intializes an empty SegmentedDynamicArray with chunks of 4096 items.
+     */
+
+    public SegmentedDynamicArray() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Intializes an empty SegmentedDynamicArray with chunks of the given size.
+     *
+     * @param chunkSize is the number of items of a chunk (a power of 2).
+     * @throws java.lang.IllegalArgumentException if chunkSize is not a positive power of 2.
+     */
+
+    public SegmentedDynamicArray(int chunkSize) {
+        if (chunkSize <= 0 || Integer.bitCount(chunkSize) != 1) {
+            throw new IllegalArgumentException("Chunk size must be a positive power of 2: " + chunkSize);
+        }
+
+        this.chunkBits = Integer.numberOfTrailingZeros(chunkSize);
+        this.chunkMask = chunkSize - 1;
+        this.directory = new Object[INITIAL_DIRECTORY_SIZE][];
+        this.chunkCount = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Returns true if the SegmentedDynamicArray is empty (size is zero).
+     *
+     * @return true if the structure is empty and false otherwise.
+     */
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of items of the SegmentedDynamicArray.
+     *
+     * @returns the size of the SegmentedDynamicArray.
+     */
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the capacity of the SegmentedDynamicArray: the slots of its allocated chunks.
+     *
+     * @returns the capacity of the SegmentedDynamicArray.
+     */
+
+    public int capacity() {
+        return chunkCount << chunkBits;
+    }
+
+    /**
+     * Appends an item to the end of the SegmentedDynamicArray.
+     * Complexity: O(1). No item is copied.
+     *
+     * @param item is the item to be appended.
+     */
+
+    public void append(T item) {
+        // allocates a new chunk if the last one is full
+        if (size == capacity()) {
+            addChunk();
+        }
+
+        directory[size >>> chunkBits][size & chunkMask] = item;
+        ++size;
+    }
+
+    /**
+     * Overloaded method that appends an item to a valid index of the
+     * SegmentedDynamicArray and shifts items to the right.
+     * Complexity: O(N).
+     *
+     * @param item is the item to be added.
+     * @param is a valid index to insert the item.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public void append(T item, int ix) {
+        if (!isValidIndex(ix)) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+
+        // makes room for one more item at the end
+        append(null);
+
+        int last = size - 1;
+        int loChunk = ix >>> chunkBits;
+        int hiChunk = last >>> chunkBits;
+
+        // shifts the items of the following chunks one slot to the right: the first slot of
+        // a chunk gets the last item of the previous chunk
+        for (int c = hiChunk; c > loChunk; --c) {
+            Object[] chunk = directory[c];
+            int end = c == hiChunk ? last & chunkMask : chunkMask;
+
+            System.arraycopy(chunk, 0, chunk, 1, end);
+            chunk[0] = directory[c - 1][chunkMask];
+        }
+
+        Object[] chunk = directory[loChunk];
+        int slot = ix & chunkMask;
+        int end = loChunk == hiChunk ? last & chunkMask : chunkMask;
+
+        System.arraycopy(chunk, slot, chunk, slot + 1, end - slot);
+        chunk[slot] = item;
+    }
+
+    /**
+     * Gets the item at a given index of the SegmentedDynamicArray.
+     * Complexity: O(1).
+     *
+     * @param is a valid index.
+     * @returns item at the given index.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    @SuppressWarnings("unchecked")
+    public T getAt(int ix) {
+        if (isValidIndex(ix)) {
+            return (T) directory[ix >>> chunkBits][ix & chunkMask];
+        } else {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+    }
+
+    /**
+     * Removes and returns the item at the end of the SegmentedDynamicArray.
+     * Complexity: O(1).
+     *
+     * @returns item at the end of the SegmentedDynamicArray.
+     * @throws java.util.NoSuchElementException if this method is invoked on a empty SegmentedDynamicArray.
+     */
+
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        if (isEmpty()) {
+            throw new java.util.NoSuchElementException("Empty Dynamic Array.");
+        }
+
+        --size;
+
+        Object[] chunk = directory[size >>> chunkBits];
+        T item = (T) chunk[size & chunkMask];
+        chunk[size & chunkMask] = null; // avoids loitering
+
+        releaseChunks();
+
+        return item;
+    }
+
+    /**
+     * Removes and returns the item at a given index of the SegmentedDynamicArray.
+     * Complexity: O(N).
+     *
+     * @param ix is a valid index.
+     * @returns item at the index position of the SegmentedDynamicArray.
+     * @throws java.util.NoSuchElementException if this method is invoked on a empty SegmentedDynamicArray.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public T pop(int ix) {
+        if (isEmpty()) {
+            throw new java.util.NoSuchElementException("Empty Dynamic Array.");
+        }
+
+        if (!isValidIndex(ix)) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+
+        T item = getAt(ix);
+
+        int last = size - 1;
+        int loChunk = ix >>> chunkBits;
+        int hiChunk = last >>> chunkBits;
+
+        Object[] chunk = directory[loChunk];
+        int slot = ix & chunkMask;
+        int end = loChunk == hiChunk ? last & chunkMask : chunkMask;
+
+        System.arraycopy(chunk, slot + 1, chunk, slot, end - slot);
+
+        // shifts the items of the following chunks one slot to the left: the last slot of
+        // a chunk gets the first item of the next chunk
+        for (int c = loChunk + 1; c <= hiChunk; ++c) {
+            chunk = directory[c];
+            end = c == hiChunk ? last & chunkMask : chunkMask;
+
+            directory[c - 1][chunkMask] = chunk[0];
+            System.arraycopy(chunk, 1, chunk, 0, end);
+        }
+
+        // the last item has been shifted to the left, so pop() only clears its slot
+        pop();
+
+        return item;
+    }
+
+    /**
+     * Replaces an item at the given index position.
+     * Complexity: O(1).
+     *
+     * @param ix is a valid index.
+     * @param item is the item to replace the previous value located at the given index.
+     * @throws java.util.NoSuchElementException if this method is invoked on a empty SegmentedDynamicArray.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public void replaceAt(int ix, T item) {
+        if (isEmpty()) {
+            throw new java.util.NoSuchElementException("Empty Dynamic Array.");
+        }
+
+        if (!isValidIndex(ix)) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+
+        directory[ix >>> chunkBits][ix & chunkMask] = item;
+    }
+
+    // addChunk helper method that allocates one more chunk. Only the directory (one
+    // reference per chunk) is copied when it is full.
+
+    private void addChunk() {
+        if (chunkCount == directory.length) {
+            directory = Arrays.copyOf(directory, 2 * directory.length);
+        }
+
+        directory[chunkCount++] = new Object[chunkMask + 1];
+    }
+
+    // releaseChunks helper method that releases the empty chunks at the end but one (the
+    // spare chunk) and halves the directory at 25% occupancy.
+
+    private void releaseChunks() {
+        int usedChunks = (size + chunkMask) >>> chunkBits;
+
+        while (chunkCount > usedChunks + 1) {
+            directory[--chunkCount] = null;
+        }
+
+        if (directory.length > INITIAL_DIRECTORY_SIZE && chunkCount < directory.length/4) {
+            directory = Arrays.copyOf(directory, directory.length/2);
+        }
+    }
+
+    // helper method that returns true if an index is valid.
+    private boolean isValidIndex(int ix) {
+        return ix >= 0 && ix < size;
+    }
+
+    // Iterable interface implementation for the SegmentedDynamicArray data structure.
+    public Iterator<T> iterator() {
+        return new SegmentedDynamicArrayIterator();
+    }
+
+    // Nested private class to create Iterator Objects for the SegmentedDynamicArray which
+    // walks each chunk sequentially.
+    private class SegmentedDynamicArrayIterator implements Iterator<T> {
+        int iteratorIx, collectionSize;
+        Object[] chunk;
+
+        public SegmentedDynamicArrayIterator() {
+            iteratorIx = 0;
+            collectionSize = size;
+        }
+
+        public boolean hasNext() {
+            return iteratorIx < collectionSize;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more items.");
+            }
+
+            int slot = iteratorIx & chunkMask;
+
+            if (slot == 0) {
+                chunk = directory[iteratorIx >>> chunkBits];
+            }
+
+            ++iteratorIx;
+
+            return (T) chunk[slot];
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException("Unsafe operation not implemented.");
+        }
+    }
+
+    // unit testing
+    public static void main(String[] args) {
+        SegmentedDynamicArray<Integer> a = new SegmentedDynamicArray<Integer>(4);
+
+        for (int i = 0; i < 10; ++i) {
+            a.append(i);
+        }
+
+        a.append(-5, 5);
+        a.pop(5);
+        a.pop();
+        a.append(15);
+
+        for (int i : a) {
+            System.out.println(i);
+        }
+
+        System.out.println("size: " + a.size() + ", capacity: " + a.capacity());
+    }
+}
@@ -0,0 +1,459 @@
+/**
+ * This class consists of an implementation of a tiered vector: a dynamic array whose items
+ * are stored in blocks of k slots (k is a power of 2 close to sqrt(N)) and each block is a
+ * circular buffer with its own head, i.e., the slot of its first item:
+ *
+ *      blocks:  [ d a b c ] [ e f g h ] [ j . . i ]      (the items are a b c ... j)
+ *      heads:       1           0           3
+ *
+ * All blocks but the last one are full, so the item of index ix is in block ix / k at the
+ * slot (head + ix % k) % k and getAt() is O(1). An insertion shifts at most k/2 items of its
+ * block (towards the closest end of the circular buffer) which overflows the last item of
+ * the block: that item is pushed to the front of the next block by moving its head one slot
+ * back, which overflows its last item and so on up to the last block. Each following block
+ * costs O(1), so append(item, ix) and pop(ix) are O(k + N/k) = O(sqrt(N)) instead of the
+ * O(N) shifts of DynamicArray.
+ *
+ * The blocks are rebuilt with k doubled when N reaches 2k^2 (2k blocks) and with k halved
+ * when N falls below k^2/4, which keeps the blocks about sqrt(N) long with O(1) amortized
+ * rebuild cost per operation.
+ *
+ * @author Igor G. Peternella
+ * @date 10-17-2026
+ */
+
+package dynamicarray;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class TieredDynamicArray<T> implements Iterable<T> {
+
+    private static final int MIN_BLOCK_BITS = 4;       // blocks have at least 16 slots
+    private static final int INITIAL_DIRECTORY_SIZE = 4;
+
+    private int blockBits;      // log2 of the block size k
+    private int blockMask;      // k - 1: offset of an index in its block
+    private Object[][] blocks;  // circular buffers of k items: blocks[0 .. blockCount - 1]
+    private int[] heads;        // slot of the first item of each block
+    private int blockCount;     // number of allocated blocks
+    private int size;           // the size of the collection
+
+    /**
+     * Default constructor. Intializes an empty TieredDynamicArray.
+     */
+
+    public TieredDynamicArray() {
+        build(new Object[0], 0, MIN_BLOCK_BITS);
+    }
+
+    /**
+     * Returns true if the TieredDynamicArray is empty (size is zero).
+     *
+     * @return true if the structure is empty and false otherwise.
+     */
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of items of the TieredDynamicArray.
+     *
+     * @returns the size of the TieredDynamicArray.
+     */
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the capacity of the TieredDynamicArray: the slots of its allocated blocks.
+     *
+     * @returns the capacity of the TieredDynamicArray.
+     */
+
+    public int capacity() {
+        return blockCount << blockBits;
+    }
+
+    /**
+     * Appends an item to the end of the TieredDynamicArray.
+     * Complexity: O(1) amortized.
+     *
+     * @param item is the item to be appended.
+     */
+
+    public void append(T item) {
+        insert(size, item);
+    }
+
+    /**
+     * Overloaded method that appends an item to a valid index of the TieredDynamicArray:
+     * the items of its block are shifted and each following block moves its head.
+     * Complexity: O(sqrt(N)) amortized.
+     *
+     * @param item is the item to be added.
+     * @param is a valid index to insert the item.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public void append(T item, int ix) {
+        if (!isValidIndex(ix)) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+
+        insert(ix, item);
+    }
+
+    /**
+     * Gets the item at a given index of the TieredDynamicArray.
+     * Complexity: O(1).
+     *
+     * @param is a valid index.
+     * @returns item at the given index.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    @SuppressWarnings("unchecked")
+    public T getAt(int ix) {
+        if (isValidIndex(ix)) {
+            int b = ix >>> blockBits;
+            return (T) blocks[b][(heads[b] + ix) & blockMask];
+        } else {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+    }
+
+    /**
+     * Removes and returns the item at the end of the TieredDynamicArray.
+     * Complexity: O(1) amortized.
+     *
+     * @returns item at the end of the TieredDynamicArray.
+     * @throws java.util.NoSuchElementException if this method is invoked on a empty TieredDynamicArray.
+     */
+
+    public T pop() {
+        if (isEmpty()) {
+            throw new java.util.NoSuchElementException("Empty Dynamic Array.");
+        }
+
+        return remove(size - 1);
+    }
+
+    /**
+     * Removes and returns the item at a given index of the TieredDynamicArray: the items of
+     * its block are shifted and each following block gives its first item to the previous one.
+     * Complexity: O(sqrt(N)) amortized.
+     *
+     * @param ix is a valid index.
+     * @returns item at the index position of the TieredDynamicArray.
+     * @throws java.util.NoSuchElementException if this method is invoked on a empty TieredDynamicArray.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public T pop(int ix) {
+        if (isEmpty()) {
+            throw new java.util.NoSuchElementException("Empty Dynamic Array.");
+        }
+
+        if (!isValidIndex(ix)) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+
+        return remove(ix);
+    }
+
+    /**
+     * Replaces an item at the given index position.
+     * Complexity: O(1).
+     *
+     * @param ix is a valid index.
+     * @param item is the item to replace the previous value located at the given index.
+     * @throws java.util.NoSuchElementException if this method is invoked on a empty TieredDynamicArray.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if an invalid ix is passed.
+     */
+
+    public void replaceAt(int ix, T item) {
+        if (isEmpty()) {
+            throw new java.util.NoSuchElementException("Empty Dynamic Array.");
+        }
+
+        if (!isValidIndex(ix)) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Invalid Index.");
+        }
+
+        int b = ix >>> blockBits;
+        blocks[b][(heads[b] + ix) & blockMask] = item;
+    }
+
+    /**
+     * Sorts the items of the TieredDynamicArray using the order defined by a Comparator
+     * with the stable merge sort of java.util.Arrays (TimSort). The items are copied to an array, sorted and copied back
+     * to blocks whose heads are reset.
+     * Complexity: O(N*log(N)) compares and auxiliar arrays of N and N/2 items.
+     *
+     * @param comparator defines the order of the items.
+     */
+
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        T[] items = (T[]) toArray();
+
+        Arrays.sort(items, 0, size, comparator);
+        build(items, size, blockBits);
+    }
+
+    // insert helper method that inserts an item at index ix (0 <= ix <= size): the item goes
+    // into its block and the overflowed last items are carried to the fronts of the next
+    // blocks up to the block that receives the new last index.
+
+    private void insert(int ix, T item) {
+        if (size == capacity()) {
+            addBlock();
+        }
+
+        int b = ix >>> blockBits;
+        int offset = ix & blockMask;
+        int lastBlock = size >>> blockBits;    // block of the new last index
+
+        if (b == lastBlock) {
+            insertInto(b, offset, item, size & blockMask);
+        } else {
+            // the last item of a full block leaves room for the insertion
+            Object carry = blocks[b][(heads[b] + blockMask) & blockMask];
+            insertInto(b, offset, item, blockMask);
+
+            // full blocks: the head moves back over the slot of the last item
+            for (int c = b + 1; c < lastBlock; ++c) {
+                int head = (heads[c] - 1) & blockMask;
+                Object next = blocks[c][head];
+
+                blocks[c][head] = carry;
+                heads[c] = head;
+                carry = next;
+            }
+
+            heads[lastBlock] = (heads[lastBlock] - 1) & blockMask;
+            blocks[lastBlock][heads[lastBlock]] = carry;
+        }
+
+        ++size;
+    }
+
+    // insertInto helper method that inserts an item at an offset of a block with count < k
+    // items: either the items before the offset move one slot back (and so does the head)
+    // or the items from the offset on move one slot forward, whichever are fewer.
+
+    private void insertInto(int b, int offset, Object item, int count) {
+        Object[] block = blocks[b];
+        int head = heads[b];
+
+        if (offset < count - offset) {
+            head = (head - 1) & blockMask;
+
+            for (int i = 0; i < offset; ++i) {
+                block[(head + i) & blockMask] = block[(head + i + 1) & blockMask];
+            }
+
+            heads[b] = head;
+        } else {
+            for (int i = count; i > offset; --i) {
+                block[(head + i) & blockMask] = block[(head + i - 1) & blockMask];
+            }
+        }
+
+        block[(head + offset) & blockMask] = item;
+    }
+
+    // remove helper method that removes the item at index ix: its block closes the hole and
+    // each following block gives its first item to the last slot of the previous block.
+
+    @SuppressWarnings("unchecked")
+    private T remove(int ix) {
+        int b = ix >>> blockBits;
+        int offset = ix & blockMask;
+        int lastBlock = (size - 1) >>> blockBits;
+        T item = (T) blocks[b][(heads[b] + offset) & blockMask];
+
+        if (b == lastBlock) {
+            removeFrom(b, offset, size - (b << blockBits));
+        } else {
+            removeFrom(b, offset, blockMask + 1);
+
+            for (int c = b + 1; c <= lastBlock; ++c) {
+                int head = heads[c];
+
+                blocks[c - 1][(heads[c - 1] + blockMask) & blockMask] = blocks[c][head];
+                blocks[c][head] = null; // avoids loitering
+                heads[c] = (head + 1) & blockMask;
+            }
+        }
+
+        --size;
+
+        releaseBlocks();
+
+        return item;
+    }
+
+    // removeFrom helper method that removes the item at an offset of a block with count
+    // items: either the items before the offset move one slot forward (and so does the
+    // head) or the items after the offset move one slot back, whichever are fewer.
+
+    private void removeFrom(int b, int offset, int count) {
+        Object[] block = blocks[b];
+        int head = heads[b];
+
+        if (offset < count - 1 - offset) {
+            for (int i = offset; i > 0; --i) {
+                block[(head + i) & blockMask] = block[(head + i - 1) & blockMask];
+            }
+
+            block[head] = null; // avoids loitering
+            heads[b] = (head + 1) & blockMask;
+        } else {
+            for (int i = offset; i < count - 1; ++i) {
+                block[(head + i) & blockMask] = block[(head + i + 1) & blockMask];
+            }
+
+            block[(head + count - 1) & blockMask] = null; // avoids loitering
+        }
+    }
+
+    // addBlock helper method that allocates one more block or, if there are already 2k
+    // blocks, rebuilds the array with blocks twice as big.
+
+    private void addBlock() {
+        if (blockCount >= 2 << blockBits) {
+            build(toArray(), size, blockBits + 1);
+        }
+
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, 2 * blocks.length);
+            heads = Arrays.copyOf(heads, 2 * heads.length);
+        }
+
+        blocks[blockCount] = new Object[blockMask + 1];
+        heads[blockCount++] = 0;
+    }
+
+    // releaseBlocks helper method that releases the empty blocks at the end but one (the
+    // spare block) and rebuilds the array with blocks half as big if N < k^2/4.
+
+    private void releaseBlocks() {
+        if (blockBits > MIN_BLOCK_BITS && size < 1 << (2 * blockBits - 2)) {
+            build(toArray(), size, blockBits - 1);
+            return;
+        }
+
+        int usedBlocks = (size + blockMask) >>> blockBits;
+
+        while (blockCount > usedBlocks + 1) {
+            blocks[--blockCount] = null;
+        }
+    }
+
+    // build helper method that stores the first n items of an array in blocks of 2^bits
+    // slots whose heads are 0.
+
+    private void build(Object[] items, int n, int bits) {
+        blockBits = bits;
+        blockMask = (1 << bits) - 1;
+        blockCount = (n + blockMask) >>> bits;
+
+        int directorySize = Math.max(INITIAL_DIRECTORY_SIZE, Integer.highestOneBit(blockCount) << 1);
+        blocks = new Object[directorySize][];
+        heads = new int[directorySize];
+
+        for (int b = 0; b < blockCount; ++b) {
+            blocks[b] = new Object[blockMask + 1];
+            int from = b << bits;
+            System.arraycopy(items, from, blocks[b], 0, Math.min(blockMask + 1, n - from));
+        }
+
+        size = n;
+    }
+
+    // toArray helper method that copies the items in order to a new array.
+
+    private Object[] toArray() {
+        Object[] items = new Object[size];
+
+        for (int b = 0, from = 0; from < size; ++b, from += blockMask + 1) {
+            int count = Math.min(blockMask + 1, size - from);
+            int head = heads[b];
+            int first = Math.min(count, blockMask + 1 - head); // items before the wrap
+
+            System.arraycopy(blocks[b], head, items, from, first);
+            System.arraycopy(blocks[b], 0, items, from + first, count - first);
+        }
+
+        return items;
+    }
+
+    // helper method that returns true if an index is valid.
+    private boolean isValidIndex(int ix) {
+        return ix >= 0 && ix < size;
+    }
+
+    // Iterable interface implementation for the TieredDynamicArray data structure.
+    public Iterator<T> iterator() {
+        return new TieredDynamicArrayIterator();
+    }
+
+    // Nested private class to create Iterator Objects for the TieredDynamicArray which
+    // walks each block from its head.
+    private class TieredDynamicArrayIterator implements Iterator<T> {
+        int iteratorIx, collectionSize;
+
+        public TieredDynamicArrayIterator() {
+            iteratorIx = 0;
+            collectionSize = size;
+        }
+
+        public boolean hasNext() {
+            return iteratorIx < collectionSize;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more items.");
+            }
+
+            int b = iteratorIx >>> blockBits;
+            T item = (T) blocks[b][(heads[b] + iteratorIx) & blockMask];
+            ++iteratorIx;
+
+            return item;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException("Unsafe operation not implemented.");
+        }
+    }
+
+    // unit testing
+    public static void main(String[] args) {
+        TieredDynamicArray<Integer> a = new TieredDynamicArray<Integer>();
+
+        for (int i = 0; i < 40; ++i) {
+            a.append(i);
+        }
+
+        a.append(-20, 20);
+        a.pop(0);
+        a.pop(20);
+        a.pop();
+
+        for (int i = 0; i < a.size(); ++i) {
+            System.out.print(a.getAt(i) + " ");
+        }
+
+        System.out.println();
+        System.out.println("size: " + a.size() + ", capacity: " + a.capacity());
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * This class consists of an implementation of a max priority queue of long items which is
+ * built on the top of a LongDynamicArray interpreted as a Binary Heap Tree, just like
+ * PriorityQueue is built on the top of a DynamicArray. The items are never boxed, so a
+ * PriorityQueue<Long> can be replaced by this class on hot paths.
+ *
+ * The heap uses virtual indexes (heapIndexes) that start at 1 (see PriorityQueue):
+ *
+ *              virtual index == real index + 1
+ *
+ * @author Igor G. Peternella
+ * @date 10-17-2026
+ */
+
+package priorityqueue;
+
+import java.util.PrimitiveIterator;
+
+import dynamicarray.LongDynamicArray;
+
+public class LongPriorityQueue {
+
+    private LongDynamicArray pq; // pq is a reference to a LongDynamicArray which is interpreted as a Heap
+    private int heapSize;        // heapSize is the LongDynamicArray (Heap) size
+
+    /**
+     * Builds an empty priority queue based on a LongDynamicArray implementation.
+     */
+
+    public LongPriorityQueue() {
+        pq = new LongDynamicArray();
+        heapSize = 0;
+    }
+
+    /**
+     * Builds an empty priority queue whose LongDynamicArray has room for capacity items.
+     *
+     * @param capacity is the initial capacity of the heap.
+     * @throws java.lang.IllegalArgumentException if capacity is negative.
+     */
+
+    public LongPriorityQueue(int capacity) {
+        pq = new LongDynamicArray(capacity);
+        heapSize = 0;
+    }
+
+    /**
+     * Returns true if the priority queue is empty (size is zero).
+     *
+     * @return true if the priority queue is empty and false otherwise.
+     */
+
+    public boolean isEmpty() {
+        return heapSize == 0;
+    }
+
+    /**
+     * Returns the number of items of the priority queue.
+     *
+     * @return the size (number of items) of the priority queue.
+     */
+
+    public int size() {
+        return heapSize;
+    }
+
+    /**
+     * Inserts an item at the proper position in the queue based on its priority.
+     * Complexity: O(log(N)).
+     *
+     * @param item is the item to be inserted.
+     */
+
+    public void insert(long item) {
+        // appends an item at the end of the LongDynamicArray (as Last node of the heap)
+        pq.append(item);
+        ++heapSize;
+
+        // swims up to reheapify from bottom up
+        swim(heapSize);
+    }
+
+    /**
+     * Removes and returns the biggest item (highest priority) of the priority queue.
+     * Complexity: O(log(N)).
+     *
+     * @return item with the highest priority on the queue.
+     * @throws java.util.NoSuchElementException if this method is invoked on a empty priority queue.
+     */
+
+    public long delMax() {
+        if (isEmpty()) {
+            throw new java.util.NoSuchElementException("Empty priority queue.");
+        }
+
+        // picks the item at the top of the heap which is the biggest item (highest priority)
+        long item = pq.getAt(0);
+
+        // moves the last node to the top and removes it from the end of the heap
+        swap(1, heapSize);
+        --heapSize;
+        pq.pop();
+
+        // sinks down to reheapify from top to bottom
+        sink(1);
+
+        return item;
+    }
+
+    /**
+     * Returns the biggest item (highest priority) of the priority queue but does not remove it.
+     *
+     * @return item with the highest priority on the queue.
+     * @throws java.util.NoSuchElementException if this method is invoked on a empty priority queue.
+     */
+
+    public long max() {
+        if (isEmpty()) {
+            throw new java.util.NoSuchElementException("Empty priority queue.");
+        }
+
+        return pq.getAt(0);
+    }
+
+    /*
+     * Goes down the heap swapping a parent with its biggest child until the parent is
+     * not smaller than its children (see PriorityQueue.sink()).
+     */
+
+    private void sink(int heapIndex) {
+        while (2 * heapIndex <= heapSize) {
+            int child = 2 * heapIndex;
+
+            // picks the biggest child
+            if (child < heapSize && isLess(child, child + 1)) {
+                ++child;
+            }
+
+            if (!isLess(heapIndex, child)) {
+                break;
+            }
+
+            swap(heapIndex, child);
+            heapIndex = child;
+        }
+    }
+
+    /*
+     * Goes up the heap swapping a child with its parent until a bigger parent is found
+     * (see PriorityQueue.swim()).
+     */
+
+    private void swim(int heapIndex) {
+        while (heapIndex > 1 && isLess(heapIndex/2, heapIndex)) {
+            swap(heapIndex/2, heapIndex);
+            heapIndex = heapIndex/2;
+        }
+    }
+
+    /*
+     * Swaps the items at two virtual indexes of the heap.
+     */
+
+    private void swap(int ix1, int ix2) {
+        long temp = pq.getAt(ix1 - 1);
+
+        pq.replaceAt(ix1 - 1, pq.getAt(ix2 - 1));
+        pq.replaceAt(ix2 - 1, temp);
+    }
+
+    /*
+     * Returns true if the item at the virtual index ix1 is less than the item at ix2.
+     */
+
+    private boolean isLess(int ix1, int ix2) {
+        return pq.getAt(ix1 - 1) < pq.getAt(ix2 - 1);
+    }
+
+    /**
+     * Returns an iterator over the items of the priority queue in heap (not sorted) order.
+     *
+     * @return a PrimitiveIterator over the items.
+     */
+
+    public PrimitiveIterator.OfLong iterator() {
+        return pq.iterator();
+    }
+
+    // unit testing
+    public static void main(String[] args) {
+        LongPriorityQueue pq = new LongPriorityQueue();
+
+        pq.insert(2);
+        pq.insert(1);
+        pq.insert(5);
+        pq.insert(3);
+        pq.insert(20);
+
+        System.out.println(pq.delMax());
+
+        pq.insert(7);
+
+        while (!pq.isEmpty()) {
+            System.out.println(pq.delMax());
+        }
+
+        System.out.println("size: " + pq.size());
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * This class consists of helpers for the argsort() overloads of this package, which
+ * return the permutation of the indexes that sorts an array instead of rearranging it:
+ *
+ *              int[] perm = Merge.argsort(arrayReference)
+ *
+ * where arr[perm[0]], arr[perm[1]], ... is in ascending order. Hence, many sorted orders
+ * of the same array of big records can be kept as int[] permutations and the records
+ * are never moved.
+ *
+ * The keys are not read through the permutation (arr[perm[i]] jumps around the array on
+ * every compare). Instead, the sorts move a copy of the keys together with the indexes,
+ * so every compare reads keys that are next to each other:
+ *
+ *      1. int and float keys are packed with their index into a long (key in the high
+ *         32 bits and index in the low 32 bits) and the packed array is sorted by the long
+ *         sort of the algorithm. Equal keys are ordered by their indexes, so the
+ *         permutation is stable no matter which algorithm sorts it;
+ *      2. long, double and Comparable keys (which do not fit next to an index in a long)
+ *         are copied to a keys array which is sorted along with an array of indexes.
+ *         double keys are mapped to longs with the same order first (sortable()).
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package sorting;
+
+final class Argsort {
+
+    private Argsort() { }
+
+    /*
+     * Returns the identity permutation of size n: 0, 1, ..., n - 1.
+     */
+
+    static int[] identity(int n) {
+        int[] perm = new int[n];
+
+        for (int i = 0; i < n; ++i) {
+            perm[i] = i;
+        }
+
+        return perm;
+    }
+
+    /*
+     * Packs every int key with its index: the order of the packed longs is the order of
+     * the keys and then the order of the indexes.
+     */
+
+    static long[] pack(int[] keys) {
+        long[] packed = new long[keys.length];
+
+        for (int i = 0; i < keys.length; ++i) {
+            packed[i] = ((long) keys[i] << 32) | i;
+        }
+
+        return packed;
+    }
+
+    /*
+     * Packs every float key with its index (see the int version). The keys are ordered
+     * as by Float.compare(): -0.0 before 0.0 and NaN after every other value.
+     */
+
+    static long[] pack(float[] keys) {
+        long[] packed = new long[keys.length];
+
+        for (int i = 0; i < keys.length; ++i) {
+            int bits = Float.floatToIntBits(keys[i]);
+
+            // negative floats: the bits of the magnitude are flipped so bigger magnitudes come first
+            bits ^= (bits >> 31) & 0x7fffffff;
+            packed[i] = ((long) bits << 32) | i;
+        }
+
+        return packed;
+    }
+
+    /*
+     * Returns the permutation of a sorted packed array: the indexes of its low 32 bits.
+     */
+
+    static int[] unpack(long[] packed) {
+        int[] perm = new int[packed.length];
+
+        for (int i = 0; i < packed.length; ++i) {
+            perm[i] = (int) packed[i];
+        }
+
+        return perm;
+    }
+
+    /*
+     * Returns longs that have the order of the double keys as by Double.compare(): -0.0
+     * before 0.0 and NaN after every other value.
+     */
+
+    static long[] sortable(double[] keys) {
+        long[] bits = new long[keys.length];
+
+        for (int i = 0; i < keys.length; ++i) {
+            long b = Double.doubleToLongBits(keys[i]);
+
+            bits[i] = b ^ ((b >> 63) & 0x7fffffffffffffffL);
+        }
+
+        return bits;
+    }
+}
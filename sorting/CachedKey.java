@@ -0,0 +1,64 @@
+/**
+ * This class consists of a helper for the key-extractor sort() overloads of this
+ * package. It implements the decorate-sort-undecorate idiom: every element of an array
+ * is decorated with its sort key, which is computed only once, the decorated array is
+ * sorted by any Comparable sort of the package and the elements are then copied back
+ * in the sorted order. Hence, expensive keys are computed N times instead of being
+ * computed twice per compare, i.e., O(N*log(N)) times.
+ *
+ * CachedKey objects are compared by their keys only so stable algorithms are still
+ * stable when they sort decorated arrays.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package sorting;
+
+import java.util.function.Function;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class CachedKey implements Comparable<CachedKey> {
+
+    private final Comparable key;   // sort key of the item (computed once)
+    private final Object item;      // the decorated element of the array
+
+    private CachedKey(Comparable key, Object item) {
+        this.key = key;
+        this.item = item;
+    }
+
+    /*
+     * Returns a new array with every element of arr decorated with its key.
+     *
+     * arr is a reference to the array to be sorted.
+     * keyExtractor is the function that computes the sort key of an element.
+     */
+
+    static <T> CachedKey[] decorate(T[] arr, Function<? super T, ? extends Comparable> keyExtractor) {
+        CachedKey[] decorated = new CachedKey[arr.length];
+
+        for (int i = 0; i < arr.length; ++i) {
+            decorated[i] = new CachedKey(keyExtractor.apply(arr[i]), arr[i]);
+        }
+
+        return decorated;
+    }
+
+    /*
+     * Copies the elements of a sorted decorated array back to arr.
+     *
+     * decorated is a reference to a sorted array returned by decorate().
+     * arr is a reference to the array that was decorated.
+     */
+
+    static <T> void undecorate(CachedKey[] decorated, T[] arr) {
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = (T) decorated[i].item;
+        }
+    }
+
+    public int compareTo(CachedKey other) {
+        return key.compareTo(other.key);
+    }
+}
@@ -0,0 +1,440 @@
+/**
+ * This class consists of an implementation of an external (out-of-core) Merge Sort
+ * of text files, i.e., it sorts files of lines that may be much bigger than the heap,
+ * just like the Unix sort command. The algorithm has two phases:
+ *
+ *      1. the input is read in chunks that fit in a memory budget. Each chunk is sorted in
+ *         memory with Merge sort and spilled to a temporary run file;
+ *      2. runs are merged with a k-way merge: the next line of each run is kept on a
+ *         priority queue (priorityqueue.PriorityQueue) so the smallest line of all runs is
+ *         found with O(log(k)) compares. At most fanIn runs are merged at a time, so when
+ *         there are more runs than that they are merged in several passes.
+ *
+ * Run files are read and written with large buffers (the memory budget is split among
+ * the runs that are merged) so each run is read sequentially in big blocks. A line is any
+ * sequence of bytes terminated by '\n' (or by the end of the input) and its bytes are never
+ * decoded nor changed, e.g., '\r' and invalid UTF-8 bytes are kept. Lines are compared as
+ * unsigned bytes, which is the order of LC_ALL=C sort, and the sort is stable. The output
+ * lines are terminated by '\n'.
+ *
+ * An ExternalSort object holds the configuration of the sort (memory budget, fan-in and
+ * the directory of the temporary run files), e.g.:
+ *
+ *              new ExternalSort(256 * 1024 * 1024, 128).sort(inputPath, outputPath)
+ *
+ * Based on Algorithms (4th ed.) by Robert Sedgewick and Kevin Wayne (multiway merge).
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package sorting;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import dynamicarray.DynamicArray;
+import priorityqueue.PriorityQueue;
+
+public class ExternalSort {
+
+    public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;   // 64 MB of lines per chunk
+    public static final int DEFAULT_FAN_IN = 64;                           // runs merged at a time
+
+    private static final int MIN_BUFFER_SIZE = 64 * 1024;                  // smallest I/O buffer (bytes)
+    private static final int MAX_BUFFER_SIZE = 16 * 1024 * 1024;           // biggest I/O buffer (bytes)
+    private static final int LINE_OVERHEAD = 32;                           // array header, padding and reference (bytes)
+
+    private final long memoryBudget;   // estimated heap bytes of the lines of a chunk
+    private final int fanIn;           // maximum number of runs merged at a time
+    private final Path tempDirectory;  // directory of the run files (null: default temporary directory)
+
+    /**
+     * Builds an external sort with the default memory budget and fan-in whose run files
+     * are created in the default temporary directory.
+     */
+
+    public ExternalSort() {
+        this(DEFAULT_MEMORY_BUDGET, DEFAULT_FAN_IN, null);
+    }
+
+    /**
+     * Builds an external sort whose run files are created in the default temporary directory.
+     *
+     * @param memoryBudget is the estimated number of heap bytes used by the lines of a chunk.
+     * @param fanIn is the maximum number of runs merged at a time (at least 2).
+     * @throws java.lang.IllegalArgumentException if memoryBudget is not positive or fanIn < 2.
+     */
+
+    public ExternalSort(long memoryBudget, int fanIn) {
+        this(memoryBudget, fanIn, null);
+    }
+
+    /**
+     * Builds an external sort.
+     *
+     * @param memoryBudget is the estimated number of heap bytes used by the lines of a chunk.
+     * @param fanIn is the maximum number of runs merged at a time (at least 2).
+     * @param tempDirectory is the directory of the run files or null for the default temporary directory.
+     * @throws java.lang.IllegalArgumentException if memoryBudget is not positive or fanIn < 2.
+     */
+
+    public ExternalSort(long memoryBudget, int fanIn, Path tempDirectory) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive.");
+        }
+
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be at least 2.");
+        }
+
+        this.memoryBudget = memoryBudget;
+        this.fanIn = fanIn;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Sorts the lines of a file into another file. Both paths may be the same file.
+     * Complexity: O(N*log(N)) compares and O(N*log_fanIn(R)) line writes for R runs.
+     *
+     * @param input is the path of the file to be sorted.
+     * @param output is the path of the sorted file (created or overwritten).
+     * @throws java.io.IOException if the files cannot be read or written.
+     */
+
+    public void sort(Path input, Path output) throws IOException {
+        DynamicArray<Path> runs;
+
+        // the input is fully read (and closed) before the output is opened
+        try (InputStream in = Files.newInputStream(input)) {
+            runs = createRuns(in);
+        }
+
+        // the run files are deleted even if the output cannot be opened
+        try (OutputStream out = Files.newOutputStream(output)) {
+            mergeRuns(runs, out);
+        } finally {
+            deleteRuns(runs);
+        }
+    }
+
+    /**
+     * Sorts the lines read from an input stream and writes them to an output stream.
+     * Neither stream is closed by this method.
+     *
+     * @param in is the stream whose lines are sorted.
+     * @param out is the stream that receives the sorted lines.
+     * @throws java.io.IOException if the streams or the run files cannot be read or written.
+     */
+
+    public void sort(InputStream in, OutputStream out) throws IOException {
+        mergeRuns(createRuns(in), out);
+    }
+
+    /*
+     * Phase 1: reads the input in chunks that fit in the memory budget, sorts each chunk
+     * with Merge sort and spills it to a run file. Returns the paths of the run files in
+     * the order they were created (which keeps the sort stable).
+     */
+
+    private DynamicArray<Path> createRuns(InputStream in) throws IOException {
+        DynamicArray<Path> runs = new DynamicArray<Path>();
+        LineReader reader = new LineReader(in, bufferSize(memoryBudget/4));
+
+        byte[][] chunk = new byte[1024][];   // lines of the current chunk (reused by every chunk)
+        int size = 0;                        // number of lines of the current chunk
+        long chunkBytes = 0;                 // estimated heap bytes of the current chunk
+
+        try {
+            byte[] line;
+            while ((line = reader.readLine()) != null) {
+                if (size == chunk.length) {
+                    chunk = Arrays.copyOf(chunk, 2 * size);
+                }
+
+                chunk[size++] = line;
+                chunkBytes += LINE_OVERHEAD + line.length;
+
+                // the chunk is full: sorts it and spills it to a run file
+                if (chunkBytes >= memoryBudget) {
+                    runs.append(spill(chunk, size));
+                    Arrays.fill(chunk, 0, size, null);   // lets the lines be collected
+                    size = 0;
+                    chunkBytes = 0;
+                }
+            }
+
+            if (size > 0) {
+                runs.append(spill(chunk, size));
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteRuns(runs);
+            throw e;
+        }
+
+        return runs;
+    }
+
+    /*
+     * Sorts the first size lines of chunk with Merge sort and writes them to a new run file.
+     */
+
+    private Path spill(byte[][] chunk, int size) throws IOException {
+        Merge.sort(chunk, 0, size, Arrays::compareUnsigned);
+
+        Path run = tempDirectory == null
+            ? Files.createTempFile("external-sort-", ".run")
+            : Files.createTempFile(tempDirectory, "external-sort-", ".run");
+
+        try (OutputStream writer = new BufferedOutputStream(Files.newOutputStream(run), bufferSize(memoryBudget/4))) {
+            for (int i = 0; i < size; ++i) {
+                writer.write(chunk[i]);
+                writer.write('\n');
+            }
+        }
+
+        return run;
+    }
+
+    /*
+     * Phase 2: merges the run files in passes of at most fanIn runs until all of them fit
+     * in a single final merge which writes to out. Every run file is deleted.
+     */
+
+    private void mergeRuns(DynamicArray<Path> runs, OutputStream out) throws IOException {
+        try {
+            // intermediate passes: each group of fanIn runs becomes a new (longer) run
+            while (runs.size() > fanIn) {
+                DynamicArray<Path> merged = new DynamicArray<Path>();
+
+                try {
+                    mergePass(runs, merged);
+                } catch (IOException | RuntimeException e) {
+                    deleteRuns(merged);
+                    throw e;
+                }
+
+                runs = merged;
+            }
+
+            // final pass straight into the output
+            merge(runs, 0, runs.size(), out);
+        } finally {
+            deleteRuns(runs);
+        }
+    }
+
+    /*
+     * Merges each group of fanIn runs of runs into a new run appended to merged and
+     * deletes the merged run files.
+     */
+
+    private void mergePass(DynamicArray<Path> runs, DynamicArray<Path> merged) throws IOException {
+        for (int lo = 0; lo < runs.size(); lo += fanIn) {
+            int hi = Math.min(lo + fanIn, runs.size());
+
+            // a single run left over: it goes to the next pass as it is
+            if (hi - lo == 1) {
+                merged.append(runs.getAt(lo));
+                continue;
+            }
+
+            Path run = tempDirectory == null
+                ? Files.createTempFile("external-sort-", ".run")
+                : Files.createTempFile(tempDirectory, "external-sort-", ".run");
+            merged.append(run);
+
+            try (OutputStream runOut = Files.newOutputStream(run)) {
+                merge(runs, lo, hi, runOut);
+            }
+
+            for (int i = lo; i < hi; ++i) {
+                Files.deleteIfExists(runs.getAt(i));
+            }
+        }
+    }
+
+    /*
+     * k-way merge of the run files runs[lo .. hi - 1] into out. The next line of each run
+     * is kept on a priority queue whose max is the smallest line (see RunReader).
+     */
+
+    private void merge(DynamicArray<Path> runs, int lo, int hi, OutputStream out) throws IOException {
+        int k = hi - lo;
+        int bufferSize = bufferSize(memoryBudget/(k + 1));   // k readers and one writer
+        PriorityQueue<RunReader> pq = new PriorityQueue<RunReader>();
+        RunReader[] readers = new RunReader[k];
+
+        try {
+            for (int i = 0; i < k; ++i) {
+                readers[i] = new RunReader(runs.getAt(lo + i), i, bufferSize);
+                if (readers[i].advance()) {
+                    pq.insert(readers[i]);
+                }
+            }
+
+            OutputStream writer = new BufferedOutputStream(out, bufferSize);
+
+            while (!pq.isEmpty()) {
+                // run with the smallest next line
+                RunReader reader = pq.delMax();
+
+                writer.write(reader.line);
+                writer.write('\n');
+
+                // goes back to the queue if the run has more lines
+                if (reader.advance()) {
+                    pq.insert(reader);
+                }
+            }
+
+            writer.flush();
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) { reader.close(); }
+            }
+        }
+    }
+
+    /*
+     * Reader of a run file that holds the run's next line. PriorityQueue is a max priority
+     * queue so RunReaders are compared in reverse: the reader with the smallest line is
+     * the biggest one. Equal lines are ordered by run index which keeps the merge stable.
+     */
+
+    private static class RunReader implements Comparable<RunReader> {
+        private final LineReader reader;   // buffered reader of the lines of the run file
+        private final int index;           // index of the run among the merged runs
+        private byte[] line;               // next line of the run
+
+        RunReader(Path run, int index, int bufferSize) throws IOException {
+            this.reader = new LineReader(Files.newInputStream(run), bufferSize);
+            this.index = index;
+        }
+
+        // reads the next line of the run and returns false if the run is exhausted
+        boolean advance() throws IOException {
+            line = reader.readLine();
+
+            return line != null;
+        }
+
+        void close() throws IOException {
+            reader.close();
+        }
+
+        public int compareTo(RunReader other) {
+            int cmp = Arrays.compareUnsigned(other.line, line);
+
+            if (cmp != 0) { return cmp; }
+
+            return Integer.compare(other.index, index);
+        }
+    }
+
+    /*
+     * Reader of the lines of a stream as raw bytes. Lines are split at '\n' only and the
+     * returned lines keep every other byte (a trailing '\r' included). The last line of the
+     * stream does not need to be terminated by '\n'.
+     */
+
+    private static class LineReader {
+        private final InputStream in;                   // stream being read
+        private final byte[] buffer;                    // bytes read from in
+        private final ByteArrayOutputStream pending;    // beginning of a line split across buffers
+        private int position;                           // next unread byte of buffer
+        private int limit;                              // number of bytes of buffer
+
+        LineReader(InputStream in, int bufferSize) {
+            this.in = in;
+            this.buffer = new byte[bufferSize];
+            this.pending = new ByteArrayOutputStream();
+        }
+
+        // returns the next line without its '\n' or null if the stream is exhausted
+        byte[] readLine() throws IOException {
+            pending.reset();
+            boolean partial = false;   // true if pending holds the beginning of the line
+
+            while (true) {
+                if (position == limit) {
+                    int count = in.read(buffer, 0, buffer.length);
+
+                    if (count < 0) {
+                        return partial ? pending.toByteArray() : null;
+                    }
+
+                    position = 0;
+                    limit = count;
+                }
+
+                int start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    ++position;
+                }
+
+                if (position < limit) {
+                    // the line ends in this buffer: skips its '\n'
+                    int end = position++;
+
+                    if (!partial) { return Arrays.copyOfRange(buffer, start, end); }
+
+                    pending.write(buffer, start, end - start);
+                    return pending.toByteArray();
+                }
+
+                // the line goes on in the next buffer
+                pending.write(buffer, start, limit - start);
+                partial = true;
+            }
+        }
+
+        void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /*
+     * Returns a buffer size (in bytes) for the given number of bytes bounded by the
+     * minimum and maximum buffer sizes.
+     */
+
+    private static int bufferSize(long bytes) {
+        return (int) Math.max(MIN_BUFFER_SIZE, Math.min(MAX_BUFFER_SIZE, bytes));
+    }
+
+    /*
+     * Deletes every run file that still exists (ignoring failures).
+     */
+
+    private static void deleteRuns(DynamicArray<Path> runs) {
+        for (Path run : runs) {
+            try {
+                Files.deleteIfExists(run);
+            } catch (IOException e) {
+                // a leftover temporary file is not worth failing the sort
+            }
+        }
+    }
+
+    // sorts a file from the command line:
+    // java sorting.ExternalSort input output [memoryBudgetInMB] [fanIn]
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: java sorting.ExternalSort input output [memoryBudgetInMB] [fanIn]");
+            System.exit(1);
+        }
+
+        long memoryBudget = args.length > 2 ? Long.parseLong(args[2]) * 1024 * 1024 : DEFAULT_MEMORY_BUDGET;
+        int fanIn = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_FAN_IN;
+
+        new ExternalSort(memoryBudget, fanIn).sort(Paths.get(args[0]), Paths.get(args[1]));
+    }
+}
@@ -13,6 +13,17 @@
  *
  *              Heap.sort(arrayReference)
  *
+ * The bottom-up (Floyd) mode does about half the compares of sort() and it can also use a
+ * d-ary heap (e.g., 4 or 8 children per node) for better cache behaviour on big arrays:
+ *
+ *              Heap.bottomUpSort(arrayReference)
+ *              Heap.bottomUpSort(arrayReference, 4)
+ *
+ * The k biggest items of a stream (Iterable or Iterator) can be found with a bounded heap
+ * of k items without storing or sorting the whole stream:
+ *
+ *              Heap.topK(iterable, k)
+ *
  * Based on Algorithms (4th ed.) by Robert Sedgewick and Kevin Wayne.
  * 
  * @author Igor G. Peternella
@@ -20,6 +31,13 @@
  */
 package sorting;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.Function;
+
+import dynamicarray.DynamicArray;
+
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class Heap {
 
@@ -42,29 +60,67 @@ public class Heap {
      * @param arr is a reference to a Comparable array.
      */
 	
-    public static void sort(Comparable[] arr) {		
-        int heapSize = arr.length;
+    public static void sort(Comparable[] arr) {
+        classicSort(arr, 0, arr.length - 1, null);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a Comparable array using Heap sort.
+     * Complexity: O(N*log(N)) swaps for a range of N elements.
+     *
+     * @param arr is a Comparable array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(Comparable[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        classicSort(arr, fromIndex, toIndex - 1, null);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using Heap sort. The subarray is interpreted as
+     * a heap whose virtual index 1 is the real index lo, i.e.:
+     *
+     *              real index == lo + virtual index - 1
+     *
+     * arr is a reference to a Comparable array.
+     * lo is the lowest index of the subarray.
+     * hi is the highest index of the subarray.
+     * stats records the compares, swaps and the "heapify" and "sortdown" phases of the
+     * sort (null when it is not instrumented).
+     */
+
+    private static void classicSort(Comparable[] arr, int lo, int hi, SortStats stats) {
+        long start = SortStats.start(stats);
+        int heapSize = hi - lo + 1;
 
         // builds a heap from a Comparable array elements
         // starts at half of the array to use sink() on each subheap
         // heapIndex is a virtual index of an abstract array that starts
         // at index one with the same elements of arr
         for (int heapIndex = heapSize/2; heapIndex >= 1; --heapIndex) {
-            sink(arr, heapIndex, heapSize);
+            sink(arr, lo, heapIndex, heapSize, stats);
         }	
+        SortStats.time(stats, "heapify", start);
 
         // applies heap sort on the heap array
+        start = SortStats.start(stats);
         while (heapSize > 1) {
             // swaps biggest element (first) with the last one so
             // last element goes to its right position at the end (sorted)
-            swap(arr, 1, heapSize);
+            swap(arr, lo, 1, heapSize, stats);
             // last element is sorted but it violates now the heap order
             // so we reduce the heap size to ignore it in the next iterations
             --heapSize;
             // sink from the beginning of the heap till the end to reheapify
             // the structure
-            sink(arr, 1, heapSize);
+            sink(arr, lo, 1, heapSize, stats);
         }
+        SortStats.time(stats, "sortdown", start);
     }
 
     /*
@@ -73,11 +129,13 @@ public class Heap {
      * an array from top to bottom.
      * 
      * arr is a reference to a Comparable array that represents a heap.
+     * lo is the real index of the first element of the heap (virtual index 1).
      * heapIndex is a virtual index used for one-based arrays (required by heap algorithm).
      * heapSize is the array size (size of the heap).
+     * stats records the compares and swaps (null when the sort is not instrumented).
      */    
     
-    private static void sink(Comparable[] arr, int heapIndex, int heapSize) {
+    private static void sink(Comparable[] arr, int lo, int heapIndex, int heapSize, SortStats stats) {
         // begins going down the heap if the startLevel node (parent) has
         // at least a leftChild node so 2 * heapLevel < heapSize evals to true
         // sinks down until heapLevel is bigger than the heapSize
@@ -94,19 +152,19 @@ public class Heap {
                 int rightChild = 2 * heapIndex + 1;        // second child node
 
                 // picks the biggest Sibling (right or left) to compare with parent
-                if (isLess(arr, leftChild, rightChild)) {
+                if (isLess(arr, lo, leftChild, rightChild, stats)) {
                     biggestChild = rightChild;
                 }
             }
 	    
             // if biggestChild is smaller than parent
             // than it follows the heap order so break
-            if (isLess(arr, biggestChild, parent)) {
+            if (isLess(arr, lo, biggestChild, parent, stats)) {
                 break;
             } else {
                 // biggestChild is bigger than parent
                 // which violates heap order so swap
-                swap(arr, biggestChild, parent);
+                swap(arr, lo, biggestChild, parent, stats);
             }
 	    	    
             // advances to biggest child
@@ -120,15 +178,16 @@ public class Heap {
      * Swaps two elements of a Comparable array.
      * 
      * arr is a reference to a Comparable array.
+     * lo is the real index of the first element of the heap (virtual index 1).
      * ix1 is the index of the first element to be swapped on the array.
      * ix2 is the index of the second element to be swapped on the array.
      */    
     
-    private static void swap(Comparable[] arr, int ix1, int ix2) {
+    private static void swap(Comparable[] arr, int lo, int ix1, int ix2) {
         // corrects virtual indexes of heap sort to
         // map to real indexes of 0 based java arrays
-        --ix1;
-        --ix2;
+        ix1 += lo - 1;
+        ix2 += lo - 1;
 	
         Comparable temp = arr[ix1];
 	
@@ -139,17 +198,18 @@ public class Heap {
     /*
      * Compares two Comparables objects of a Comparable array.
      * 
+     * lo is the real index of the first element of the heap (virtual index 1).
      * ix1 is the index of the first object to be compared.
      * ix2 is the index of the second object to be compared.
      * returns true if arr[ix1] is less than arr[ix2]. Returns
      * false otherwise.
      */
     
-    private static boolean isLess(Comparable[] arr, int ix1, int ix2) {
+    private static boolean isLess(Comparable[] arr, int lo, int ix1, int ix2) {
         // corrects virtual indexes of heap sort to
         // map to real indexes of 0 based java arrays
-        --ix1;
-        --ix2;
+        ix1 += lo - 1;
+        ix2 += lo - 1;
 	
         return arr[ix1].compareTo(arr[ix2]) < 0; // -1 when less
     }
@@ -162,8 +222,9 @@ public class Heap {
      */
     
     public static boolean isSorted(Comparable[] arr) {
+        // isLess() takes virtual indexes (real index + 1)
         for (int i = 0; i < arr.length - 1; ++i) {
-            if (!isLess(arr, i, i + 1)) {
+            if (!isLess(arr, 0, i + 1, i + 2)) {
                 return false;
             }
         }
@@ -171,6 +232,1636 @@ public class Heap {
         return true;
     }
 
+    /**
+     * Sorts a Comparable array using bottom-up (Floyd) Heap sort.
+     * Each sortdown step moves the hole left by the maximum down to a leaf with a single
+     * compare per level (it always follows the biggest child) and then sifts the last element
+     * of the heap up from that leaf, which is usually only a level or two. Hence, it does
+     * about half the compares of sort(). Real (0-based) indexes are used so no virtual index
+     * is converted.
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is a Comparable array.
+     */
+
+    public static void bottomUpSort(Comparable[] arr) {
+        bottomUpSortRange(arr, 0, arr.length - 1, 2);
+    }
+
+    /**
+     * Sorts a Comparable array using bottom-up Heap sort on a d-ary heap.
+     * Each node has arity children instead of two, so the heap has log_arity(N) levels and
+     * the children of a node are contiguous in memory, which is cache friendlier on big arrays
+     * (e.g., arity 4 or 8).
+     * Complexity: O(arity*N*log_arity(N)) compares in the worst case.
+     *
+     * @param arr is a Comparable array.
+     * @param arity is the number of children of each node of the heap (a power of two: 2, 4, 8, ...).
+     * @throws java.lang.IllegalArgumentException if arity is not a power of two bigger than 1.
+     */
+
+    public static void bottomUpSort(Comparable[] arr, int arity) {
+        if (arity < 2 || (arity & (arity - 1)) != 0) {
+            throw new IllegalArgumentException("Heap arity must be a power of two bigger than 1.");
+        }
+
+        bottomUpSortRange(arr, 0, arr.length - 1, arity);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a Comparable array using bottom-up Heap sort.
+     * Complexity: O(N*log(N)) compares in the worst case for a range of N elements.
+     *
+     * @param arr is a Comparable array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void bottomUpSort(Comparable[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        bottomUpSortRange(arr, fromIndex, toIndex - 1, 2);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using bottom-up Heap sort on a heap whose nodes have
+     * arity children. The root of the heap is arr[lo] and the children of the node at real
+     * index lo + i are at lo + arity*i + 1 .. lo + arity*i + arity. The arity is a power of
+     * two so children and parents are found with shifts instead of divisions.
+     *
+     * This method is also the O(N*log(N)) fallback of Quick's introSort() and dualPivotSort().
+     */
+
+    static void bottomUpSortRange(Comparable[] arr, int lo, int hi, int arity) {
+        bottomUpSortRange(arr, lo, hi, arity, null);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using bottom-up Heap sort (see above) and records the
+     * compares, writes and the "heapify" and "sortdown" phases of the sort on stats (null
+     * when it is not instrumented). Also used by the instrumented introSort() of Quick.
+     */
+
+    static void bottomUpSortRange(Comparable[] arr, int lo, int hi, int arity, SortStats stats) {
+        int heapSize = hi - lo + 1;
+        int shift = Integer.numberOfTrailingZeros(arity);   // arity == 2^shift
+
+        if (heapSize < 2) { return; }
+
+        // builds the heap: top-down sinks of every parent, from the last one to the root
+        long start = SortStats.start(stats);
+        int lastParent = (heapSize - 2) >>> shift;
+        for (int i = lastParent; i >= 0; --i) {
+            Comparable item = arr[lo + i];
+            int hole = i;
+
+            while (hole <= lastParent) {
+                int child = maxChild(arr, lo, hole, heapSize, shift, stats);
+
+                SortStats.compare(stats);
+                if (item.compareTo(arr[lo + child]) >= 0) { break; }
+
+                arr[lo + hole] = arr[lo + child];
+                SortStats.write(stats);
+                hole = child;
+            }
+            arr[lo + hole] = item;
+            SortStats.write(stats);
+        }
+        SortStats.time(stats, "heapify", start);
+
+        // sortdown: moves the maximum to the end and reheapifies the remaining elements
+        start = SortStats.start(stats);
+        for (int end = heapSize - 1; end > 0; --end) {
+            Comparable item = arr[lo + end];          // the last element leaves room for the maximum
+            arr[lo + end] = arr[lo];
+            SortStats.write(stats);
+
+            // moves the hole of the root down to a leaf through the biggest children
+            int hole = 0;
+            lastParent = end >= 2 ? (end - 2) >>> shift : -1;
+            while (hole <= lastParent) {
+                int child = maxChild(arr, lo, hole, end, shift, stats);
+
+                arr[lo + hole] = arr[lo + child];
+                SortStats.write(stats);
+                hole = child;
+            }
+
+            // sifts item up from the leaf to its position
+            while (hole > 0) {
+                int parent = (hole - 1) >>> shift;
+
+                SortStats.compare(stats);
+                if (arr[lo + parent].compareTo(item) >= 0) { break; }
+
+                arr[lo + hole] = arr[lo + parent];
+                SortStats.write(stats);
+                hole = parent;
+            }
+            arr[lo + hole] = item;
+            SortStats.write(stats);
+        }
+        SortStats.time(stats, "sortdown", start);
+    }
+
+    /*
+     * Returns the (relative) index of the biggest child of the node at relative index
+     * parent of a heap of heapSize elements rooted at arr[lo] whose nodes have 2^shift
+     * children and records its compares on stats. The node must have a child.
+     */
+
+    private static int maxChild(Comparable[] arr, int lo, int parent, int heapSize, int shift, SortStats stats) {
+        int first = (parent << shift) + 1;
+
+        // binary heap: a single compare without the loop
+        if (shift == 1) {
+            return first + 1 < heapSize && isLess(arr[lo + first], arr[lo + first + 1], stats) ? first + 1 : first;
+        }
+
+        int last = Math.min(first + (1 << shift), heapSize);   // exclusive
+        int biggest = first;
+
+        for (int child = first + 1; child < last; ++child) {
+            if (isLess(arr[lo + biggest], arr[lo + child], stats)) {
+                biggest = child;
+            }
+        }
+
+        return biggest;
+    }
+
+    /**
+     * Sorts an array using Heap sort and the order defined by a Comparator.
+     * Complexity: O(N*log(N)) swaps.
+     *
+     * @param arr is an array of any type.
+     * @param comparator defines the order of the elements of arr.
+     */
+
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator) {
+        sort(arr, comparator, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an array using Heap sort
+     * and the order defined by a Comparator.
+     * Complexity: O(N*log(N)) swaps for a range of N elements.
+     *
+     * @param arr is an array of any type.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @param comparator defines the order of the elements of arr.
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static <T> void sort(T[] arr, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        sort(arr, comparator, fromIndex, toIndex - 1);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using Heap sort and a Comparator (see the Comparable version).
+     */
+
+    static void sort(Object[] arr, Comparator c, int lo, int hi) {
+        int heapSize = hi - lo + 1;
+
+        for (int heapIndex = heapSize/2; heapIndex >= 1; --heapIndex) {
+            sink(arr, c, lo, heapIndex, heapSize);
+        }
+
+        while (heapSize > 1) {
+            swap(arr, lo, 1, heapSize);
+            --heapSize;
+            sink(arr, c, lo, 1, heapSize);
+        }
+    }
+
+    /*
+     * Sinks the element at the virtual index heapIndex of the heap arr[lo .. lo + heapSize - 1].
+     */
+
+    private static void sink(Object[] arr, Comparator c, int lo, int heapIndex, int heapSize) {
+        while (2 * heapIndex <= heapSize) {
+            int parent = heapIndex;
+            int biggestChild = 2 * heapIndex;
+
+            if (biggestChild < heapSize && isLess(arr, c, lo, biggestChild, biggestChild + 1)) {
+                ++biggestChild;
+            }
+
+            if (isLess(arr, c, lo, biggestChild, parent)) {
+                break;
+            }
+
+            swap(arr, lo, biggestChild, parent);
+            heapIndex = biggestChild;
+        }
+    }
+
+    /*
+     * Swaps two elements of an array of any type given their virtual indexes.
+     */
+
+    private static void swap(Object[] arr, int lo, int ix1, int ix2) {
+        ix1 += lo - 1;
+        ix2 += lo - 1;
+
+        Object temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /*
+     * Compares two elements of an array with a Comparator given their virtual indexes.
+     */
+
+    private static boolean isLess(Object[] arr, Comparator c, int lo, int ix1, int ix2) {
+        return c.compare(arr[ix1 + lo - 1], arr[ix2 + lo - 1]) < 0;
+    }
+
+    /**
+     * Sorts an array using bottom-up (Floyd) Heap sort
+     * and the order defined by a Comparator.
+     * Each sortdown step moves the hole left by the maximum down to a leaf with a single
+     * compare per level (it always follows the biggest child) and then sifts the last element
+     * of the heap up from that leaf, which is usually only a level or two. Hence, it does
+     * about half the compares of sort(). Real (0-based) indexes are used so no virtual index
+     * is converted.
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is an array of any type.
+     * @param comparator defines the order of the elements of arr.
+     */
+
+    public static <T> void bottomUpSort(T[] arr, Comparator<? super T> comparator) {
+        bottomUpSortRange(arr, comparator, 0, arr.length - 1, 2);
+    }
+
+    /**
+     * Sorts an array using bottom-up Heap sort on a d-ary heap
+     * and the order defined by a Comparator.
+     * Each node has arity children instead of two, so the heap has log_arity(N) levels and
+     * the children of a node are contiguous in memory, which is cache friendlier on big arrays
+     * (e.g., arity 4 or 8).
+     * Complexity: O(arity*N*log_arity(N)) compares in the worst case.
+     *
+     * @param arr is an array of any type.
+     * @param arity is the number of children of each node of the heap (a power of two: 2, 4, 8, ...).
+     * @param comparator defines the order of the elements of arr.
+     * @throws java.lang.IllegalArgumentException if arity is not a power of two bigger than 1.
+     */
+
+    public static <T> void bottomUpSort(T[] arr, int arity, Comparator<? super T> comparator) {
+        if (arity < 2 || (arity & (arity - 1)) != 0) {
+            throw new IllegalArgumentException("Heap arity must be a power of two bigger than 1.");
+        }
+
+        bottomUpSortRange(arr, comparator, 0, arr.length - 1, arity);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an array using bottom-up Heap sort
+     * and the order defined by a Comparator.
+     * Complexity: O(N*log(N)) compares in the worst case for a range of N elements.
+     *
+     * @param arr is an array of any type.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @param comparator defines the order of the elements of arr.
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static <T> void bottomUpSort(T[] arr, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        bottomUpSortRange(arr, comparator, fromIndex, toIndex - 1, 2);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using bottom-up Heap sort on a heap whose nodes have
+     * arity children. The root of the heap is arr[lo] and the children of the node at real
+     * index lo + i are at lo + arity*i + 1 .. lo + arity*i + arity. The arity is a power of
+     * two so children and parents are found with shifts instead of divisions.
+     *
+     * This method is also the O(N*log(N)) fallback of Quick's introSort().
+     */
+
+    static void bottomUpSortRange(Object[] arr, Comparator c, int lo, int hi, int arity) {
+        int heapSize = hi - lo + 1;
+        int shift = Integer.numberOfTrailingZeros(arity);   // arity == 2^shift
+
+        if (heapSize < 2) { return; }
+
+        // builds the heap: top-down sinks of every parent, from the last one to the root
+        int lastParent = (heapSize - 2) >>> shift;
+        for (int i = lastParent; i >= 0; --i) {
+            Object item = arr[lo + i];
+            int hole = i;
+
+            while (hole <= lastParent) {
+                int child = maxChild(arr, c, lo, hole, heapSize, shift);
+
+                if (c.compare(item, arr[lo + child]) >= 0) { break; }
+
+                arr[lo + hole] = arr[lo + child];
+                hole = child;
+            }
+            arr[lo + hole] = item;
+        }
+
+        // sortdown: moves the maximum to the end and reheapifies the remaining elements
+        for (int end = heapSize - 1; end > 0; --end) {
+            Object item = arr[lo + end];          // the last element leaves room for the maximum
+            arr[lo + end] = arr[lo];
+
+            // moves the hole of the root down to a leaf through the biggest children
+            int hole = 0;
+            lastParent = end >= 2 ? (end - 2) >>> shift : -1;
+            while (hole <= lastParent) {
+                int child = maxChild(arr, c, lo, hole, end, shift);
+
+                arr[lo + hole] = arr[lo + child];
+                hole = child;
+            }
+
+            // sifts item up from the leaf to its position
+            while (hole > 0) {
+                int parent = (hole - 1) >>> shift;
+
+                if (c.compare(arr[lo + parent], item) >= 0) { break; }
+
+                arr[lo + hole] = arr[lo + parent];
+                hole = parent;
+            }
+            arr[lo + hole] = item;
+        }
+    }
+
+    /*
+     * Returns the (relative) index of the biggest child of the node at relative index
+     * parent of a heap of heapSize elements rooted at arr[lo] whose nodes have 2^shift
+     * children. The node must have a child.
+     */
+
+    private static int maxChild(Object[] arr, Comparator c, int lo, int parent, int heapSize, int shift) {
+        int first = (parent << shift) + 1;
+
+        // binary heap: a single compare without the loop
+        if (shift == 1) {
+            return first + 1 < heapSize && c.compare(arr[lo + first], arr[lo + first + 1]) < 0 ? first + 1 : first;
+        }
+
+        int last = Math.min(first + (1 << shift), heapSize);   // exclusive
+        int biggest = first;
+
+        for (int child = first + 1; child < last; ++child) {
+            if (c.compare(arr[lo + biggest], arr[lo + child]) < 0) {
+                biggest = child;
+            }
+        }
+
+        return biggest;
+    }
+
+    /**
+     * Sorts an array by the keys computed by keyExtractor using Heap sort. The key of each
+     * element is computed only once and cached next to it (decorate-sort-undecorate).
+     *
+     * @param arr is an array of any type.
+     * @param keyExtractor is the function that computes the Comparable sort key of an element.
+     */
+
+    public static <T, K extends Comparable<? super K>> void sort(T[] arr, Function<? super T, ? extends K> keyExtractor) {
+        CachedKey[] decorated = CachedKey.decorate(arr, keyExtractor);
+
+        sort(decorated);
+        CachedKey.undecorate(decorated, arr);
+    }
+
+    /**
+     * Sorts an int array using Heap sort. No boxing is done.
+     * Complexity: O(N*log(N)) swaps.
+     *
+     * @param arr is a reference to an int array.
+     */
+
+    public static void sort(int[] arr) {
+        classicSort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an int array using Heap sort.
+     * Complexity: O(N*log(N)) swaps for a range of N elements.
+     *
+     * @param arr is an int array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(int[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        classicSort(arr, fromIndex, toIndex - 1);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using Heap sort (see the Comparable version).
+     */
+
+    static void classicSort(int[] arr, int lo, int hi) {
+        int heapSize = hi - lo + 1;
+
+        for (int heapIndex = heapSize/2; heapIndex >= 1; --heapIndex) {
+            sink(arr, lo, heapIndex, heapSize);
+        }
+
+        while (heapSize > 1) {
+            swap(arr, lo, 1, heapSize);
+            --heapSize;
+            sink(arr, lo, 1, heapSize);
+        }
+    }
+
+    /*
+     * Sinks the element at the virtual index heapIndex of the heap arr[lo .. lo + heapSize - 1].
+     */
+
+    private static void sink(int[] arr, int lo, int heapIndex, int heapSize) {
+        while (2 * heapIndex <= heapSize) {
+            int parent = heapIndex;
+            int biggestChild = 2 * heapIndex;
+
+            if (biggestChild < heapSize && isLess(arr, lo, biggestChild, biggestChild + 1)) {
+                ++biggestChild;
+            }
+
+            if (isLess(arr, lo, biggestChild, parent)) {
+                break;
+            }
+
+            swap(arr, lo, biggestChild, parent);
+            heapIndex = biggestChild;
+        }
+    }
+
+    /*
+     * Swaps two elements of an int array given their virtual indexes.
+     */
+
+    private static void swap(int[] arr, int lo, int ix1, int ix2) {
+        ix1 += lo - 1;
+        ix2 += lo - 1;
+
+        int temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /*
+     * Compares two elements of an int array given their virtual indexes.
+     */
+
+    private static boolean isLess(int[] arr, int lo, int ix1, int ix2) {
+        return isLess(arr[ix1 + lo - 1], arr[ix2 + lo - 1]);
+    }
+
+    /*
+     * Compares two int values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(int one, int another) {
+        return one < another;
+    }
+
+    /**
+     * Sorts an int array using bottom-up (Floyd) Heap sort.
+     * Each sortdown step moves the hole left by the maximum down to a leaf with a single
+     * compare per level (it always follows the biggest child) and then sifts the last element
+     * of the heap up from that leaf, which is usually only a level or two. Hence, it does
+     * about half the compares of sort(). Real (0-based) indexes are used so no virtual index
+     * is converted.
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is an int array.
+     */
+
+    public static void bottomUpSort(int[] arr) {
+        bottomUpSortRange(arr, 0, arr.length - 1, 2);
+    }
+
+    /**
+     * Sorts an int array using bottom-up Heap sort on a d-ary heap.
+     * Each node has arity children instead of two, so the heap has log_arity(N) levels and
+     * the children of a node are contiguous in memory, which is cache friendlier on big arrays
+     * (e.g., arity 4 or 8).
+     * Complexity: O(arity*N*log_arity(N)) compares in the worst case.
+     *
+     * @param arr is an int array.
+     * @param arity is the number of children of each node of the heap (a power of two: 2, 4, 8, ...).
+     * @throws java.lang.IllegalArgumentException if arity is not a power of two bigger than 1.
+     */
+
+    public static void bottomUpSort(int[] arr, int arity) {
+        if (arity < 2 || (arity & (arity - 1)) != 0) {
+            throw new IllegalArgumentException("Heap arity must be a power of two bigger than 1.");
+        }
+
+        bottomUpSortRange(arr, 0, arr.length - 1, arity);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an int array using bottom-up Heap sort.
+     * Complexity: O(N*log(N)) compares in the worst case for a range of N elements.
+     *
+     * @param arr is an int array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void bottomUpSort(int[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        bottomUpSortRange(arr, fromIndex, toIndex - 1, 2);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using bottom-up Heap sort on a heap whose nodes have
+     * arity children. The root of the heap is arr[lo] and the children of the node at real
+     * index lo + i are at lo + arity*i + 1 .. lo + arity*i + arity. The arity is a power of
+     * two so children and parents are found with shifts instead of divisions.
+     *
+     * This method is also the O(N*log(N)) fallback of Quick's introSort().
+     */
+
+    static void bottomUpSortRange(int[] arr, int lo, int hi, int arity) {
+        int heapSize = hi - lo + 1;
+        int shift = Integer.numberOfTrailingZeros(arity);   // arity == 2^shift
+
+        if (heapSize < 2) { return; }
+
+        // builds the heap: top-down sinks of every parent, from the last one to the root
+        int lastParent = (heapSize - 2) >>> shift;
+        for (int i = lastParent; i >= 0; --i) {
+            int item = arr[lo + i];
+            int hole = i;
+
+            while (hole <= lastParent) {
+                int child = maxChild(arr, lo, hole, heapSize, shift);
+
+                if (!isLess(item, arr[lo + child])) { break; }
+
+                arr[lo + hole] = arr[lo + child];
+                hole = child;
+            }
+            arr[lo + hole] = item;
+        }
+
+        // sortdown: moves the maximum to the end and reheapifies the remaining elements
+        for (int end = heapSize - 1; end > 0; --end) {
+            int item = arr[lo + end];          // the last element leaves room for the maximum
+            arr[lo + end] = arr[lo];
+
+            // moves the hole of the root down to a leaf through the biggest children
+            int hole = 0;
+            lastParent = end >= 2 ? (end - 2) >>> shift : -1;
+            while (hole <= lastParent) {
+                int child = maxChild(arr, lo, hole, end, shift);
+
+                arr[lo + hole] = arr[lo + child];
+                hole = child;
+            }
+
+            // sifts item up from the leaf to its position
+            while (hole > 0) {
+                int parent = (hole - 1) >>> shift;
+
+                if (!isLess(arr[lo + parent], item)) { break; }
+
+                arr[lo + hole] = arr[lo + parent];
+                hole = parent;
+            }
+            arr[lo + hole] = item;
+        }
+    }
+
+    /*
+     * Returns the (relative) index of the biggest child of the node at relative index
+     * parent of a heap of heapSize elements rooted at arr[lo] whose nodes have 2^shift
+     * children. The node must have a child.
+     */
+
+    private static int maxChild(int[] arr, int lo, int parent, int heapSize, int shift) {
+        int first = (parent << shift) + 1;
+
+        // binary heap: a single compare without the loop
+        if (shift == 1) {
+            return first + 1 < heapSize && isLess(arr[lo + first], arr[lo + first + 1]) ? first + 1 : first;
+        }
+
+        int last = Math.min(first + (1 << shift), heapSize);   // exclusive
+        int biggest = first;
+
+        for (int child = first + 1; child < last; ++child) {
+            if (isLess(arr[lo + biggest], arr[lo + child])) {
+                biggest = child;
+            }
+        }
+
+        return biggest;
+    }
+
+    /**
+     * Convenience method that checks if an int array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to an int array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(int[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts a long array using Heap sort. No boxing is done.
+     * Complexity: O(N*log(N)) swaps.
+     *
+     * @param arr is a reference to a long array.
+     */
+
+    public static void sort(long[] arr) {
+        classicSort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a long array using Heap sort.
+     * Complexity: O(N*log(N)) swaps for a range of N elements.
+     *
+     * @param arr is a long array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(long[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        classicSort(arr, fromIndex, toIndex - 1);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using Heap sort (see the Comparable version).
+     */
+
+    static void classicSort(long[] arr, int lo, int hi) {
+        int heapSize = hi - lo + 1;
+
+        for (int heapIndex = heapSize/2; heapIndex >= 1; --heapIndex) {
+            sink(arr, lo, heapIndex, heapSize);
+        }
+
+        while (heapSize > 1) {
+            swap(arr, lo, 1, heapSize);
+            --heapSize;
+            sink(arr, lo, 1, heapSize);
+        }
+    }
+
+    /*
+     * Sinks the element at the virtual index heapIndex of the heap arr[lo .. lo + heapSize - 1].
+     */
+
+    private static void sink(long[] arr, int lo, int heapIndex, int heapSize) {
+        while (2 * heapIndex <= heapSize) {
+            int parent = heapIndex;
+            int biggestChild = 2 * heapIndex;
+
+            if (biggestChild < heapSize && isLess(arr, lo, biggestChild, biggestChild + 1)) {
+                ++biggestChild;
+            }
+
+            if (isLess(arr, lo, biggestChild, parent)) {
+                break;
+            }
+
+            swap(arr, lo, biggestChild, parent);
+            heapIndex = biggestChild;
+        }
+    }
+
+    /*
+     * Swaps two elements of a long array given their virtual indexes.
+     */
+
+    private static void swap(long[] arr, int lo, int ix1, int ix2) {
+        ix1 += lo - 1;
+        ix2 += lo - 1;
+
+        long temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /*
+     * Compares two elements of a long array given their virtual indexes.
+     */
+
+    private static boolean isLess(long[] arr, int lo, int ix1, int ix2) {
+        return isLess(arr[ix1 + lo - 1], arr[ix2 + lo - 1]);
+    }
+
+    /*
+     * Compares two long values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(long one, long another) {
+        return one < another;
+    }
+
+    /**
+     * Sorts a long array using bottom-up (Floyd) Heap sort.
+     * Each sortdown step moves the hole left by the maximum down to a leaf with a single
+     * compare per level (it always follows the biggest child) and then sifts the last element
+     * of the heap up from that leaf, which is usually only a level or two. Hence, it does
+     * about half the compares of sort(). Real (0-based) indexes are used so no virtual index
+     * is converted.
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is a long array.
+     */
+
+    public static void bottomUpSort(long[] arr) {
+        bottomUpSortRange(arr, 0, arr.length - 1, 2);
+    }
+
+    /**
+     * Sorts a long array using bottom-up Heap sort on a d-ary heap.
+     * Each node has arity children instead of two, so the heap has log_arity(N) levels and
+     * the children of a node are contiguous in memory, which is cache friendlier on big arrays
+     * (e.g., arity 4 or 8).
+     * Complexity: O(arity*N*log_arity(N)) compares in the worst case.
+     *
+     * @param arr is a long array.
+     * @param arity is the number of children of each node of the heap (a power of two: 2, 4, 8, ...).
+     * @throws java.lang.IllegalArgumentException if arity is not a power of two bigger than 1.
+     */
+
+    public static void bottomUpSort(long[] arr, int arity) {
+        if (arity < 2 || (arity & (arity - 1)) != 0) {
+            throw new IllegalArgumentException("Heap arity must be a power of two bigger than 1.");
+        }
+
+        bottomUpSortRange(arr, 0, arr.length - 1, arity);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a long array using bottom-up Heap sort.
+     * Complexity: O(N*log(N)) compares in the worst case for a range of N elements.
+     *
+     * @param arr is a long array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void bottomUpSort(long[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        bottomUpSortRange(arr, fromIndex, toIndex - 1, 2);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using bottom-up Heap sort on a heap whose nodes have
+     * arity children. The root of the heap is arr[lo] and the children of the node at real
+     * index lo + i are at lo + arity*i + 1 .. lo + arity*i + arity. The arity is a power of
+     * two so children and parents are found with shifts instead of divisions.
+     *
+     * This method is also the O(N*log(N)) fallback of Quick's introSort().
+     */
+
+    static void bottomUpSortRange(long[] arr, int lo, int hi, int arity) {
+        int heapSize = hi - lo + 1;
+        int shift = Integer.numberOfTrailingZeros(arity);   // arity == 2^shift
+
+        if (heapSize < 2) { return; }
+
+        // builds the heap: top-down sinks of every parent, from the last one to the root
+        int lastParent = (heapSize - 2) >>> shift;
+        for (int i = lastParent; i >= 0; --i) {
+            long item = arr[lo + i];
+            int hole = i;
+
+            while (hole <= lastParent) {
+                int child = maxChild(arr, lo, hole, heapSize, shift);
+
+                if (!isLess(item, arr[lo + child])) { break; }
+
+                arr[lo + hole] = arr[lo + child];
+                hole = child;
+            }
+            arr[lo + hole] = item;
+        }
+
+        // sortdown: moves the maximum to the end and reheapifies the remaining elements
+        for (int end = heapSize - 1; end > 0; --end) {
+            long item = arr[lo + end];          // the last element leaves room for the maximum
+            arr[lo + end] = arr[lo];
+
+            // moves the hole of the root down to a leaf through the biggest children
+            int hole = 0;
+            lastParent = end >= 2 ? (end - 2) >>> shift : -1;
+            while (hole <= lastParent) {
+                int child = maxChild(arr, lo, hole, end, shift);
+
+                arr[lo + hole] = arr[lo + child];
+                hole = child;
+            }
+
+            // sifts item up from the leaf to its position
+            while (hole > 0) {
+                int parent = (hole - 1) >>> shift;
+
+                if (!isLess(arr[lo + parent], item)) { break; }
+
+                arr[lo + hole] = arr[lo + parent];
+                hole = parent;
+            }
+            arr[lo + hole] = item;
+        }
+    }
+
+    /*
+     * Returns the (relative) index of the biggest child of the node at relative index
+     * parent of a heap of heapSize elements rooted at arr[lo] whose nodes have 2^shift
+     * children. The node must have a child.
+     */
+
+    private static int maxChild(long[] arr, int lo, int parent, int heapSize, int shift) {
+        int first = (parent << shift) + 1;
+
+        // binary heap: a single compare without the loop
+        if (shift == 1) {
+            return first + 1 < heapSize && isLess(arr[lo + first], arr[lo + first + 1]) ? first + 1 : first;
+        }
+
+        int last = Math.min(first + (1 << shift), heapSize);   // exclusive
+        int biggest = first;
+
+        for (int child = first + 1; child < last; ++child) {
+            if (isLess(arr[lo + biggest], arr[lo + child])) {
+                biggest = child;
+            }
+        }
+
+        return biggest;
+    }
+
+    /**
+     * Convenience method that checks if a long array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a long array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(long[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts a double array using Heap sort. No boxing is done.
+     * Complexity: O(N*log(N)) swaps.
+     *
+     * @param arr is a reference to a double array.
+     */
+
+    public static void sort(double[] arr) {
+        classicSort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a double array using Heap sort.
+     * Complexity: O(N*log(N)) swaps for a range of N elements.
+     *
+     * @param arr is a double array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(double[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        classicSort(arr, fromIndex, toIndex - 1);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using Heap sort (see the Comparable version).
+     */
+
+    static void classicSort(double[] arr, int lo, int hi) {
+        int heapSize = hi - lo + 1;
+
+        for (int heapIndex = heapSize/2; heapIndex >= 1; --heapIndex) {
+            sink(arr, lo, heapIndex, heapSize);
+        }
+
+        while (heapSize > 1) {
+            swap(arr, lo, 1, heapSize);
+            --heapSize;
+            sink(arr, lo, 1, heapSize);
+        }
+    }
+
+    /*
+     * Sinks the element at the virtual index heapIndex of the heap arr[lo .. lo + heapSize - 1].
+     */
+
+    private static void sink(double[] arr, int lo, int heapIndex, int heapSize) {
+        while (2 * heapIndex <= heapSize) {
+            int parent = heapIndex;
+            int biggestChild = 2 * heapIndex;
+
+            if (biggestChild < heapSize && isLess(arr, lo, biggestChild, biggestChild + 1)) {
+                ++biggestChild;
+            }
+
+            if (isLess(arr, lo, biggestChild, parent)) {
+                break;
+            }
+
+            swap(arr, lo, biggestChild, parent);
+            heapIndex = biggestChild;
+        }
+    }
+
+    /*
+     * Swaps two elements of a double array given their virtual indexes.
+     */
+
+    private static void swap(double[] arr, int lo, int ix1, int ix2) {
+        ix1 += lo - 1;
+        ix2 += lo - 1;
+
+        double temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /*
+     * Compares two elements of a double array given their virtual indexes.
+     */
+
+    private static boolean isLess(double[] arr, int lo, int ix1, int ix2) {
+        return isLess(arr[ix1 + lo - 1], arr[ix2 + lo - 1]);
+    }
+
+    /*
+     * Compares two double values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(double one, double another) {
+        // Double.compare() orders -0.0 before 0.0 and NaN after every other value
+        return Double.compare(one, another) < 0;
+    }
+
+    /**
+     * Sorts a double array using bottom-up (Floyd) Heap sort.
+     * Each sortdown step moves the hole left by the maximum down to a leaf with a single
+     * compare per level (it always follows the biggest child) and then sifts the last element
+     * of the heap up from that leaf, which is usually only a level or two. Hence, it does
+     * about half the compares of sort(). Real (0-based) indexes are used so no virtual index
+     * is converted.
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is a double array.
+     */
+
+    public static void bottomUpSort(double[] arr) {
+        bottomUpSortRange(arr, 0, arr.length - 1, 2);
+    }
+
+    /**
+     * Sorts a double array using bottom-up Heap sort on a d-ary heap.
+     * Each node has arity children instead of two, so the heap has log_arity(N) levels and
+     * the children of a node are contiguous in memory, which is cache friendlier on big arrays
+     * (e.g., arity 4 or 8).
+     * Complexity: O(arity*N*log_arity(N)) compares in the worst case.
+     *
+     * @param arr is a double array.
+     * @param arity is the number of children of each node of the heap (a power of two: 2, 4, 8, ...).
+     * @throws java.lang.IllegalArgumentException if arity is not a power of two bigger than 1.
+     */
+
+    public static void bottomUpSort(double[] arr, int arity) {
+        if (arity < 2 || (arity & (arity - 1)) != 0) {
+            throw new IllegalArgumentException("Heap arity must be a power of two bigger than 1.");
+        }
+
+        bottomUpSortRange(arr, 0, arr.length - 1, arity);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a double array using bottom-up Heap sort.
+     * Complexity: O(N*log(N)) compares in the worst case for a range of N elements.
+     *
+     * @param arr is a double array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void bottomUpSort(double[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        bottomUpSortRange(arr, fromIndex, toIndex - 1, 2);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using bottom-up Heap sort on a heap whose nodes have
+     * arity children. The root of the heap is arr[lo] and the children of the node at real
+     * index lo + i are at lo + arity*i + 1 .. lo + arity*i + arity. The arity is a power of
+     * two so children and parents are found with shifts instead of divisions.
+     *
+     * This method is also the O(N*log(N)) fallback of Quick's introSort().
+     */
+
+    static void bottomUpSortRange(double[] arr, int lo, int hi, int arity) {
+        int heapSize = hi - lo + 1;
+        int shift = Integer.numberOfTrailingZeros(arity);   // arity == 2^shift
+
+        if (heapSize < 2) { return; }
+
+        // builds the heap: top-down sinks of every parent, from the last one to the root
+        int lastParent = (heapSize - 2) >>> shift;
+        for (int i = lastParent; i >= 0; --i) {
+            double item = arr[lo + i];
+            int hole = i;
+
+            while (hole <= lastParent) {
+                int child = maxChild(arr, lo, hole, heapSize, shift);
+
+                if (!isLess(item, arr[lo + child])) { break; }
+
+                arr[lo + hole] = arr[lo + child];
+                hole = child;
+            }
+            arr[lo + hole] = item;
+        }
+
+        // sortdown: moves the maximum to the end and reheapifies the remaining elements
+        for (int end = heapSize - 1; end > 0; --end) {
+            double item = arr[lo + end];          // the last element leaves room for the maximum
+            arr[lo + end] = arr[lo];
+
+            // moves the hole of the root down to a leaf through the biggest children
+            int hole = 0;
+            lastParent = end >= 2 ? (end - 2) >>> shift : -1;
+            while (hole <= lastParent) {
+                int child = maxChild(arr, lo, hole, end, shift);
+
+                arr[lo + hole] = arr[lo + child];
+                hole = child;
+            }
+
+            // sifts item up from the leaf to its position
+            while (hole > 0) {
+                int parent = (hole - 1) >>> shift;
+
+                if (!isLess(arr[lo + parent], item)) { break; }
+
+                arr[lo + hole] = arr[lo + parent];
+                hole = parent;
+            }
+            arr[lo + hole] = item;
+        }
+    }
+
+    /*
+     * Returns the (relative) index of the biggest child of the node at relative index
+     * parent of a heap of heapSize elements rooted at arr[lo] whose nodes have 2^shift
+     * children. The node must have a child.
+     */
+
+    private static int maxChild(double[] arr, int lo, int parent, int heapSize, int shift) {
+        int first = (parent << shift) + 1;
+
+        // binary heap: a single compare without the loop
+        if (shift == 1) {
+            return first + 1 < heapSize && isLess(arr[lo + first], arr[lo + first + 1]) ? first + 1 : first;
+        }
+
+        int last = Math.min(first + (1 << shift), heapSize);   // exclusive
+        int biggest = first;
+
+        for (int child = first + 1; child < last; ++child) {
+            if (isLess(arr[lo + biggest], arr[lo + child])) {
+                biggest = child;
+            }
+        }
+
+        return biggest;
+    }
+
+    /**
+     * Convenience method that checks if a double array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a double array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(double[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts a float array using Heap sort. No boxing is done.
+     * Complexity: O(N*log(N)) swaps.
+     *
+     * @param arr is a reference to a float array.
+     */
+
+    public static void sort(float[] arr) {
+        classicSort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a float array using Heap sort.
+     * Complexity: O(N*log(N)) swaps for a range of N elements.
+     *
+     * @param arr is a float array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(float[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        classicSort(arr, fromIndex, toIndex - 1);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using Heap sort (see the Comparable version).
+     */
+
+    static void classicSort(float[] arr, int lo, int hi) {
+        int heapSize = hi - lo + 1;
+
+        for (int heapIndex = heapSize/2; heapIndex >= 1; --heapIndex) {
+            sink(arr, lo, heapIndex, heapSize);
+        }
+
+        while (heapSize > 1) {
+            swap(arr, lo, 1, heapSize);
+            --heapSize;
+            sink(arr, lo, 1, heapSize);
+        }
+    }
+
+    /*
+     * Sinks the element at the virtual index heapIndex of the heap arr[lo .. lo + heapSize - 1].
+     */
+
+    private static void sink(float[] arr, int lo, int heapIndex, int heapSize) {
+        while (2 * heapIndex <= heapSize) {
+            int parent = heapIndex;
+            int biggestChild = 2 * heapIndex;
+
+            if (biggestChild < heapSize && isLess(arr, lo, biggestChild, biggestChild + 1)) {
+                ++biggestChild;
+            }
+
+            if (isLess(arr, lo, biggestChild, parent)) {
+                break;
+            }
+
+            swap(arr, lo, biggestChild, parent);
+            heapIndex = biggestChild;
+        }
+    }
+
+    /*
+     * Swaps two elements of a float array given their virtual indexes.
+     */
+
+    private static void swap(float[] arr, int lo, int ix1, int ix2) {
+        ix1 += lo - 1;
+        ix2 += lo - 1;
+
+        float temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /*
+     * Compares two elements of a float array given their virtual indexes.
+     */
+
+    private static boolean isLess(float[] arr, int lo, int ix1, int ix2) {
+        return isLess(arr[ix1 + lo - 1], arr[ix2 + lo - 1]);
+    }
+
+    /*
+     * Compares two float values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(float one, float another) {
+        // Float.compare() orders -0.0 before 0.0 and NaN after every other value
+        return Float.compare(one, another) < 0;
+    }
+
+    /**
+     * Sorts a float array using bottom-up (Floyd) Heap sort.
+     * Each sortdown step moves the hole left by the maximum down to a leaf with a single
+     * compare per level (it always follows the biggest child) and then sifts the last element
+     * of the heap up from that leaf, which is usually only a level or two. Hence, it does
+     * about half the compares of sort(). Real (0-based) indexes are used so no virtual index
+     * is converted.
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is a float array.
+     */
+
+    public static void bottomUpSort(float[] arr) {
+        bottomUpSortRange(arr, 0, arr.length - 1, 2);
+    }
+
+    /**
+     * Sorts a float array using bottom-up Heap sort on a d-ary heap.
+     * Each node has arity children instead of two, so the heap has log_arity(N) levels and
+     * the children of a node are contiguous in memory, which is cache friendlier on big arrays
+     * (e.g., arity 4 or 8).
+     * Complexity: O(arity*N*log_arity(N)) compares in the worst case.
+     *
+     * @param arr is a float array.
+     * @param arity is the number of children of each node of the heap (a power of two: 2, 4, 8, ...).
+     * @throws java.lang.IllegalArgumentException if arity is not a power of two bigger than 1.
+     */
+
+    public static void bottomUpSort(float[] arr, int arity) {
+        if (arity < 2 || (arity & (arity - 1)) != 0) {
+            throw new IllegalArgumentException("Heap arity must be a power of two bigger than 1.");
+        }
+
+        bottomUpSortRange(arr, 0, arr.length - 1, arity);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a float array using bottom-up Heap sort.
+     * Complexity: O(N*log(N)) compares in the worst case for a range of N elements.
+     *
+     * @param arr is a float array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void bottomUpSort(float[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        bottomUpSortRange(arr, fromIndex, toIndex - 1, 2);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using bottom-up Heap sort on a heap whose nodes have
+     * arity children. The root of the heap is arr[lo] and the children of the node at real
+     * index lo + i are at lo + arity*i + 1 .. lo + arity*i + arity. The arity is a power of
+     * two so children and parents are found with shifts instead of divisions.
+     *
+     * This method is also the O(N*log(N)) fallback of Quick's introSort().
+     */
+
+    static void bottomUpSortRange(float[] arr, int lo, int hi, int arity) {
+        int heapSize = hi - lo + 1;
+        int shift = Integer.numberOfTrailingZeros(arity);   // arity == 2^shift
+
+        if (heapSize < 2) { return; }
+
+        // builds the heap: top-down sinks of every parent, from the last one to the root
+        int lastParent = (heapSize - 2) >>> shift;
+        for (int i = lastParent; i >= 0; --i) {
+            float item = arr[lo + i];
+            int hole = i;
+
+            while (hole <= lastParent) {
+                int child = maxChild(arr, lo, hole, heapSize, shift);
+
+                if (!isLess(item, arr[lo + child])) { break; }
+
+                arr[lo + hole] = arr[lo + child];
+                hole = child;
+            }
+            arr[lo + hole] = item;
+        }
+
+        // sortdown: moves the maximum to the end and reheapifies the remaining elements
+        for (int end = heapSize - 1; end > 0; --end) {
+            float item = arr[lo + end];          // the last element leaves room for the maximum
+            arr[lo + end] = arr[lo];
+
+            // moves the hole of the root down to a leaf through the biggest children
+            int hole = 0;
+            lastParent = end >= 2 ? (end - 2) >>> shift : -1;
+            while (hole <= lastParent) {
+                int child = maxChild(arr, lo, hole, end, shift);
+
+                arr[lo + hole] = arr[lo + child];
+                hole = child;
+            }
+
+            // sifts item up from the leaf to its position
+            while (hole > 0) {
+                int parent = (hole - 1) >>> shift;
+
+                if (!isLess(arr[lo + parent], item)) { break; }
+
+                arr[lo + hole] = arr[lo + parent];
+                hole = parent;
+            }
+            arr[lo + hole] = item;
+        }
+    }
+
+    /*
+     * Returns the (relative) index of the biggest child of the node at relative index
+     * parent of a heap of heapSize elements rooted at arr[lo] whose nodes have 2^shift
+     * children. The node must have a child.
+     */
+
+    private static int maxChild(float[] arr, int lo, int parent, int heapSize, int shift) {
+        int first = (parent << shift) + 1;
+
+        // binary heap: a single compare without the loop
+        if (shift == 1) {
+            return first + 1 < heapSize && isLess(arr[lo + first], arr[lo + first + 1]) ? first + 1 : first;
+        }
+
+        int last = Math.min(first + (1 << shift), heapSize);   // exclusive
+        int biggest = first;
+
+        for (int child = first + 1; child < last; ++child) {
+            if (isLess(arr[lo + biggest], arr[lo + child])) {
+                biggest = child;
+            }
+        }
+
+        return biggest;
+    }
+
+    /**
+     * Convenience method that checks if a float array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a float array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(float[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the k biggest elements of a stream of Comparable items in descending order.
+     * The items are read only once and only a bounded min-heap of the k biggest items seen
+     * so far is kept in memory, so the stream may be much bigger than the heap (e.g., the top
+     * 100 of 10^7 items). See topK(Iterator, int, Comparator).
+     * Complexity: O(N*log(k)) compares and O(k) extra memory.
+     *
+     * @param items is the stream of items.
+     * @param k is the number of biggest items to be returned.
+     * @return a DynamicArray with the min(k, N) biggest items in descending order.
+     * @throws java.lang.IllegalArgumentException if k is negative.
+     */
+
+    public static <T extends Comparable<? super T>> DynamicArray<T> topK(Iterable<T> items, int k) {
+        return topK(items.iterator(), k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns the k biggest elements of a stream of Comparable items in descending order.
+     * See topK(Iterator, int, Comparator).
+     *
+     * @param items is an iterator over the stream of items (it is exhausted by this method).
+     * @param k is the number of biggest items to be returned.
+     * @return a DynamicArray with the min(k, N) biggest items in descending order.
+     * @throws java.lang.IllegalArgumentException if k is negative.
+     */
+
+    public static <T extends Comparable<? super T>> DynamicArray<T> topK(Iterator<T> items, int k) {
+        return topK(items, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns the k biggest elements of a stream of items in the order defined by a
+     * Comparator, in descending order. See topK(Iterator, int, Comparator).
+     *
+     * @param items is the stream of items.
+     * @param k is the number of biggest items to be returned.
+     * @param comparator defines the order of the items.
+     * @return a DynamicArray with the min(k, N) biggest items in descending order.
+     * @throws java.lang.IllegalArgumentException if k is negative.
+     */
+
+    public static <T> DynamicArray<T> topK(Iterable<T> items, int k, Comparator<? super T> comparator) {
+        return topK(items.iterator(), k, comparator);
+    }
+
+    /**
+     * Returns the k biggest elements of a stream of items in the order defined by a
+     * Comparator, in descending order (the k smallest items can be found with a reversed
+     * Comparator). The k biggest items seen so far are kept on a min-heap of at most k
+     * items whose root is the smallest of them: a new item replaces the root and sinks
+     * only if it is bigger than the root, so most items of a big stream cost a single
+     * compare. At the end the heap is sorted with a sortdown just like Heap sort.
+     * Complexity: O(N*log(k)) compares and O(k) extra memory.
+     *
+     * @param items is an iterator over the stream of items (it is exhausted by this method).
+     * @param k is the number of biggest items to be returned.
+     * @param comparator defines the order of the items.
+     * @return a DynamicArray with the min(k, N) biggest items in descending order.
+     * @throws java.lang.IllegalArgumentException if k is negative.
+     */
+
+    public static <T> DynamicArray<T> topK(Iterator<T> items, int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative.");
+        }
+
+        DynamicArray<T> top = new DynamicArray<T>();
+
+        if (k == 0) { return top; }
+
+        // min-heap of the biggest items (0-based: the children of i are 2*i + 1 and 2*i + 2)
+        // it grows up to k items so a big k does not allocate memory for items that never come
+        Object[] heap = new Object[Math.min(k, 16)];
+        int heapSize = 0;
+
+        while (items.hasNext()) {
+            T item = items.next();
+
+            if (heapSize < k) {
+                if (heapSize == heap.length) {
+                    heap = Arrays.copyOf(heap, (int) Math.min(k, 2L * heapSize));
+                }
+
+                // swims the new item up from a new leaf
+                int hole = heapSize++;
+                while (hole > 0) {
+                    int parent = (hole - 1) >>> 1;
+
+                    if (comparator.compare(item, (T) heap[parent]) >= 0) { break; }
+
+                    heap[hole] = heap[parent];
+                    hole = parent;
+                }
+                heap[hole] = item;
+            } else if (comparator.compare(item, (T) heap[0]) > 0) {
+                // the item is bigger than the smallest of the top k: it replaces it
+                sinkMin(heap, comparator, item, 0, heapSize);
+            }
+        }
+
+        // sortdown: each step moves the smallest remaining item to the end of the heap
+        // so the heap ends up in descending order
+        for (int end = heapSize - 1; end > 0; --end) {
+            Object min = heap[0];
+
+            sinkMin(heap, comparator, heap[end], 0, end);
+            heap[end] = min;
+        }
+
+        // the k biggest items are appended without resizes
+        top.ensureCapacity(heapSize);
+        for (int i = 0; i < heapSize; ++i) {
+            top.append((T) heap[i]);
+        }
+
+        return top;
+    }
+
+    /*
+     * Places item at the hole heap[hole] of a min-heap of heapSize items and sinks it
+     * until the heap order is restored.
+     */
+
+    private static void sinkMin(Object[] heap, Comparator c, Object item, int hole, int heapSize) {
+        int child;
+
+        while ((child = 2*hole + 1) < heapSize) {
+            // picks the smallest child
+            if (child + 1 < heapSize && c.compare(heap[child + 1], heap[child]) < 0) {
+                ++child;
+            }
+
+            if (c.compare(item, heap[child]) <= 0) { break; }
+
+            heap[hole] = heap[child];
+            hole = child;
+        }
+        heap[hole] = item;
+    }
+
+    /**
+     * Sorts a Comparable array using Heap sort and records the compares, swaps and wall
+     * time of the sort on stats. The phases are "heapify" (heap construction) and
+     * "sortdown" (removal of the maximums). The sort is the same as sort().
+     *
+     * @param arr is a Comparable array.
+     * @param stats is the collector of the operations of the sort.
+     */
+
+    public static void sort(Comparable[] arr, SortStats stats) {
+        classicSort(arr, 0, arr.length - 1, stats);
+    }
+
+    /*
+     * Swaps two elements (virtual indexes) of a Comparable array and records the swap on stats.
+     */
+
+    private static void swap(Comparable[] arr, int lo, int ix1, int ix2, SortStats stats) {
+        SortStats.swap(stats);
+        swap(arr, lo, ix1, ix2);
+    }
+
+    /*
+     * Compares two elements (virtual indexes) of a Comparable array and records the compare on stats.
+     */
+
+    private static boolean isLess(Comparable[] arr, int lo, int ix1, int ix2, SortStats stats) {
+        SortStats.compare(stats);
+        return isLess(arr, lo, ix1, ix2);
+    }
+
+    /*
+     * Compares two Comparables objects and records the compare on stats.
+     */
+
+    private static boolean isLess(Comparable one, Comparable another, SortStats stats) {
+        SortStats.compare(stats);
+        return one.compareTo(another) < 0;
+    }
+
+    /**
+     * Sorts a Comparable array using bottom-up Heap sort and records the compares, writes
+     * and wall time of the sort on stats. The phases are "heapify" and "sortdown" just like
+     * the ones of sort(arr, stats). The sort is the same as bottomUpSort().
+     *
+     * @param arr is a Comparable array.
+     * @param stats is the collector of the operations of the sort.
+     */
+
+    public static void bottomUpSort(Comparable[] arr, SortStats stats) {
+        bottomUpSortRange(arr, 0, arr.length - 1, 2, stats);
+    }
+
     /**
      * Convenience method that prints to standard output all elements
      * of a Comparable array in an organized way, e.g., [1, 2, 3].
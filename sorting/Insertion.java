@@ -13,6 +13,16 @@
  *
  *              Insertion.sort(arrayReference)
  *
+ * Besides the classic version, which swaps an element down to its position, this class
+ * has two variants that write each element only once:
+ *
+ *      1. shiftSort(): shifts the bigger elements on the left of an element one position
+ *         to the right (half exchanges). It is the small subarray kernel of Merge and
+ *         Quick sort (see CUTOFF);
+ *      2. binarySort(): finds the position of each element with a binary search and shifts
+ *         the bigger elements in bulk. It does O(N*log(N)) compares, so it pays off only
+ *         when compares are expensive.
+ *
  * Based on Algorithms (4th ed.) by Robert Sedgewick and Kevin Wayne.
  * 
  * @author Igor G. Peternella
@@ -21,9 +31,23 @@
 
 package sorting;
 
+import java.util.Comparator;
+import java.util.function.Function;
+
 @SuppressWarnings({"unchecked", "rawtypes"})
 public class Insertion {
 
+    /**
+     * Subarrays with at most CUTOFF elements are sorted by shiftSort() instead of being
+     * split further by Merge and Quick sort, since recursing down to single elements costs
+     * more than sorting a small subarray in place (int and long subarrays go through the
+     * sorting networks of Network, which fall back to shiftSort()). It can be tuned with the
+     * sorting.insertionCutoff system property (e.g., -Dsorting.insertionCutoff=48) and
+     * 0 disables the cutoff.
+     */
+
+    public static final int CUTOFF = Math.max(0, Integer.getInteger("sorting.insertionCutoff", 32));
+
     /**
      * Method that sorts a Comparable array using Insertion sort.
      * Complexity: O(N^2) compares (isLess() operations)
@@ -32,17 +56,165 @@ public class Insertion {
      */
     
     public static void sort(Comparable[] arr) {
-        int size = arr.length;
-
-        // i = 1 moves FORWARDS to i = size - 1
-        for (int i = 1; i < size; ++i) {
-            // j = i moves BACKWARDS to j = 1
-            for (int j = i; j > 0; --j) {
-                // if arr[j] < arr[j - 1] then swap
-                if (isLess(arr[j], arr[j - 1])) {
-                    swap(arr, j, j - 1);
+        classicSort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a Comparable array using Insertion sort.
+     * Complexity: O(N^2) compares for a range of N elements and O(N) compares if it is sorted.
+     *
+     * @param arr is a Comparable array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(Comparable[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        classicSort(arr, fromIndex, toIndex - 1);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using Insertion sort. Used by other algorithms
+     * of this package to sort small subarrays (e.g., small buckets of Radix sort).
+     *
+     * arr is a reference to a Comparable array.
+     * lo is the lowest index of the subarray.
+     * hi is the highest index of the subarray.
+     */
+
+    static void classicSort(Comparable[] arr, int lo, int hi) {
+        classicSort(arr, lo, hi, null);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using Insertion sort and records the compares and
+     * swaps on stats (null when the sort is not instrumented).
+     */
+
+    private static void classicSort(Comparable[] arr, int lo, int hi, SortStats stats) {
+        // i = lo + 1 moves FORWARDS to i = hi
+        for (int i = lo + 1; i <= hi; ++i) {
+            // j = i moves BACKWARDS to j = lo + 1
+            // stops as soon as arr[j] is at its position (arr[j - 1] <= arr[j])
+            for (int j = i; j > lo && isLess(arr[j], arr[j - 1], stats); --j) {
+                swap(arr, j, j - 1, stats);
+            }
+        }
+    }
+
+    /**
+     * Sorts a Comparable array using binary Insertion sort. The position of each element is
+     * found with a binary search on the sorted elements to its left, which are then shifted
+     * in bulk with System.arraycopy(). Hence, it does O(N*log(N)) compares instead of O(N^2),
+     * which pays off when compares are expensive (e.g., Strings or Comparators). The sort is
+     * stable and an element that is not less than its left neighbour costs a single compare,
+     * so a sorted array takes O(N) compares.
+     * Complexity: O(N*log(N)) compares and O(N^2) element moves.
+     *
+     * @param arr is a Comparable array.
+     */
+
+    public static void binarySort(Comparable[] arr) {
+        binarySort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a Comparable array using binary Insertion sort.
+     * Complexity: O(N*log(N)) compares and O(N^2) element moves for a range of N elements.
+     *
+     * @param arr is a Comparable array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void binarySort(Comparable[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            Comparable item = arr[i];
+
+            // arr[fromIndex .. i] is already sorted
+            if (!isLess(item, arr[i - 1])) { continue; }
+
+            // binary search of the first element bigger than item on arr[fromIndex .. i - 1]
+            // (equal elements stay on the left of item so the sort is stable)
+            int left = fromIndex;
+            int right = i - 1;
+
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+
+                if (isLess(item, arr[mid])) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
                 }
             }
+
+            // shifts arr[left .. i - 1] one position to the right
+            System.arraycopy(arr, left, arr, left + 1, i - left);
+            arr[left] = item;
+        }
+    }
+
+    /**
+     * Sorts a Comparable array using shift Insertion sort. Each element is moved to its position
+     * with half exchanges, i.e., the bigger elements on its left are shifted one position to the
+     * right and the element is written only once instead of being swapped at every step. The
+     * sort is stable. It is the small subarray kernel of Merge and Quick sort (see CUTOFF).
+     * Complexity: O(N^2) compares and O(N) compares if the array is sorted.
+     *
+     * @param arr is a Comparable array.
+     */
+
+    public static void shiftSort(Comparable[] arr) {
+        shiftSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a Comparable array using shift Insertion sort.
+     * Complexity: O(N^2) compares for a range of N elements and O(N) compares if it is sorted.
+     *
+     * @param arr is a Comparable array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void shiftSort(Comparable[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        shiftSort(arr, fromIndex, toIndex, (SortStats) null);
+    }
+
+    /*
+     * Sorts arr[fromIndex .. toIndex - 1] using shift Insertion sort and records the compares
+     * and writes on stats (null when the sort is not instrumented). It is also the small
+     * subarray kernel of the instrumented Merge and Quick sorts.
+     */
+
+    static void shiftSort(Comparable[] arr, int fromIndex, int toIndex, SortStats stats) {
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            Comparable item = arr[i];
+            int j = i;
+
+            // half exchanges: bigger elements are shifted to the right
+            while (j > fromIndex && isLess(item, arr[j - 1], stats)) {
+                arr[j] = arr[j - 1];
+                --j;
+            }
+
+            // i - j shifts and the write of item
+            if (j != i) {
+                arr[j] = item;
+                SortStats.write(stats, i - j + 1);
+            }
         }
     }
 
@@ -91,6 +263,693 @@ public class Insertion {
         return true;
     }
 
+    /**
+     * Sorts an array using Insertion sort and the order defined by a Comparator.
+     * Complexity: O(N^2) compares (isLess() operations)
+     *
+     * @param arr is an array of any type.
+     * @param comparator defines the order of the elements of arr.
+     */
+
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator) {
+        sort(arr, comparator, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an array using Insertion sort
+     * and the order defined by a Comparator.
+     * Complexity: O(N^2) compares for a range of N elements and O(N) compares if it is sorted.
+     *
+     * @param arr is an array of any type.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @param comparator defines the order of the elements of arr.
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static <T> void sort(T[] arr, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        sort(arr, comparator, fromIndex, toIndex - 1);
+    }
+
+    /*
+     * Sorts the subarray arr[lo .. hi] using Insertion sort and a Comparator.
+     */
+
+    static void sort(Object[] arr, Comparator comparator, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; ++i) {
+            for (int j = i; j > lo && isLess(comparator, arr[j], arr[j - 1]); --j) {
+                swap(arr, j, j - 1);
+            }
+        }
+    }
+
+    /**
+     * Sorts an array using binary Insertion sort and the order defined by a Comparator
+     * (see the Comparable version).
+     *
+     * @param arr is an array of any type.
+     * @param comparator defines the order of the elements of arr.
+     */
+
+    public static <T> void binarySort(T[] arr, Comparator<? super T> comparator) {
+        binarySort(arr, 0, arr.length, comparator);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an array using binary Insertion sort
+     * and the order defined by a Comparator.
+     * Complexity: O(N*log(N)) compares and O(N^2) element moves for a range of N elements.
+     *
+     * @param arr is an array of any type.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @param comparator defines the order of the elements of arr.
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static <T> void binarySort(T[] arr, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            T item = arr[i];
+
+            // arr[fromIndex .. i] is already sorted
+            if (!isLess(comparator, item, arr[i - 1])) { continue; }
+
+            // binary search of the first element bigger than item on arr[fromIndex .. i - 1]
+            // (equal elements stay on the left of item so the sort is stable)
+            int left = fromIndex;
+            int right = i - 1;
+
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+
+                if (isLess(comparator, item, arr[mid])) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            // shifts arr[left .. i - 1] one position to the right
+            System.arraycopy(arr, left, arr, left + 1, i - left);
+            arr[left] = item;
+        }
+    }
+
+    /**
+     * Sorts an array using shift Insertion sort and the order defined by a Comparator
+     * (see the Comparable version).
+     *
+     * @param arr is an array of any type.
+     * @param comparator defines the order of the elements of arr.
+     */
+
+    public static <T> void shiftSort(T[] arr, Comparator<? super T> comparator) {
+        shiftSort(arr, 0, arr.length, comparator);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an array using shift Insertion sort
+     * and the order defined by a Comparator.
+     * Complexity: O(N^2) compares for a range of N elements and O(N) compares if it is sorted.
+     *
+     * @param arr is an array of any type.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @param comparator defines the order of the elements of arr.
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static <T> void shiftSort(T[] arr, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            T item = arr[i];
+            int j = i;
+
+            // half exchanges: bigger elements are shifted to the right
+            while (j > fromIndex && isLess(comparator, item, arr[j - 1])) {
+                arr[j] = arr[j - 1];
+                --j;
+            }
+
+            arr[j] = item;
+        }
+    }
+
+    /**
+     * Sorts an array by the keys computed by keyExtractor using Insertion sort. The key of each
+     * element is computed only once and cached next to it (decorate-sort-undecorate).
+     *
+     * @param arr is an array of any type.
+     * @param keyExtractor is the function that computes the Comparable sort key of an element.
+     */
+
+    public static <T, K extends Comparable<? super K>> void sort(T[] arr, Function<? super T, ? extends K> keyExtractor) {
+        CachedKey[] decorated = CachedKey.decorate(arr, keyExtractor);
+
+        sort(decorated);
+        CachedKey.undecorate(decorated, arr);
+    }
+
+    /*
+     * Compares two objects with a Comparator.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(Comparator c, Object one, Object another) {
+        return c.compare(one, another) < 0;
+    }
+
+    /*
+     * Swaps two elements of an array of any type.
+     */
+
+    private static void swap(Object[] arr, int ix1, int ix2) {
+        Object temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /**
+     * Method that sorts an int array using Insertion sort. No boxing is done.
+     * Complexity: O(N^2) compares (isLess() operations)
+     *
+     * @param arr is an int array.
+     */
+
+    public static void sort(int[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an int array using Insertion sort.
+     * Complexity: O(N^2) compares for a range of N elements and O(N) compares if it is sorted.
+     *
+     * @param arr is an int array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(int[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            for (int j = i; j > fromIndex && isLess(arr[j], arr[j - 1]); --j) {
+                swap(arr, j, j - 1);
+            }
+        }
+    }
+
+    /**
+     * Sorts an int array using shift Insertion sort (see the Comparable version). No boxing is done.
+     * Complexity: O(N^2) compares and O(N) compares if the array is sorted.
+     *
+     * @param arr is an int array.
+     */
+
+    public static void shiftSort(int[] arr) {
+        shiftSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an int array using shift Insertion sort.
+     * Complexity: O(N^2) compares for a range of N elements and O(N) compares if it is sorted.
+     *
+     * @param arr is an int array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void shiftSort(int[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            int item = arr[i];
+            int j = i;
+
+            // half exchanges: bigger elements are shifted to the right
+            while (j > fromIndex && isLess(item, arr[j - 1])) {
+                arr[j] = arr[j - 1];
+                --j;
+            }
+
+            arr[j] = item;
+        }
+    }
+
+    /*
+     * Swaps two elements of an int array.
+     */
+
+    private static void swap(int[] arr, int ix1, int ix2) {
+        int temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /*
+     * Compares two int values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(int one, int another) {
+        return one < another;
+    }
+
+    /**
+     * Convenience method that checks if an int array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to an int array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(int[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Method that sorts a long array using Insertion sort. No boxing is done.
+     * Complexity: O(N^2) compares (isLess() operations)
+     *
+     * @param arr is a long array.
+     */
+
+    public static void sort(long[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a long array using Insertion sort.
+     * Complexity: O(N^2) compares for a range of N elements and O(N) compares if it is sorted.
+     *
+     * @param arr is a long array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(long[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            for (int j = i; j > fromIndex && isLess(arr[j], arr[j - 1]); --j) {
+                swap(arr, j, j - 1);
+            }
+        }
+    }
+
+    /**
+     * Sorts a long array using shift Insertion sort (see the Comparable version). No boxing is done.
+     * Complexity: O(N^2) compares and O(N) compares if the array is sorted.
+     *
+     * @param arr is a long array.
+     */
+
+    public static void shiftSort(long[] arr) {
+        shiftSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a long array using shift Insertion sort.
+     * Complexity: O(N^2) compares for a range of N elements and O(N) compares if it is sorted.
+     *
+     * @param arr is a long array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void shiftSort(long[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            long item = arr[i];
+            int j = i;
+
+            // half exchanges: bigger elements are shifted to the right
+            while (j > fromIndex && isLess(item, arr[j - 1])) {
+                arr[j] = arr[j - 1];
+                --j;
+            }
+
+            arr[j] = item;
+        }
+    }
+
+    /*
+     * Swaps two elements of a long array.
+     */
+
+    private static void swap(long[] arr, int ix1, int ix2) {
+        long temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /*
+     * Compares two long values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(long one, long another) {
+        return one < another;
+    }
+
+    /**
+     * Convenience method that checks if a long array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a long array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(long[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Method that sorts a double array using Insertion sort. No boxing is done.
+     * Complexity: O(N^2) compares (isLess() operations)
+     *
+     * @param arr is a double array.
+     */
+
+    public static void sort(double[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a double array using Insertion sort.
+     * Complexity: O(N^2) compares for a range of N elements and O(N) compares if it is sorted.
+     *
+     * @param arr is a double array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(double[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            for (int j = i; j > fromIndex && isLess(arr[j], arr[j - 1]); --j) {
+                swap(arr, j, j - 1);
+            }
+        }
+    }
+
+    /**
+     * Sorts a double array using shift Insertion sort (see the Comparable version). No boxing is done.
+     * Complexity: O(N^2) compares and O(N) compares if the array is sorted.
+     *
+     * @param arr is a double array.
+     */
+
+    public static void shiftSort(double[] arr) {
+        shiftSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a double array using shift Insertion sort.
+     * Complexity: O(N^2) compares for a range of N elements and O(N) compares if it is sorted.
+     *
+     * @param arr is a double array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void shiftSort(double[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            double item = arr[i];
+            int j = i;
+
+            // half exchanges: bigger elements are shifted to the right
+            while (j > fromIndex && isLess(item, arr[j - 1])) {
+                arr[j] = arr[j - 1];
+                --j;
+            }
+
+            arr[j] = item;
+        }
+    }
+
+    /*
+     * Swaps two elements of a double array.
+     */
+
+    private static void swap(double[] arr, int ix1, int ix2) {
+        double temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /*
+     * Compares two double values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(double one, double another) {
+        // Double.compare() orders -0.0 before 0.0 and NaN after every other value
+        return Double.compare(one, another) < 0;
+    }
+
+    /**
+     * Convenience method that checks if a double array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a double array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(double[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Method that sorts a float array using Insertion sort. No boxing is done.
+     * Complexity: O(N^2) compares (isLess() operations)
+     *
+     * @param arr is a float array.
+     */
+
+    public static void sort(float[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a float array using Insertion sort.
+     * Complexity: O(N^2) compares for a range of N elements and O(N) compares if it is sorted.
+     *
+     * @param arr is a float array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(float[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            for (int j = i; j > fromIndex && isLess(arr[j], arr[j - 1]); --j) {
+                swap(arr, j, j - 1);
+            }
+        }
+    }
+
+    /**
+     * Sorts a float array using shift Insertion sort (see the Comparable version). No boxing is done.
+     * Complexity: O(N^2) compares and O(N) compares if the array is sorted.
+     *
+     * @param arr is a float array.
+     */
+
+    public static void shiftSort(float[] arr) {
+        shiftSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a float array using shift Insertion sort.
+     * Complexity: O(N^2) compares for a range of N elements and O(N) compares if it is sorted.
+     *
+     * @param arr is a float array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void shiftSort(float[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            float item = arr[i];
+            int j = i;
+
+            // half exchanges: bigger elements are shifted to the right
+            while (j > fromIndex && isLess(item, arr[j - 1])) {
+                arr[j] = arr[j - 1];
+                --j;
+            }
+
+            arr[j] = item;
+        }
+    }
+
+    /*
+     * Swaps two elements of a float array.
+     */
+
+    private static void swap(float[] arr, int ix1, int ix2) {
+        float temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /*
+     * Compares two float values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(float one, float another) {
+        // Float.compare() orders -0.0 before 0.0 and NaN after every other value
+        return Float.compare(one, another) < 0;
+    }
+
+    /**
+     * Convenience method that checks if a float array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a float array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(float[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts a Comparable array using Insertion sort and records the compares, swaps and
+     * wall time ("sort" phase) of the sort on stats. The sort is the same as sort().
+     *
+     * @param arr is a Comparable array.
+     * @param stats is the collector of the operations of the sort.
+     */
+
+    public static void sort(Comparable[] arr, SortStats stats) {
+        long start = SortStats.start(stats);
+
+        classicSort(arr, 0, arr.length - 1, stats);
+        SortStats.time(stats, "sort", start);
+    }
+
+    /*
+     * Swaps two elements of a Comparable array and records the swap on stats.
+     */
+
+    private static void swap(Comparable[] arr, int ix1, int ix2, SortStats stats) {
+        SortStats.swap(stats);
+        swap(arr, ix1, ix2);
+    }
+
+    /*
+     * Compares two Comparables objects and records the compare on stats.
+     */
+
+    private static boolean isLess(Comparable one, Comparable another, SortStats stats) {
+        SortStats.compare(stats);
+        return isLess(one, another);
+    }
+
+    /*
+     * Sorts keys[fromIndex .. toIndex - 1] using shift Insertion sort and applies the same
+     * moves to perm[fromIndex .. toIndex - 1]. It is the small subarray kernel of the argsort()
+     * overloads of Merge and Quick (see Argsort).
+     */
+
+    static void shiftSort(long[] keys, int[] perm, int fromIndex, int toIndex) {
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            long key = keys[i];
+            int index = perm[i];
+            int j = i;
+
+            while (j > fromIndex && isLess(key, keys[j - 1])) {
+                keys[j] = keys[j - 1];
+                perm[j] = perm[j - 1];
+                --j;
+            }
+
+            keys[j] = key;
+            perm[j] = index;
+        }
+    }
+
+    /*
+     * Sorts keys[fromIndex .. toIndex - 1] using shift Insertion sort and a Comparator and
+     * applies the same moves to perm[fromIndex .. toIndex - 1] (see the long version).
+     */
+
+    static void shiftSort(Object[] keys, int[] perm, int fromIndex, int toIndex, Comparator c) {
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            Object key = keys[i];
+            int index = perm[i];
+            int j = i;
+
+            while (j > fromIndex && isLess(c, key, keys[j - 1])) {
+                keys[j] = keys[j - 1];
+                perm[j] = perm[j - 1];
+                --j;
+            }
+
+            keys[j] = key;
+            perm[j] = index;
+        }
+    }
+
     /**
      * Convenience method that prints to standard output all elements
      * of a Comparable array in an organized way, e.g., [1, 2, 3].
@@ -13,6 +13,16 @@
  *
  *              Merge.sort(arrayReference)
  *
+ * On multi-core machines big arrays can be sorted with the fork-join version
+ * of the algorithm which sorts both halves and merges big subarrays in parallel:
+ *
+ *              Merge.parallelSort(arrayReference)
+ *
+ * The argsort() methods return the permutation of the indexes that sorts an array
+ * (stable) instead of rearranging it:
+ *
+ *              int[] perm = Merge.argsort(arrayReference)
+ *
  * Based on Algorithms (4th ed.) by Robert Sedgewick and Kevin Wayne.
  * 
  * @author Igor G. Peternella
@@ -21,9 +31,17 @@
 
 package sorting;
 
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
 @SuppressWarnings({"unchecked", "rawtypes"})
 public class Merge {
 
+    // subarrays up to this size are sorted (and merged) sequentially by parallelSort()
+    public static final int DEFAULT_GRAIN = 1 << 13;
+
     /**
      * Wrapper method to call the overloaded private sort method. Makes
      * this class easier to use by taking just an array reference as an argument.
@@ -33,21 +51,54 @@ public class Merge {
      */
     
     public static void sort(Comparable[] arr) {
-        sort(arr, 0, arr.length - 1);
+        // aux array is allocated only once and shared by every merge
+        // (a merge only copies its left subarray which has at most half of the elements)
+        Comparable[] aux = new Comparable[(arr.length + 1)/2];
+
+        sort(arr, aux, 0, 0, arr.length - 1, null);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a Comparable array using Merge sort.
+     * The sort is stable.
+     * Complexity: O(N*log(N)) compares for a range of N elements.
+     *
+     * @param arr is a Comparable array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(Comparable[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        Comparable[] aux = new Comparable[(toIndex - fromIndex + 1)/2];
+
+        sort(arr, aux, 0, fromIndex, toIndex - 1, null);
     }
     
     /* 
      * Method that sorts a Comparable array using Merge sort.
      *
      * arr is a reference to a Comparable array.
+     * aux is a reference to the auxiliar array used by the merges.
+     * auxLo is the first index of aux used by the merges of this subarray.
      * lo is the lowest index of arr
      * hi is the highest index of arr
+     * stats records the compares and writes of the sort (null when it is not instrumented)
      */
     
-    private static void sort(Comparable[] arr, int lo, int hi) {
+    private static void sort(Comparable[] arr, Comparable[] aux, int auxLo, int lo, int hi, SortStats stats) {
         // base case to stop recursion (abstract array has only one element)
         if (hi <= lo) { return; }
 
+        // small subarrays: Insertion sort is faster than recursing down to single elements
+        if (hi - lo < Insertion.CUTOFF) {
+            Insertion.shiftSort(arr, lo, hi + 1, stats);
+            return;
+        }
+
         // computes mid index based on lo and hi indexes
         int mid = lo + (hi - lo)/2;
 	
@@ -58,59 +109,300 @@ public class Merge {
         // right subarray [mid + 1 .. hi] index
 	
         // abstract left array
-        sort(arr, lo, mid);	
+        sort(arr, aux, auxLo, lo, mid, stats);	
         // abstract right array
-        sort(arr, mid + 1, hi);
+        sort(arr, aux, auxLo, mid + 1, hi, stats);
+
+        // both subarrays are already in order (arr[mid] <= arr[mid + 1])
+        // so there is nothing to merge
+        if (!isLess(arr[mid + 1], arr[mid], stats)) { return; }
 
         // merge an array composed of two abstract in place subarrays
-        merge(arr, lo, mid, hi);
+        merge(arr, aux, auxLo, lo, mid, hi, stats);
     }
 
     /*
      * Merges two abstract ordered subarrays into an ordered one.
      * This is an inplace method that changes arr reference with the
-     * help of a copy auxiliar array
+     * help of a copy of the left subarray on the auxiliar array. The right
+     * subarray is not copied: merged elements are written on arr before the
+     * next element of the right subarray so they never overwrite it.
      * 
      * arr is a reference to a Comparable array.
+     * aux is a reference to the auxiliar array (at least mid - lo + 1 elements from auxLo).
+     * auxLo is the index of aux that receives arr[lo].
      * lo is the lowest index of arr
      * mid is the mid index of arr
      * hi is the highest index of arr
+     * stats records the compares and writes of the merge (null when it is not instrumented)
      */
     
-    private static void merge(Comparable[] arr, int lo, int mid, int hi) {
-        Comparable[] aux = new Comparable[arr.length];
-        int i = lo;           // beginning of the left inplace subarray
-        int j = mid + 1;      // beginning of the right inplace subarray
-        int k = lo;           // lower index of the abstract array
+    private static void merge(Comparable[] arr, Comparable[] aux, int auxLo, int lo, int mid, int hi, SortStats stats) {
+        int i = auxLo;                   // beginning of the left subarray (on aux)
+        int auxHi = auxLo + mid - lo;    // end of the left subarray (on aux)
+        int j = mid + 1;                 // beginning of the right inplace subarray
+        int k = lo;                      // lower index of the abstract array
 
-        // creates aux array as a copy
-        for (int w = lo; w <= hi; ++w) {
-            aux[w] = arr[w];
-        }
+        // copies the left subarray to aux
+        System.arraycopy(arr, lo, aux, auxLo, mid - lo + 1);
 	
         // when the left array or right array have no more elements
         // to merge (exhausted) this loop breaks
-        while (i <= mid && j <= hi) {
-            if (isLess(aux[i], aux[j])) {
-                // aux[i] < aux[j]
-                // we pick minimum value (i.e. aux[i]) of the left subarray of aux
-                arr[k++] = aux[i++];
+        while (i <= auxHi && j <= hi) {
+            if (isLess(arr[j], aux[i], stats)) {
+                // arr[j] < aux[i]
+                // we pick minimum value (i.e. arr[j]) of the right subarray
+                arr[k++] = arr[j++];
             } else {
-                // aux[i] > aux[j]
-                // we pick minimum value (i.e. aux[j]) of the right subarray of aux
-                arr[k++] = aux[j++];
+                // aux[i] <= arr[j]
+                // we pick minimum value (i.e. aux[i]) of the left subarray
+                // (ties go to the left subarray which keeps the sort stable)
+                arr[k++] = aux[i++];
             }
         }
 
         // fill with the remaining elements of the left subarray
-        while (i <= mid) {
-            arr[k++] = aux[i++];
+        // (the remaining elements of the right subarray are already in place)
+        System.arraycopy(aux, i, arr, k, auxHi - i + 1);
+
+        // the copy of the left subarray and the writes of the merged elements to arr
+        SortStats.write(stats, (mid - lo + 1) + (k - lo) + (auxHi - i + 1));
+    }
+
+    /**
+     * Sorts a Comparable array using a parallel Merge sort on the common ForkJoinPool.
+     * The sort is stable just like sort().
+     * Complexity: O(N*log(N)) compares split among the threads of the pool.
+     *
+     * @param arr is a Comparable array.
+     */
+
+    public static void parallelSort(Comparable[] arr) {
+        parallelSort(arr, ForkJoinPool.commonPool(), DEFAULT_GRAIN);
+    }
+
+    /**
+     * Sorts a Comparable array using a parallel Merge sort on the given ForkJoinPool.
+     *
+     * @param arr is a Comparable array.
+     * @param pool is the ForkJoinPool whose threads sort the array.
+     */
+
+    public static void parallelSort(Comparable[] arr, ForkJoinPool pool) {
+        parallelSort(arr, pool, DEFAULT_GRAIN);
+    }
+
+    /**
+     * Sorts a Comparable array using a parallel Merge sort on the given ForkJoinPool.
+     * The array is split recursively in halves which are sorted in parallel until a
+     * subarray has grain elements or less, which is then sorted sequentially with sort().
+     * Merges of subarrays bigger than grain are also split and done in parallel.
+     *
+     * @param arr is a Comparable array.
+     * @param pool is the ForkJoinPool whose threads sort the array.
+     * @param grain is the size of the subarrays that are sorted sequentially.
+     * @throws java.lang.IllegalArgumentException if grain is not positive.
+     */
+
+    public static void parallelSort(Comparable[] arr, ForkJoinPool pool, int grain) {
+        if (grain < 1) {
+            throw new IllegalArgumentException("Grain size must be positive.");
         }
-	
-        // fill with the remaining elements of the right subarray
-        while (j <= hi) {
-            arr[k++] = aux[j++];
+
+        // nothing to be gained from forking
+        if (arr.length <= grain || pool.getParallelism() == 1) {
+            sort(arr);
+            return;
+        }
+
+        // aux array is allocated only once and shared by every task (on disjoint ranges)
+        Comparable[] aux = new Comparable[arr.length];
+
+        pool.invoke(new SortTask(arr, aux, 0, arr.length - 1, grain));
+    }
+
+    /*
+     * Fork-join task that sorts arr[lo .. hi] by sorting both halves in parallel
+     * and merging them. Subarrays with grain elements or less are sorted sequentially.
+     */
+
+    private static class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Comparable[] arr;   // array to be sorted
+        private final Comparable[] aux;   // auxiliar array (only aux[lo .. hi] is used)
+        private final int lo;             // lowest index of the subarray
+        private final int hi;             // highest index of the subarray
+        private final int grain;          // size of the subarrays sorted sequentially
+
+        SortTask(Comparable[] arr, Comparable[] aux, int lo, int hi, int grain) {
+            this.arr = arr;
+            this.aux = aux;
+            this.lo = lo;
+            this.hi = hi;
+            this.grain = grain;
+        }
+
+        protected void compute() {
+            if (hi - lo + 1 <= grain) {
+                // the merges of the subarray use its own region of aux (aux[lo .. hi])
+                sort(arr, aux, lo, lo, hi, null);
+                return;
+            }
+
+            int mid = lo + (hi - lo)/2;
+
+            // sorts both halves in parallel
+            invokeAll(new SortTask(arr, aux, lo, mid, grain),
+                      new SortTask(arr, aux, mid + 1, hi, grain));
+
+            // both halves are already in order so there is nothing to merge
+            if (!isLess(arr[mid + 1], arr[mid])) { return; }
+
+            // merges the halves (copied to aux) back into arr in parallel
+            System.arraycopy(arr, lo, aux, lo, hi - lo + 1);
+            new MergeTask(aux, lo, mid, mid + 1, hi, arr, lo, grain).compute();
+        }
+    }
+
+    /*
+     * Fork-join task that merges the sorted subarrays src[lo1 .. hi1] and src[lo2 .. hi2]
+     * into dest beginning at index destLo. Big merges are split in two independent merges:
+     * the middle element of the bigger subarray is the splitter and its position on the
+     * other subarray is found with a binary search. Elements smaller than the splitter are
+     * merged on the left of it and the bigger ones on the right of it.
+     *
+     * Equal elements from the left subarray (lo1 .. hi1) always end up before equal elements
+     * from the right subarray (lo2 .. hi2) which keeps the merge stable.
+     */
+
+    private static class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Comparable[] src;    // array with both sorted subarrays
+        private final int lo1, hi1;        // bounds of the left subarray (inclusive)
+        private final int lo2, hi2;        // bounds of the right subarray (inclusive)
+        private final Comparable[] dest;   // array that receives the merged elements
+        private final int destLo;          // first index of dest to be written
+        private final int grain;           // size of the merges that are done sequentially
+
+        MergeTask(Comparable[] src, int lo1, int hi1, int lo2, int hi2,
+                  Comparable[] dest, int destLo, int grain) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dest = dest;
+            this.destLo = destLo;
+            this.grain = grain;
+        }
+
+        protected void compute() {
+            int size1 = hi1 - lo1 + 1;
+            int size2 = hi2 - lo2 + 1;
+
+            if (size1 + size2 <= grain || size1 == 0 || size2 == 0) {
+                merge(src, lo1, hi1, lo2, hi2, dest, destLo);
+                return;
+            }
+
+            int split1;   // first index of the left subarray that goes after the splitter
+            int split2;   // first index of the right subarray that goes after the splitter
+            Comparable splitter;
+
+            if (size1 >= size2) {
+                // splitter from the left subarray: equal elements of the right one go after it
+                int mid1 = lo1 + (hi1 - lo1)/2;
+                splitter = src[mid1];
+                split1 = mid1 + 1;
+                split2 = lowerBound(src, lo2, hi2, splitter);
+
+                int splitterIx = destLo + (mid1 - lo1) + (split2 - lo2);
+                dest[splitterIx] = splitter;
+
+                invokeAll(new MergeTask(src, lo1, mid1 - 1, lo2, split2 - 1, dest, destLo, grain),
+                          new MergeTask(src, split1, hi1, split2, hi2, dest, splitterIx + 1, grain));
+            } else {
+                // splitter from the right subarray: equal elements of the left one go before it
+                int mid2 = lo2 + (hi2 - lo2)/2;
+                splitter = src[mid2];
+                split1 = upperBound(src, lo1, hi1, splitter);
+                split2 = mid2 + 1;
+
+                int splitterIx = destLo + (split1 - lo1) + (mid2 - lo2);
+                dest[splitterIx] = splitter;
+
+                invokeAll(new MergeTask(src, lo1, split1 - 1, lo2, mid2 - 1, dest, destLo, grain),
+                          new MergeTask(src, split1, hi1, split2, hi2, dest, splitterIx + 1, grain));
+            }
+        }
+    }
+
+    /*
+     * Sequentially merges the sorted subarrays src[lo1 .. hi1] and src[lo2 .. hi2] into
+     * dest beginning at index k. Ties go to the left subarray (stable merge).
+     */
+
+    private static void merge(Comparable[] src, int lo1, int hi1, int lo2, int hi2,
+                              Comparable[] dest, int k) {
+        int i = lo1;
+        int j = lo2;
+
+        while (i <= hi1 && j <= hi2) {
+            if (isLess(src[j], src[i])) {
+                dest[k++] = src[j++];
+            } else {
+                dest[k++] = src[i++];
+            }
+        }
+
+        // copies the remaining elements of whichever subarray was not exhausted
+        System.arraycopy(src, i, dest, k, hi1 - i + 1);
+        k += hi1 - i + 1;
+        System.arraycopy(src, j, dest, k, hi2 - j + 1);
+    }
+
+    /*
+     * Returns the first index of arr[lo .. hi] whose element is not less than key
+     * (or hi + 1 if every element is less than key).
+     */
+
+    private static int lowerBound(Comparable[] arr, int lo, int hi, Comparable key) {
+        ++hi;
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+
+            if (isLess(arr[mid], key)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+    /*
+     * Returns the first index of arr[lo .. hi] whose element is bigger than key
+     * (or hi + 1 if no element is bigger than key).
+     */
+
+    private static int upperBound(Comparable[] arr, int lo, int hi, Comparable key) {
+        ++hi;
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+
+            if (isLess(key, arr[mid])) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
         }
+
+        return lo;
     }
 
     /*
@@ -144,30 +436,816 @@ public class Merge {
     }
 
     /**
-     * Convenience method that prints to standard output all elements
-     * of a Comparable array in an organized way, e.g., [1, 2, 3].
-     * 
-     * @param arr is a reference to a Comparable array.
+     * Sorts an array using Merge sort and the order defined by a Comparator. The sort is stable.
+     * Complexity: O(N*log(N)) compares (isLess() operations)
+     *
+     * @param arr is an array of any type.
+     * @param comparator defines the order of the elements of arr.
      */
-    
-    public static void show(Comparable[] arr) {
-        System.out.print("[");
-        for (int i = 0; i < arr.length; ++i) {
-            if (i != arr.length - 1) {
-                System.out.print(arr[i] + ", ");
+
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator) {
+        Object[] aux = new Object[(arr.length + 1)/2];
+
+        sort(arr, aux, comparator, 0, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an array using Merge sort
+     * and the order defined by a Comparator.
+     * The sort is stable.
+     * Complexity: O(N*log(N)) compares for a range of N elements.
+     *
+     * @param arr is an array of any type.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @param comparator defines the order of the elements of arr.
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static <T> void sort(T[] arr, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        Object[] aux = new Object[(toIndex - fromIndex + 1)/2];
+
+        sort(arr, aux, comparator, 0, fromIndex, toIndex - 1);
+    }
+
+    /*
+     * Method that sorts an array using Merge sort and a Comparator (see the Comparable version).
+     */
+
+    private static void sort(Object[] arr, Object[] aux, Comparator c, int auxLo, int lo, int hi) {
+        if (hi <= lo) { return; }
+
+        // small subarrays: Insertion sort is faster than recursing down to single elements
+        if (hi - lo < Insertion.CUTOFF) {
+            Insertion.shiftSort(arr, lo, hi + 1, c);
+            return;
+        }
+
+        int mid = lo + (hi - lo)/2;
+
+        sort(arr, aux, c, auxLo, lo, mid);
+        sort(arr, aux, c, auxLo, mid + 1, hi);
+
+        if (!isLess(c, arr[mid + 1], arr[mid])) { return; }
+
+        merge(arr, aux, c, auxLo, lo, mid, hi);
+    }
+
+    /*
+     * Merges the sorted subarrays arr[lo .. mid] and arr[mid + 1 .. hi] with the
+     * help of aux and a Comparator (see the Comparable version).
+     */
+
+    private static void merge(Object[] arr, Object[] aux, Comparator c, int auxLo, int lo, int mid, int hi) {
+        int i = auxLo;
+        int auxHi = auxLo + mid - lo;
+        int j = mid + 1;
+        int k = lo;
+
+        System.arraycopy(arr, lo, aux, auxLo, mid - lo + 1);
+
+        while (i <= auxHi && j <= hi) {
+            if (isLess(c, arr[j], aux[i])) {
+                arr[k++] = arr[j++];
             } else {
-                System.out.println(arr[i] + "]");
-            }	    	    
+                arr[k++] = aux[i++];
+            }
         }
+
+        // only the left subarray remainder has to be copied: the right one is in place
+        System.arraycopy(aux, i, arr, k, auxHi - i + 1);
     }
 
-    // unit testing
-    public static void main(String[] args) {
-        Integer[] arr = {3, 10, -1, 0, 5, 4, 15, 0, 7, 7};
-        //String[] arr = {"zzz", "ccc", "ddd", "eee", "aaa", "iii"};
+    /**
+     * Sorts an array by the keys computed by keyExtractor using Merge sort (stable). The key of each
+     * element is computed only once and cached next to it (decorate-sort-undecorate).
+     *
+     * @param arr is an array of any type.
+     * @param keyExtractor is the function that computes the Comparable sort key of an element.
+     */
 
-        System.out.println("\nArray BEFORE sorting:");
-        show(arr);
+    public static <T, K extends Comparable<? super K>> void sort(T[] arr, Function<? super T, ? extends K> keyExtractor) {
+        CachedKey[] decorated = CachedKey.decorate(arr, keyExtractor);
+
+        sort(decorated);
+        CachedKey.undecorate(decorated, arr);
+    }
+
+    /*
+     * Compares two objects with a Comparator.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(Comparator c, Object one, Object another) {
+        return c.compare(one, another) < 0;
+    }
+
+    /**
+     * Sorts an int array using Merge sort. No boxing is done.
+     * Complexity: O(N*log(N)) compares (isLess() operations)
+     *
+     * @param arr is an int array.
+     */
+
+    public static void sort(int[] arr) {
+        int[] aux = new int[(arr.length + 1)/2];
+
+        sort(arr, aux, 0, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an int array using Merge sort.
+     * Complexity: O(N*log(N)) compares for a range of N elements.
+     *
+     * @param arr is an int array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(int[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        int[] aux = new int[(toIndex - fromIndex + 1)/2];
+
+        sort(arr, aux, 0, fromIndex, toIndex - 1);
+    }
+
+    /*
+     * Method that sorts an int array using Merge sort (see the Comparable version).
+     */
+
+    private static void sort(int[] arr, int[] aux, int auxLo, int lo, int hi) {
+        if (hi <= lo) { return; }
+
+        // small subarrays: sorting networks (or Insertion sort) beat recursing down to single elements
+        if (hi - lo < Insertion.CUTOFF) {
+            Network.sort(arr, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo)/2;
+
+        sort(arr, aux, auxLo, lo, mid);
+        sort(arr, aux, auxLo, mid + 1, hi);
+
+        if (!isLess(arr[mid + 1], arr[mid])) { return; }
+
+        merge(arr, aux, auxLo, lo, mid, hi);
+    }
+
+    /*
+     * Merges the sorted subarrays arr[lo .. mid] and arr[mid + 1 .. hi] with the
+     * help of aux (see the Comparable version).
+     */
+
+    private static void merge(int[] arr, int[] aux, int auxLo, int lo, int mid, int hi) {
+        int i = auxLo;
+        int auxHi = auxLo + mid - lo;
+        int j = mid + 1;
+        int k = lo;
+
+        System.arraycopy(arr, lo, aux, auxLo, mid - lo + 1);
+
+        while (i <= auxHi && j <= hi) {
+            if (isLess(arr[j], aux[i])) {
+                arr[k++] = arr[j++];
+            } else {
+                arr[k++] = aux[i++];
+            }
+        }
+
+        // only the left subarray remainder has to be copied: the right one is in place
+        System.arraycopy(aux, i, arr, k, auxHi - i + 1);
+    }
+
+    /*
+     * Compares two int values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(int one, int another) {
+        return one < another;
+    }
+
+    /**
+     * Convenience method that checks if an int array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to an int array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(int[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts a long array using Merge sort. No boxing is done.
+     * Complexity: O(N*log(N)) compares (isLess() operations)
+     *
+     * @param arr is a long array.
+     */
+
+    public static void sort(long[] arr) {
+        long[] aux = new long[(arr.length + 1)/2];
+
+        sort(arr, aux, 0, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a long array using Merge sort.
+     * Complexity: O(N*log(N)) compares for a range of N elements.
+     *
+     * @param arr is a long array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(long[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        long[] aux = new long[(toIndex - fromIndex + 1)/2];
+
+        sort(arr, aux, 0, fromIndex, toIndex - 1);
+    }
+
+    /*
+     * Method that sorts a long array using Merge sort (see the Comparable version).
+     */
+
+    private static void sort(long[] arr, long[] aux, int auxLo, int lo, int hi) {
+        if (hi <= lo) { return; }
+
+        // small subarrays: sorting networks (or Insertion sort) beat recursing down to single elements
+        if (hi - lo < Insertion.CUTOFF) {
+            Network.sort(arr, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo)/2;
+
+        sort(arr, aux, auxLo, lo, mid);
+        sort(arr, aux, auxLo, mid + 1, hi);
+
+        if (!isLess(arr[mid + 1], arr[mid])) { return; }
+
+        merge(arr, aux, auxLo, lo, mid, hi);
+    }
+
+    /*
+     * Merges the sorted subarrays arr[lo .. mid] and arr[mid + 1 .. hi] with the
+     * help of aux (see the Comparable version).
+     */
+
+    private static void merge(long[] arr, long[] aux, int auxLo, int lo, int mid, int hi) {
+        int i = auxLo;
+        int auxHi = auxLo + mid - lo;
+        int j = mid + 1;
+        int k = lo;
+
+        System.arraycopy(arr, lo, aux, auxLo, mid - lo + 1);
+
+        while (i <= auxHi && j <= hi) {
+            if (isLess(arr[j], aux[i])) {
+                arr[k++] = arr[j++];
+            } else {
+                arr[k++] = aux[i++];
+            }
+        }
+
+        // only the left subarray remainder has to be copied: the right one is in place
+        System.arraycopy(aux, i, arr, k, auxHi - i + 1);
+    }
+
+    /*
+     * Compares two long values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(long one, long another) {
+        return one < another;
+    }
+
+    /**
+     * Convenience method that checks if a long array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a long array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(long[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts a double array using Merge sort. No boxing is done.
+     * Complexity: O(N*log(N)) compares (isLess() operations)
+     *
+     * @param arr is a double array.
+     */
+
+    public static void sort(double[] arr) {
+        double[] aux = new double[(arr.length + 1)/2];
+
+        sort(arr, aux, 0, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a double array using Merge sort.
+     * Complexity: O(N*log(N)) compares for a range of N elements.
+     *
+     * @param arr is a double array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(double[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        double[] aux = new double[(toIndex - fromIndex + 1)/2];
+
+        sort(arr, aux, 0, fromIndex, toIndex - 1);
+    }
+
+    /*
+     * Method that sorts a double array using Merge sort (see the Comparable version).
+     */
+
+    private static void sort(double[] arr, double[] aux, int auxLo, int lo, int hi) {
+        if (hi <= lo) { return; }
+
+        // small subarrays: Insertion sort is faster than recursing down to single elements
+        if (hi - lo < Insertion.CUTOFF) {
+            Insertion.shiftSort(arr, lo, hi + 1);
+            return;
+        }
+
+        int mid = lo + (hi - lo)/2;
+
+        sort(arr, aux, auxLo, lo, mid);
+        sort(arr, aux, auxLo, mid + 1, hi);
+
+        if (!isLess(arr[mid + 1], arr[mid])) { return; }
+
+        merge(arr, aux, auxLo, lo, mid, hi);
+    }
+
+    /*
+     * Merges the sorted subarrays arr[lo .. mid] and arr[mid + 1 .. hi] with the
+     * help of aux (see the Comparable version).
+     */
+
+    private static void merge(double[] arr, double[] aux, int auxLo, int lo, int mid, int hi) {
+        int i = auxLo;
+        int auxHi = auxLo + mid - lo;
+        int j = mid + 1;
+        int k = lo;
+
+        System.arraycopy(arr, lo, aux, auxLo, mid - lo + 1);
+
+        while (i <= auxHi && j <= hi) {
+            if (isLess(arr[j], aux[i])) {
+                arr[k++] = arr[j++];
+            } else {
+                arr[k++] = aux[i++];
+            }
+        }
+
+        // only the left subarray remainder has to be copied: the right one is in place
+        System.arraycopy(aux, i, arr, k, auxHi - i + 1);
+    }
+
+    /*
+     * Compares two double values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(double one, double another) {
+        // Double.compare() orders -0.0 before 0.0 and NaN after every other value
+        return Double.compare(one, another) < 0;
+    }
+
+    /**
+     * Convenience method that checks if a double array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a double array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(double[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts a float array using Merge sort. No boxing is done.
+     * Complexity: O(N*log(N)) compares (isLess() operations)
+     *
+     * @param arr is a float array.
+     */
+
+    public static void sort(float[] arr) {
+        float[] aux = new float[(arr.length + 1)/2];
+
+        sort(arr, aux, 0, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a float array using Merge sort.
+     * Complexity: O(N*log(N)) compares for a range of N elements.
+     *
+     * @param arr is a float array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(float[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        float[] aux = new float[(toIndex - fromIndex + 1)/2];
+
+        sort(arr, aux, 0, fromIndex, toIndex - 1);
+    }
+
+    /*
+     * Method that sorts a float array using Merge sort (see the Comparable version).
+     */
+
+    private static void sort(float[] arr, float[] aux, int auxLo, int lo, int hi) {
+        if (hi <= lo) { return; }
+
+        // small subarrays: Insertion sort is faster than recursing down to single elements
+        if (hi - lo < Insertion.CUTOFF) {
+            Insertion.shiftSort(arr, lo, hi + 1);
+            return;
+        }
+
+        int mid = lo + (hi - lo)/2;
+
+        sort(arr, aux, auxLo, lo, mid);
+        sort(arr, aux, auxLo, mid + 1, hi);
+
+        if (!isLess(arr[mid + 1], arr[mid])) { return; }
+
+        merge(arr, aux, auxLo, lo, mid, hi);
+    }
+
+    /*
+     * Merges the sorted subarrays arr[lo .. mid] and arr[mid + 1 .. hi] with the
+     * help of aux (see the Comparable version).
+     */
+
+    private static void merge(float[] arr, float[] aux, int auxLo, int lo, int mid, int hi) {
+        int i = auxLo;
+        int auxHi = auxLo + mid - lo;
+        int j = mid + 1;
+        int k = lo;
+
+        System.arraycopy(arr, lo, aux, auxLo, mid - lo + 1);
+
+        while (i <= auxHi && j <= hi) {
+            if (isLess(arr[j], aux[i])) {
+                arr[k++] = arr[j++];
+            } else {
+                arr[k++] = aux[i++];
+            }
+        }
+
+        // only the left subarray remainder has to be copied: the right one is in place
+        System.arraycopy(aux, i, arr, k, auxHi - i + 1);
+    }
+
+    /*
+     * Compares two float values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(float one, float another) {
+        // Float.compare() orders -0.0 before 0.0 and NaN after every other value
+        return Float.compare(one, another) < 0;
+    }
+
+    /**
+     * Convenience method that checks if a float array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a float array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(float[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the permutation of the indexes that sorts a Comparable array using Merge sort:
+     * arr[perm[0]], arr[perm[1]], ... is in ascending order. The array is not rearranged, so
+     * many orders of the same array can be kept as permutations. The permutation is stable,
+     * i.e., equal elements keep the order of their indexes.
+     * Complexity: O(N*log(N)) compares, a copy of the N references and N ints for the
+     * permutation plus N/2 references and N/2 ints of auxiliar arrays.
+     *
+     * @param arr is a Comparable array.
+     * @return the indexes of arr in sorted order.
+     */
+
+    public static int[] argsort(Comparable[] arr) {
+        return argsort(arr, Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns the permutation of the indexes that sorts an array using Merge sort and the
+     * order defined by a Comparator (see argsort(Comparable[])). The permutation is stable.
+     * Complexity: O(N*log(N)) compares.
+     *
+     * @param arr is an array of any type.
+     * @param comparator defines the order of the elements of arr.
+     * @return the indexes of arr in sorted order.
+     */
+
+    public static <T> int[] argsort(T[] arr, Comparator<? super T> comparator) {
+        // the keys are moved along with the indexes so compares read keys next to each other
+        Object[] keys = arr.clone();
+        int[] perm = Argsort.identity(arr.length);
+
+        argsort(keys, perm, new Object[(arr.length + 1)/2], new int[(arr.length + 1)/2], comparator, 0, arr.length - 1);
+
+        return perm;
+    }
+
+    /**
+     * Returns the permutation of the indexes that sorts an int array of keys using Merge
+     * sort (see argsort(Comparable[])). The permutation is stable. Every key is packed with
+     * its index into a long and the packed array is sorted by sort(long[]) (see Argsort).
+     * Complexity: O(N*log(N)) compares and N longs plus N/2 longs of auxiliar arrays.
+     *
+     * @param keys is an int array.
+     * @return the indexes of keys in sorted order.
+     */
+
+    public static int[] argsort(int[] keys) {
+        long[] packed = Argsort.pack(keys);
+
+        sort(packed);
+
+        return Argsort.unpack(packed);
+    }
+
+    /**
+     * Returns the permutation of the indexes that sorts a long array of keys using Merge
+     * sort (see argsort(Comparable[])). The permutation is stable.
+     * Complexity: O(N*log(N)) compares, a copy of the N keys and N ints for the permutation
+     * plus N/2 longs and N/2 ints of auxiliar arrays.
+     *
+     * @param keys is a long array.
+     * @return the indexes of keys in sorted order.
+     */
+
+    public static int[] argsort(long[] keys) {
+        return argsortCopy(keys.clone());
+    }
+
+    /**
+     * Returns the permutation of the indexes that sorts a double array of keys using Merge
+     * sort (see argsort(Comparable[])). The keys are ordered as by Double.compare() and the
+     * permutation is stable.
+     * Complexity: O(N*log(N)) compares.
+     *
+     * @param keys is a double array.
+     * @return the indexes of keys in sorted order.
+     */
+
+    public static int[] argsort(double[] keys) {
+        return argsortCopy(Argsort.sortable(keys));
+    }
+
+    /**
+     * Returns the permutation of the indexes that sorts a float array of keys using Merge
+     * sort (see argsort(int[])). The keys are ordered as by Float.compare() and the
+     * permutation is stable.
+     * Complexity: O(N*log(N)) compares.
+     *
+     * @param keys is a float array.
+     * @return the indexes of keys in sorted order.
+     */
+
+    public static int[] argsort(float[] keys) {
+        long[] packed = Argsort.pack(keys);
+
+        sort(packed);
+
+        return Argsort.unpack(packed);
+    }
+
+    /*
+     * Sorts keys, which is a copy owned by the caller, and returns the permutation of its
+     * indexes.
+     */
+
+    private static int[] argsortCopy(long[] keys) {
+        int[] perm = Argsort.identity(keys.length);
+
+        argsort(keys, perm, new long[(keys.length + 1)/2], new int[(keys.length + 1)/2], 0, keys.length - 1);
+
+        return perm;
+    }
+
+    /*
+     * Method that sorts keys[lo .. hi] using Merge sort and applies the same moves to
+     * perm[lo .. hi] (see the Comparable version of sort()).
+     */
+
+    private static void argsort(long[] keys, int[] perm, long[] auxKeys, int[] auxPerm, int lo, int hi) {
+        if (hi <= lo) { return; }
+
+        // small subarrays: Insertion sort is faster than recursing down to single elements
+        if (hi - lo < Insertion.CUTOFF) {
+            Insertion.shiftSort(keys, perm, lo, hi + 1);
+            return;
+        }
+
+        int mid = lo + (hi - lo)/2;
+
+        argsort(keys, perm, auxKeys, auxPerm, lo, mid);
+        argsort(keys, perm, auxKeys, auxPerm, mid + 1, hi);
+
+        if (!isLess(keys[mid + 1], keys[mid])) { return; }
+
+        merge(keys, perm, auxKeys, auxPerm, lo, mid, hi);
+    }
+
+    /*
+     * Merges the sorted subarrays keys[lo .. mid] and keys[mid + 1 .. hi] along with their
+     * indexes perm[lo .. mid] and perm[mid + 1 .. hi].
+     */
+
+    private static void merge(long[] keys, int[] perm, long[] auxKeys, int[] auxPerm, int lo, int mid, int hi) {
+        int n = mid - lo + 1;
+        int i = 0;
+        int j = mid + 1;
+        int k = lo;
+
+        System.arraycopy(keys, lo, auxKeys, 0, n);
+        System.arraycopy(perm, lo, auxPerm, 0, n);
+
+        while (i < n && j <= hi) {
+            // ties are taken from the left subarray so the permutation is stable
+            if (isLess(keys[j], auxKeys[i])) {
+                keys[k] = keys[j];
+                perm[k++] = perm[j++];
+            } else {
+                keys[k] = auxKeys[i];
+                perm[k++] = auxPerm[i++];
+            }
+        }
+
+        // only the left subarray remainder has to be copied: the right one is in place
+        System.arraycopy(auxKeys, i, keys, k, n - i);
+        System.arraycopy(auxPerm, i, perm, k, n - i);
+    }
+
+    /*
+     * Method that sorts keys[lo .. hi] using Merge sort and a Comparator and applies the same
+     * moves to perm[lo .. hi] (see the long version).
+     */
+
+    private static void argsort(Object[] keys, int[] perm, Object[] auxKeys, int[] auxPerm, Comparator c, int lo, int hi) {
+        if (hi <= lo) { return; }
+
+        if (hi - lo < Insertion.CUTOFF) {
+            Insertion.shiftSort(keys, perm, lo, hi + 1, c);
+            return;
+        }
+
+        int mid = lo + (hi - lo)/2;
+
+        argsort(keys, perm, auxKeys, auxPerm, c, lo, mid);
+        argsort(keys, perm, auxKeys, auxPerm, c, mid + 1, hi);
+
+        if (!isLess(c, keys[mid + 1], keys[mid])) { return; }
+
+        merge(keys, perm, auxKeys, auxPerm, c, lo, mid, hi);
+    }
+
+    /*
+     * Merges two sorted subarrays of keys along with their indexes using a Comparator
+     * (see the long version).
+     */
+
+    private static void merge(Object[] keys, int[] perm, Object[] auxKeys, int[] auxPerm, Comparator c, int lo, int mid, int hi) {
+        int n = mid - lo + 1;
+        int i = 0;
+        int j = mid + 1;
+        int k = lo;
+
+        System.arraycopy(keys, lo, auxKeys, 0, n);
+        System.arraycopy(perm, lo, auxPerm, 0, n);
+
+        while (i < n && j <= hi) {
+            if (isLess(c, keys[j], auxKeys[i])) {
+                keys[k] = keys[j];
+                perm[k++] = perm[j++];
+            } else {
+                keys[k] = auxKeys[i];
+                perm[k++] = auxPerm[i++];
+            }
+        }
+
+        System.arraycopy(auxKeys, i, keys, k, n - i);
+        System.arraycopy(auxPerm, i, perm, k, n - i);
+    }
+
+    /**
+     * Sorts a Comparable array using Merge sort and records the compares, writes, the
+     * auxiliar array and the wall time of the sort on stats. The phases are "allocation"
+     * (of the auxiliar array) and "sort" (the recursive sort and its merges). The sort is
+     * the same as sort().
+     *
+     * @param arr is a Comparable array.
+     * @param stats is the collector of the operations of the sort.
+     */
+
+    public static void sort(Comparable[] arr, SortStats stats) {
+        long start = SortStats.start(stats);
+        Comparable[] aux = new Comparable[(arr.length + 1)/2];
+
+        SortStats.allocate(stats, aux.length);
+        SortStats.time(stats, "allocation", start);
+
+        start = SortStats.start(stats);
+        sort(arr, aux, 0, 0, arr.length - 1, stats);
+        SortStats.time(stats, "sort", start);
+    }
+
+    /*
+     * Compares two Comparables objects and records the compare on stats.
+     */
+
+    private static boolean isLess(Comparable one, Comparable another, SortStats stats) {
+        SortStats.compare(stats);
+        return isLess(one, another);
+    }
+
+    /**
+     * Convenience method that prints to standard output all elements
+     * of a Comparable array in an organized way, e.g., [1, 2, 3].
+     * 
+     * @param arr is a reference to a Comparable array.
+     */
+    
+    public static void show(Comparable[] arr) {
+        System.out.print("[");
+        for (int i = 0; i < arr.length; ++i) {
+            if (i != arr.length - 1) {
+                System.out.print(arr[i] + ", ");
+            } else {
+                System.out.println(arr[i] + "]");
+            }	    	    
+        }
+    }
+
+    // unit testing
+    public static void main(String[] args) {
+        Integer[] arr = {3, 10, -1, 0, 5, 4, 15, 0, 7, 7};
+        //String[] arr = {"zzz", "ccc", "ddd", "eee", "aaa", "iii"};
+
+        System.out.println("\nArray BEFORE sorting:");
+        show(arr);
+
+        System.out.println("\nIndexes of the array in sorted order (the array is not rearranged):");
+        System.out.println(java.util.Arrays.toString(Merge.argsort(arr)));
 	
         System.out.println("\nSorting the array...\n");
         Merge.sort(arr);
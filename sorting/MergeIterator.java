@@ -0,0 +1,204 @@
+/**
+ * This class consists of a lazy k-way merge of sorted sources: an Iterator over the
+ * elements of k Iterables, each one already sorted, in sorted order. The sources are never
+ * materialized nor sorted again: only the next element of each source is held and every
+ * call to next() reads one more element from one source, e.g.:
+ *
+ *              Iterator<String> it = MergeIterator.of(sortedPartitions)
+ *
+ * The next elements of the sources are the leaves of a loser tree (tournament tree): every
+ * internal node holds the source that lost the match played at that node and the root
+ * holds the overall winner, i.e., the source with the smallest next element. After the
+ * winner is advanced, only the matches on the path from its leaf to the root are replayed,
+ * so every element costs ~log(k) compares (a binary heap costs up to ~2*log(k) since each
+ * level compares two children before the parent).
+ *
+ * The merge is stable: equal elements are returned in the order of their sources (and in
+ * the order of each source).
+ *
+ * Based on The Art of Computer Programming, Vol. 3 (2nd ed.) by Donald E. Knuth (5.4.1).
+ *
+ * @author Igor G. Peternella
+ * @date 10-17-2026
+ */
+
+package sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import dynamicarray.DynamicArray;
+
+public class MergeIterator<T> implements Iterator<T> {
+
+    private final Iterator<? extends T>[] sources;   // iterators of the sorted sources
+    private final Object[] heads;                    // heads[i] is the next element of source i
+    private final boolean[] exhausted;               // true when source i has no next element
+    private final int[] tree;                        // tree[0] is the winner and tree[1 .. k - 1] the losers
+    private final Comparator<? super T> comparator;
+    private final int k;                             // number of sources
+
+    /**
+     * Builds an iterator over the elements of sorted sources in the order defined by a
+     * Comparator. The first element of every source is read by the constructor.
+     *
+     * @param sources are the Iterables whose elements are sorted by the comparator.
+     * @param comparator defines the order of the elements.
+     */
+
+    @SuppressWarnings("unchecked")
+    public MergeIterator(Iterable<? extends Iterable<? extends T>> sources, Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("null comparator");
+        }
+
+        // sources is iterated only once, so it may be a single-use Iterable
+        DynamicArray<Iterator<? extends T>> iterators = new DynamicArray<Iterator<? extends T>>();
+        for (Iterable<? extends T> source : sources) {
+            iterators.append(source.iterator());
+        }
+
+        this.k = iterators.size();
+        this.sources = (Iterator<? extends T>[]) new Iterator<?>[k];
+        this.heads = new Object[k];
+        this.exhausted = new boolean[k];
+        this.tree = new int[Math.max(k, 1)];
+        this.comparator = comparator;
+
+        for (int i = 0; i < k; ++i) {
+            this.sources[i] = iterators.getAt(i);
+            advance(i);
+        }
+
+        if (k > 0) {
+            tree[0] = build(1);
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements of sorted sources in their natural order.
+     *
+     * @param sources are the Iterables whose elements are sorted by their natural order.
+     * @return an iterator over all the elements in sorted order.
+     */
+
+    public static <T extends Comparable<? super T>> MergeIterator<T> of(Iterable<? extends Iterable<? extends T>> sources) {
+        return new MergeIterator<T>(sources, Comparator.naturalOrder());
+    }
+
+    /*
+     * Plays the matches of the subtree rooted at node: the loser of each match stays at its
+     * node and the winner is returned to the parent's match. Leaves (nodes k .. 2*k - 1) are
+     * the sources node - k.
+     */
+
+    private int build(int node) {
+        if (node >= k) { return node - k; }
+
+        int left = build(2 * node);
+        int right = build(2 * node + 1);
+
+        if (beats(left, right)) {
+            tree[node] = right;
+            return left;
+        }
+
+        tree[node] = left;
+        return right;
+    }
+
+    /*
+     * Returns true if source i wins the match against source j: an exhausted source loses
+     * every match and ties are won by the source with the smallest index (stability).
+     */
+
+    @SuppressWarnings("unchecked")
+    private boolean beats(int i, int j) {
+        if (exhausted[i]) { return false; }
+        if (exhausted[j]) { return true; }
+
+        int cmp = comparator.compare((T) heads[i], (T) heads[j]);
+
+        return cmp < 0 || (cmp == 0 && i < j);
+    }
+
+    /*
+     * Reads the next element of source i or marks it as exhausted.
+     */
+
+    private void advance(int i) {
+        if (sources[i].hasNext()) {
+            heads[i] = sources[i].next();
+        } else {
+            heads[i] = null;   // avoids loitering
+            exhausted[i] = true;
+        }
+    }
+
+    /**
+     * Returns true if any source has more elements.
+     *
+     * @return true if the merge has more elements and false otherwise.
+     */
+
+    public boolean hasNext() {
+        return k > 0 && !exhausted[tree[0]];
+    }
+
+    /**
+     * Returns the smallest next element among the sources.
+     * Complexity: ~log(k) compares.
+     *
+     * @return the next element of the merge.
+     * @throws java.util.NoSuchElementException if every source is exhausted.
+     */
+
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Every source is exhausted.");
+        }
+
+        int winner = tree[0];
+        T item = (T) heads[winner];
+
+        advance(winner);
+
+        // replays the matches from the winner's leaf up to the root: the new winner of each
+        // match goes up and the loser stays at the node
+        for (int node = (winner + k)/2; node >= 1; node /= 2) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+
+        tree[0] = winner;
+
+        return item;
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException("Unsafe operation not implemented.");
+    }
+
+    // unit testing
+    public static void main(String[] args) {
+        List<List<Integer>> partitions = Arrays.asList(
+            Arrays.asList(1, 4, 9, 12),
+            Arrays.asList(2, 3, 10),
+            Arrays.asList(),
+            Arrays.asList(0, 4, 5, 6, 20));
+
+        Iterator<Integer> it = MergeIterator.of(partitions);
+
+        while (it.hasNext()) {
+            System.out.println(it.next());
+        }
+    }
+}
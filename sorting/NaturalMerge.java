@@ -0,0 +1,786 @@
+/**
+ * This class consists of an implementation of a natural Merge Sort algorithm (TimSort-style).
+ * All methods use the Comparable data type to ensure that objects used by the
+ * methods of this class have implemented the Comparable interface i.e. this class can
+ * be used to sort Integer, Double, String, etc. class types.
+ *
+ * Instead of splitting the array in halves down to one element like Merge does, this
+ * algorithm scans the array for runs that are already ordered (natural runs). Ascending
+ * runs are used as they are and strictly descending runs are reversed in place. Runs
+ * shorter than a minimum run length are extended with binary insertion sort. Runs are then
+ * kept on a stack and merged in a balanced way with these optimizations:
+ *
+ *      1. a single auxiliar buffer (at most half of the array) is allocated per sort and it
+ *         is reused by every merge. No buffer is allocated at all if the array is one run;
+ *      2. merges of runs that are already in order (last of left <= first of right) are skipped
+ *         and the elements of each run that are already at their final position are trimmed
+ *         before merging;
+ *      3. when one run keeps "winning" the merge switches to galloping mode which finds
+ *         with exponential + binary search how many elements can be copied in bulk.
+ *
+ * Hence, the sort is near linear on partially sorted arrays and O(N*log(N)) in the worst case.
+ * The sort is stable and the sort() method is implemented in ascending order.
+ *
+ * The methods of this class are static so no instantiation is required
+ * which makes the class more suitable for practical use, e.g., to sort a Comparable
+ * array one could use the sort() method:
+ *
+ *              NaturalMerge.sort(arrayReference)
+ *
+ * Based on Algorithms (4th ed.) by Robert Sedgewick and Kevin Wayne (natural mergesort)
+ * and on Tim Peters' listsort (TimSort).
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package sorting;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class NaturalMerge {
+
+    private static final int MIN_MERGE = 32;        // arrays smaller than this are not merged at all
+    private static final int MIN_GALLOP = 7;        // initial number of wins to enter galloping mode
+    private static final int MAX_RUN_STACK = 49;    // enough pending runs for any int sized array
+
+    private final Object[] arr;       // reference to the array that is being sorted
+    private final Comparator c;       // order of the elements (null for their natural order)
+    private final int size;           // number of elements that are being sorted
+    private Object[] buffer;          // auxiliar buffer reused by every merge (lazily allocated)
+    private int minGallop;            // adaptive threshold to enter galloping mode
+
+    private final int[] runBase;      // stack with the first index of each pending run
+    private final int[] runLen;       // stack with the length of each pending run
+    private int stackSize;            // number of pending runs on the stack
+
+    /*
+     * Builds the state of a single sort: the run stack and the galloping threshold.
+     *
+     * arr is a reference to the array to be sorted.
+     * c is the Comparator that defines the order of the elements (null for Comparables).
+     * size is the number of elements of the range of arr to be sorted.
+     */
+
+    private NaturalMerge(Object[] arr, Comparator c, int size) {
+        this.arr = arr;
+        this.c = c;
+        this.size = size;
+        this.minGallop = MIN_GALLOP;
+        this.runBase = new int[MAX_RUN_STACK];
+        this.runLen = new int[MAX_RUN_STACK];
+        this.stackSize = 0;
+    }
+
+    /**
+     * Sorts a Comparable array using natural Merge sort.
+     * Complexity: O(N*log(N)) compares in the worst case and O(N) compares
+     * when the array is made of a few natural runs.
+     *
+     * @param arr is a Comparable array.
+     * @throws java.lang.IllegalArgumentException if compareTo() is found to violate its contract.
+     */
+
+    public static void sort(Comparable[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a Comparable array using natural Merge sort.
+     * Complexity: O(N*log(N)) compares in the worst case for a range of N elements
+     * and O(N) compares when the range is made of a few natural runs.
+     *
+     * @param arr is a Comparable array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex or if compareTo() is found to
+     *         violate its contract.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(Comparable[] arr, int fromIndex, int toIndex) {
+        sortRuns(arr, fromIndex, toIndex, null);
+    }
+
+    /**
+     * Sorts an array using natural Merge sort and the order defined by a Comparator. The sort is stable.
+     * Complexity: O(N*log(N)) compares in the worst case and O(N) compares
+     * when the array is made of a few natural runs.
+     *
+     * @param arr is an array of any type.
+     * @param comparator defines the order of the elements of arr.
+     * @throws java.lang.IllegalArgumentException if the comparator is found to violate its contract.
+     */
+
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator) {
+        sort(arr, 0, arr.length, comparator);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an array using natural Merge sort
+     * and the order defined by a Comparator. The sort is stable.
+     *
+     * @param arr is an array of any type.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @param comparator defines the order of the elements of arr.
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex or if the comparator is found to
+     *         violate its contract.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static <T> void sort(T[] arr, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        sortRuns(arr, fromIndex, toIndex, comparator);
+    }
+
+    /*
+     * Method that sorts arr[fromIndex .. toIndex - 1] using natural Merge sort. Comparables are
+     * sorted by their compareTo() when c is null.
+     */
+
+    private static void sortRuns(Object[] arr, int fromIndex, int toIndex, Comparator c) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        int size = toIndex - fromIndex;
+
+        // ranges with zero or one element are always sorted
+        if (size < 2) { return; }
+
+        // small ranges: extend the first natural run with binary insertion sort
+        if (size < MIN_MERGE) {
+            int runLength = countRunAndMakeAscending(arr, c, fromIndex, toIndex);
+            binaryInsertionSort(arr, c, fromIndex, toIndex, fromIndex + runLength);
+            return;
+        }
+
+        NaturalMerge sorter = new NaturalMerge(arr, c, size);
+        int minRun = minRunLength(size);
+        int lo = fromIndex;        // first index of the next run
+        int remaining = size;      // elements that are not in any run yet
+
+        do {
+            int runLength = countRunAndMakeAscending(arr, c, lo, toIndex);
+
+            // short runs are extended to minRun (or to the end of the array)
+            if (runLength < minRun) {
+                int forced = remaining <= minRun ? remaining : minRun;
+                binaryInsertionSort(arr, c, lo, lo + forced, lo + runLength);
+                runLength = forced;
+            }
+
+            // pushes the run and merges pending runs while the stack is unbalanced
+            sorter.pushRun(lo, runLength);
+            sorter.mergeCollapse();
+
+            lo += runLength;
+            remaining -= runLength;
+        } while (remaining != 0);
+
+        // merges all the remaining runs into a single one
+        sorter.mergeForceCollapse();
+    }
+
+    /*
+     * Returns the length of the run that begins at index lo. A run is either ascending
+     * (arr[lo] <= arr[lo + 1] <= ...) or strictly descending (arr[lo] > arr[lo + 1] > ...).
+     * Descending runs are reversed in place so every run is ascending after this method.
+     * Descending runs must be strict to keep the sort stable.
+     *
+     * arr is a reference to the array being sorted.
+     * c is the Comparator that defines the order of the elements (null for Comparables).
+     * lo is the first index of the run.
+     * hi is the index after the last element that may be part of the run (exclusive).
+     */
+
+    private static int countRunAndMakeAscending(Object[] arr, Comparator c, int lo, int hi) {
+        int runHi = lo + 1;
+
+        if (runHi == hi) { return 1; }
+
+        if (isLess(c, arr[runHi++], arr[lo])) {
+            // strictly descending run
+            while (runHi < hi && isLess(c, arr[runHi], arr[runHi - 1])) {
+                ++runHi;
+            }
+
+            reverse(arr, lo, runHi);
+        } else {
+            // ascending run
+            while (runHi < hi && !isLess(c, arr[runHi], arr[runHi - 1])) {
+                ++runHi;
+            }
+        }
+
+        return runHi - lo;
+    }
+
+    /*
+     * Reverses the elements of arr from index lo to index hi (exclusive).
+     */
+
+    private static void reverse(Object[] arr, int lo, int hi) {
+        --hi;
+
+        while (lo < hi) {
+            Object temp = arr[lo];
+            arr[lo++] = arr[hi];
+            arr[hi--] = temp;
+        }
+    }
+
+    /*
+     * Sorts arr from index lo to index hi (exclusive) with binary insertion sort given
+     * that arr[lo .. start - 1] is already sorted. The insertion point of each element is
+     * found with a binary search and the elements after it are shifted with one arraycopy.
+     *
+     * arr is a reference to the array being sorted.
+     * c is the Comparator that defines the order of the elements (null for Comparables).
+     * lo is the first index of the subarray.
+     * hi is the index after the last element of the subarray (exclusive).
+     * start is the first index that is not known to be sorted.
+     */
+
+    private static void binaryInsertionSort(Object[] arr, Comparator c, int lo, int hi, int start) {
+        if (start == lo) { ++start; }
+
+        for ( ; start < hi; ++start) {
+            Object pivot = arr[start];
+            int left = lo;
+            int right = start;
+
+            // finds the rightmost position where pivot can be inserted (stability)
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+
+                if (isLess(c, pivot, arr[mid])) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            System.arraycopy(arr, left, arr, left + 1, start - left);
+            arr[left] = pivot;
+        }
+    }
+
+    /*
+     * Returns the minimum run length for an array of the given size. Runs shorter than
+     * this are extended with binary insertion sort. The returned value is between
+     * MIN_MERGE/2 and MIN_MERGE and is chosen so that size/minRun is a power of two
+     * or a bit less than one, which keeps the merges balanced.
+     */
+
+    private static int minRunLength(int size) {
+        int r = 0;   // becomes 1 if any bit is shifted off
+
+        while (size >= MIN_MERGE) {
+            r |= (size & 1);
+            size >>= 1;
+        }
+
+        return size + r;
+    }
+
+    /*
+     * Pushes a run on top of the run stack.
+     */
+
+    private void pushRun(int base, int length) {
+        runBase[stackSize] = base;
+        runLen[stackSize] = length;
+        ++stackSize;
+    }
+
+    /*
+     * Merges runs at the top of the stack until these invariants hold for the
+     * lengths A, B, C and D of the four topmost runs (D is the top):
+     *
+     *      1. B > C + D and A > B + C
+     *      2. C > D
+     *
+     * This keeps the lengths of the pending runs growing at least as fast as the
+     * Fibonacci numbers so the stack is small and every merge is balanced.
+     */
+
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+
+            if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                // merges the smaller neighbour with the middle run
+                if (runLen[n - 1] < runLen[n + 1]) { --n; }
+            } else if (runLen[n] > runLen[n + 1]) {
+                // invariants hold
+                break;
+            }
+
+            mergeAt(n);
+        }
+    }
+
+    /*
+     * Merges all the runs of the stack until only one is left (the sorted array).
+     */
+
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+
+            if (n > 0 && runLen[n - 1] < runLen[n + 1]) { --n; }
+
+            mergeAt(n);
+        }
+    }
+
+    /*
+     * Merges the two adjacent runs at the stack indexes i and i + 1.
+     *
+     * i is the stack index of the first run (either the second or the third
+     * topmost run of the stack).
+     */
+
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int len1 = runLen[i];
+        int base2 = runBase[i + 1];
+        int len2 = runLen[i + 1];
+
+        // the merged run replaces both runs on the stack
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+        --stackSize;
+
+        // runs are already in order: last of run1 <= first of run2 so skip the merge
+        if (!isLess(c, arr[base2], arr[base2 - 1])) { return; }
+
+        // elements of run1 that are <= first of run2 are already in place
+        int k = gallopRight(arr[base2], arr, c, base1, len1, 0);
+        base1 += k;
+        len1 -= k;
+
+        // elements of run2 that are >= last of run1 are already in place
+        len2 = gallopLeft(arr[base1 + len1 - 1], arr, c, base2, len2, len2 - 1);
+
+        // the buffer holds the shorter run
+        if (len1 <= len2) {
+            mergeLo(base1, len1, base2, len2);
+        } else {
+            mergeHi(base1, len1, base2, len2);
+        }
+    }
+
+    /*
+     * Returns the index k (relative to base) where key should be inserted in the sorted
+     * subarray a[base .. base + len - 1] so that a[base + k - 1] < key <= a[base + k], i.e.,
+     * key goes to the left of any equal elements. The search starts at base + hint and
+     * gallops (1, 3, 7, 15, ...) towards the key before doing a binary search. The elements
+     * are compared with c (or with their compareTo() if c is null).
+     */
+
+    private static int gallopLeft(Object key, Object[] a, Comparator c, int base, int len, int hint) {
+        int lastOfs = 0;
+        int ofs = 1;
+
+        if (isLess(c, a[base + hint], key)) {
+            // gallops right until a[base + hint + lastOfs] < key <= a[base + hint + ofs]
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && isLess(c, a[base + hint + ofs], key)) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) { ofs = maxOfs; }   // int overflow
+            }
+            if (ofs > maxOfs) { ofs = maxOfs; }
+
+            lastOfs += hint;
+            ofs += hint;
+        } else {
+            // gallops left until a[base + hint - ofs] < key <= a[base + hint - lastOfs]
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && !isLess(c, a[base + hint - ofs], key)) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) { ofs = maxOfs; }   // int overflow
+            }
+            if (ofs > maxOfs) { ofs = maxOfs; }
+
+            int temp = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - temp;
+        }
+
+        // binary search with invariant a[base + lastOfs - 1] < key <= a[base + ofs]
+        ++lastOfs;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+
+            if (isLess(c, a[base + m], key)) {
+                lastOfs = m + 1;
+            } else {
+                ofs = m;
+            }
+        }
+
+        return ofs;
+    }
+
+    /*
+     * Same as gallopLeft() but returns the index k such that a[base + k - 1] <= key < a[base + k],
+     * i.e., key goes to the right of any equal elements.
+     */
+
+    private static int gallopRight(Object key, Object[] a, Comparator c, int base, int len, int hint) {
+        int lastOfs = 0;
+        int ofs = 1;
+
+        if (isLess(c, key, a[base + hint])) {
+            // gallops left until a[base + hint - ofs] <= key < a[base + hint - lastOfs]
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && isLess(c, key, a[base + hint - ofs])) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) { ofs = maxOfs; }   // int overflow
+            }
+            if (ofs > maxOfs) { ofs = maxOfs; }
+
+            int temp = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - temp;
+        } else {
+            // gallops right until a[base + hint + lastOfs] <= key < a[base + hint + ofs]
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && !isLess(c, key, a[base + hint + ofs])) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) { ofs = maxOfs; }   // int overflow
+            }
+            if (ofs > maxOfs) { ofs = maxOfs; }
+
+            lastOfs += hint;
+            ofs += hint;
+        }
+
+        // binary search with invariant a[base + lastOfs - 1] <= key < a[base + ofs]
+        ++lastOfs;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+
+            if (isLess(c, key, a[base + m])) {
+                ofs = m;
+            } else {
+                lastOfs = m + 1;
+            }
+        }
+
+        return ofs;
+    }
+
+    /*
+     * Merges two adjacent runs from left to right when the first run is the shorter one.
+     * The first run is copied to the buffer and the merged elements are written over arr.
+     * Given the trimming of mergeAt(): the first element of run2 is smaller than the first
+     * of run1 and the last element of run1 is bigger than every element of run2.
+     *
+     * base1 and len1 are the first index and the length of the first run.
+     * base2 and len2 are the first index and the length of the second run.
+     */
+
+    private void mergeLo(int base1, int len1, int base2, int len2) {
+        Object[] a = arr;
+        Object[] temp = ensureBuffer(len1);
+        System.arraycopy(a, base1, temp, 0, len1);
+
+        int cursor1 = 0;       // next element of run1 (on the buffer)
+        int cursor2 = base2;   // next element of run2 (on arr)
+        int dest = base1;      // next position to be written on arr
+
+        // first element of run2 is the smallest one
+        a[dest++] = a[cursor2++];
+        if (--len2 == 0) {
+            System.arraycopy(temp, cursor1, a, dest, len1);
+            return;
+        }
+        if (len1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, len2);
+            a[dest + len2] = temp[cursor1];   // last element of run1 is the biggest one
+            return;
+        }
+
+        int minGallop = this.minGallop;
+
+        outer:
+        while (true) {
+            int count1 = 0;   // number of times in a row that run1 won
+            int count2 = 0;   // number of times in a row that run2 won
+
+            // one pair at a time until one run starts winning consistently
+            do {
+                if (isLess(c, a[cursor2], temp[cursor1])) {
+                    a[dest++] = a[cursor2++];
+                    ++count2;
+                    count1 = 0;
+                    if (--len2 == 0) { break outer; }
+                } else {
+                    a[dest++] = temp[cursor1++];
+                    ++count1;
+                    count2 = 0;
+                    if (--len1 == 1) { break outer; }
+                }
+            } while ((count1 | count2) < minGallop);
+
+            // galloping mode: copies whole blocks while galloping keeps paying off
+            do {
+                count1 = gallopRight(a[cursor2], temp, c, cursor1, len1, 0);
+                if (count1 != 0) {
+                    System.arraycopy(temp, cursor1, a, dest, count1);
+                    dest += count1;
+                    cursor1 += count1;
+                    len1 -= count1;
+                    if (len1 <= 1) { break outer; }
+                }
+                a[dest++] = a[cursor2++];
+                if (--len2 == 0) { break outer; }
+
+                count2 = gallopLeft(temp[cursor1], a, c, cursor2, len2, 0);
+                if (count2 != 0) {
+                    System.arraycopy(a, cursor2, a, dest, count2);
+                    dest += count2;
+                    cursor2 += count2;
+                    len2 -= count2;
+                    if (len2 == 0) { break outer; }
+                }
+                a[dest++] = temp[cursor1++];
+                if (--len1 == 1) { break outer; }
+
+                // galloping paid off so it becomes easier to enter it again
+                --minGallop;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+            // galloping did not pay off so it becomes harder to enter it again
+            if (minGallop < 0) { minGallop = 0; }
+            minGallop += 2;
+        }
+
+        this.minGallop = minGallop < 1 ? 1 : minGallop;
+
+        if (len1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, len2);
+            a[dest + len2] = temp[cursor1];   // last element of run1 is the biggest one
+        } else if (len1 == 0) {
+            throw new IllegalArgumentException("Comparison method violates its general contract.");
+        } else {
+            System.arraycopy(temp, cursor1, a, dest, len1);
+        }
+    }
+
+    /*
+     * Merges two adjacent runs from right to left when the second run is the shorter one.
+     * It is the mirror of mergeLo(): the second run is copied to the buffer and the merge
+     * begins at the end of both runs.
+     *
+     * base1 and len1 are the first index and the length of the first run.
+     * base2 and len2 are the first index and the length of the second run.
+     */
+
+    private void mergeHi(int base1, int len1, int base2, int len2) {
+        Object[] a = arr;
+        Object[] temp = ensureBuffer(len2);
+        System.arraycopy(a, base2, temp, 0, len2);
+
+        int cursor1 = base1 + len1 - 1;   // next element of run1 (on arr)
+        int cursor2 = len2 - 1;           // next element of run2 (on the buffer)
+        int dest = base2 + len2 - 1;      // next position to be written on arr
+
+        // last element of run1 is the biggest one
+        a[dest--] = a[cursor1--];
+        if (--len1 == 0) {
+            System.arraycopy(temp, 0, a, dest - (len2 - 1), len2);
+            return;
+        }
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+            a[dest] = temp[cursor2];   // first element of run2 is the smallest one
+            return;
+        }
+
+        int minGallop = this.minGallop;
+
+        outer:
+        while (true) {
+            int count1 = 0;   // number of times in a row that run1 won
+            int count2 = 0;   // number of times in a row that run2 won
+
+            // one pair at a time until one run starts winning consistently
+            do {
+                if (isLess(c, temp[cursor2], a[cursor1])) {
+                    a[dest--] = a[cursor1--];
+                    ++count1;
+                    count2 = 0;
+                    if (--len1 == 0) { break outer; }
+                } else {
+                    a[dest--] = temp[cursor2--];
+                    ++count2;
+                    count1 = 0;
+                    if (--len2 == 1) { break outer; }
+                }
+            } while ((count1 | count2) < minGallop);
+
+            // galloping mode: copies whole blocks while galloping keeps paying off
+            do {
+                count1 = len1 - gallopRight(temp[cursor2], a, c, base1, len1, len1 - 1);
+                if (count1 != 0) {
+                    dest -= count1;
+                    cursor1 -= count1;
+                    len1 -= count1;
+                    System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+                    if (len1 == 0) { break outer; }
+                }
+                a[dest--] = temp[cursor2--];
+                if (--len2 == 1) { break outer; }
+
+                count2 = len2 - gallopLeft(a[cursor1], temp, c, 0, len2, len2 - 1);
+                if (count2 != 0) {
+                    dest -= count2;
+                    cursor2 -= count2;
+                    len2 -= count2;
+                    System.arraycopy(temp, cursor2 + 1, a, dest + 1, count2);
+                    if (len2 <= 1) { break outer; }
+                }
+                a[dest--] = a[cursor1--];
+                if (--len1 == 0) { break outer; }
+
+                // galloping paid off so it becomes easier to enter it again
+                --minGallop;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+            // galloping did not pay off so it becomes harder to enter it again
+            if (minGallop < 0) { minGallop = 0; }
+            minGallop += 2;
+        }
+
+        this.minGallop = minGallop < 1 ? 1 : minGallop;
+
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+            a[dest] = temp[cursor2];   // first element of run2 is the smallest one
+        } else if (len2 == 0) {
+            throw new IllegalArgumentException("Comparison method violates its general contract.");
+        } else {
+            System.arraycopy(temp, 0, a, dest - (len2 - 1), len2);
+        }
+    }
+
+    /*
+     * Returns the auxiliar buffer allocating it on the first merge. The shorter of two
+     * merged runs never has more than half of the elements that are sorted so the buffer
+     * is allocated only once with that capacity.
+     *
+     * minCapacity is the number of elements the caller needs to store on the buffer.
+     */
+
+    private Object[] ensureBuffer(int minCapacity) {
+        if (buffer == null) {
+            buffer = new Object[Math.max(minCapacity, size >>> 1)];
+        }
+
+        return buffer;
+    }
+
+    /*
+     * Compares two Comparables objects.
+     *
+     * one is one of the objects to be compared.
+     * another is the other object to be compared.
+     * returns true if the one object is less than the another object. Returns
+     * false otherwise.
+     */
+
+    private static boolean isLess(Comparable one, Comparable another) {
+        return one.compareTo(another) < 0; // -1 when less
+    }
+
+    /*
+     * Compares two objects with a Comparator or, if c is null, with their compareTo().
+     */
+
+    private static boolean isLess(Comparator c, Object one, Object another) {
+        return c == null ? ((Comparable) one).compareTo(another) < 0 : c.compare(one, another) < 0;
+    }
+
+    /**
+     * Convenience method that checks if a Comparable array is sorted.
+     *
+     * @param arr is a reference to a Comparable array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(Comparable[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts an array by the keys computed by keyExtractor using natural Merge sort (stable). The key of each
+     * element is computed only once and cached next to it (decorate-sort-undecorate).
+     *
+     * @param arr is an array of any type.
+     * @param keyExtractor is the function that computes the Comparable sort key of an element.
+     */
+
+    public static <T, K extends Comparable<? super K>> void sort(T[] arr, Function<? super T, ? extends K> keyExtractor) {
+        CachedKey[] decorated = CachedKey.decorate(arr, keyExtractor);
+
+        sort(decorated);
+        CachedKey.undecorate(decorated, arr);
+    }
+
+    /**
+     * Convenience method that prints to standard output all elements
+     * of a Comparable array in an organized way, e.g., [1, 2, 3].
+     *
+     * @param arr is a reference to a Comparable array.
+     */
+
+    public static void show(Comparable[] arr) {
+        System.out.print("[");
+        for (int i = 0; i < arr.length; ++i) {
+            if (i != arr.length - 1) {
+                System.out.print(arr[i] + ", ");
+            } else {
+                System.out.println(arr[i] + "]");
+            }
+        }
+    }
+
+    // unit testing
+    public static void main(String[] args) {
+        Integer[] arr = {3, 10, -1, 0, 5, 4, 15, 0, 7, 7};
+        //String[] arr = {"zzz", "ccc", "ddd", "eee", "aaa", "iii"};
+
+        System.out.println("\nArray BEFORE sorting:");
+        show(arr);
+
+        System.out.println("\nSorting the array...\n");
+        NaturalMerge.sort(arr);
+
+        System.out.println("Array AFTER sorting:");
+        show(arr);
+
+        System.out.println();
+    }
+}
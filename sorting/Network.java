@@ -0,0 +1,78 @@
+/**
+ * This class consists of the small-block kernel of the int and long sorts of this
+ * package: Merge sort and Quick sort hand their subarrays of at most Insertion.CUTOFF
+ * elements to Network.sort() instead of recursing down to single elements.
+ *
+ * Blocks of MIN_BLOCK up to 4 vector registers (64 ints or 32 longs on AVX-512, 32 ints
+ * or 16 longs on AVX2) are sorted with bitonic sorting networks on vector registers (see
+ * VectorNetwork) when the incubating jdk.incubator.vector module is resolved, i.e. the
+ * JVM was started with:
+ *
+ *      java --add-modules jdk.incubator.vector ...
+ *
+ * Every other block (and every block when the module is missing or the networks are
+ * disabled with -Dsorting.vectorNetworks=false) is sorted with the scalar shift
+ * Insertion sort (Insertion.shiftSort()), which is also faster than a network on blocks
+ * that are tiny.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package sorting;
+
+final class Network {
+
+    // true if the sorting networks run on vector registers
+    static final boolean VECTORIZED = vectorized();
+
+    // smallest block sorted by the networks: below it Insertion sort is faster
+    static final int MIN_BLOCK = 8;
+
+    // biggest blocks sorted by the networks (0 if they are not vectorized)
+    static final int INT_BLOCK = VECTORIZED ? VectorNetwork.INT_BLOCK : 0;
+    static final int LONG_BLOCK = VECTORIZED ? VectorNetwork.LONG_BLOCK : 0;
+
+    private Network() { }
+
+    /*
+     * Sorts arr[lo .. hi] (inclusive) of an int array.
+     */
+
+    static void sort(int[] arr, int lo, int hi) {
+        int n = hi - lo + 1;
+
+        if (n >= MIN_BLOCK && n <= INT_BLOCK) {
+            VectorNetwork.sort(arr, lo, hi);
+        } else {
+            Insertion.shiftSort(arr, lo, hi + 1);
+        }
+    }
+
+    /*
+     * Sorts arr[lo .. hi] (inclusive) of a long array.
+     */
+
+    static void sort(long[] arr, int lo, int hi) {
+        int n = hi - lo + 1;
+
+        if (n >= MIN_BLOCK && n <= LONG_BLOCK) {
+            VectorNetwork.sort(arr, lo, hi);
+        } else {
+            Insertion.shiftSort(arr, lo, hi + 1);
+        }
+    }
+
+    /*
+     * Returns true if the jdk.incubator.vector module is resolved and the networks were not
+     * disabled. VectorNetwork is only loaded (and linked against the module) if this is true.
+     */
+
+    private static boolean vectorized() {
+        if (!Boolean.parseBoolean(System.getProperty("sorting.vectorNetworks", "true"))) {
+            return false;
+        }
+
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+}
@@ -0,0 +1,273 @@
+/**
+ * This class consists of the parts of the Quick sorts of this package that do not depend on
+ * the type of the array: the recursion of the classic sort, the loop of the introspective
+ * sort (3-way partitions, recursion on the smaller side and the Heap sort fallback), the
+ * introselect loop and the median-of-three/ninther pivot choice.
+ *
+ * A subclass provides the operations on one array type A (Comparable[], int[], an array
+ * sorted with a Comparator, ...). The drivers call them a constant number of times per
+ * partitioning step, while the loops over the elements (partition(), partition3() and the
+ * small subarray and Heap sorts) are implemented by each subclass with its own compares,
+ * so sharing the drivers adds no virtual call per compare.
+ *
+ * Based on Algorithms (4th ed.) by Robert Sedgewick and Kevin Wayne.
+ *
+ * @author Igor G. Peternella
+ * @date 10-17-2026
+ */
+
+package sorting;
+
+abstract class Partitioner<A> {
+
+    // subarrays bigger than this use Tukey's ninther instead of median-of-three pivots
+    static final int NINTHER_CUTOFF = 40;
+
+    /*
+     * Returns true if arr[i] is less than arr[j].
+     */
+
+    abstract boolean isLess(A arr, int i, int j);
+
+    /*
+     * Swaps arr[i] and arr[j].
+     */
+
+    abstract void swap(A arr, int i, int j);
+
+    /*
+     * Partitions arr[lo .. hi] around the pivot arr[lo] with the two scans of the classic
+     * Quick sort and returns the final index of the pivot.
+     */
+
+    abstract int partition(A arr, int lo, int hi);
+
+    /*
+     * Dijkstra's 3-way partitioning of arr[lo .. hi] around the pivot arr[lo]. Afterwards
+     * arr[lo .. lt - 1] < pivot, arr[lt .. gt] == pivot and arr[gt + 1 .. hi] > pivot, and
+     * lt and gt are returned packed in a long (lt on the upper 32 bits and gt on the lower
+     * 32 bits) so no array has to be allocated per partition.
+     */
+
+    abstract long partition3(A arr, int lo, int hi);
+
+    /*
+     * Sorts a subarray arr[lo .. hi] of at most Insertion.CUTOFF elements.
+     */
+
+    abstract void smallSort(A arr, int lo, int hi);
+
+    /*
+     * Sorts arr[lo .. hi] with Heap sort: the fallback of introSort() and select() after
+     * too many bad partitions.
+     */
+
+    abstract void heapSort(A arr, int lo, int hi);
+
+    /*
+     * Sorts arr[lo .. hi] with a Heap sort that only uses isLess() and swap(). It is the
+     * heapSort() of the array types that Heap cannot sort, e.g. the keys of an argsort
+     * whose indexes must move along with them.
+     */
+
+    final void siftSort(A arr, int lo, int hi) {
+        int n = hi - lo + 1;
+
+        // heap node k (1 .. n) is arr[lo + k - 1]
+        for (int k = n/2; k >= 1; --k) {
+            sink(arr, lo, k, n);
+        }
+
+        while (n > 1) {
+            swap(arr, lo, lo + n - 1);
+            sink(arr, lo, 1, --n);
+        }
+    }
+
+    /*
+     * Sorts arr[lo .. hi] using the classic Quick sort: the pivot is the first element, so
+     * it degrades to O(N^2) compares on already sorted subarrays.
+     */
+
+    final void classicSort(A arr, int lo, int hi) {
+        if (lo >= hi) { return; }
+
+        // small subarrays: Insertion sort (or a sorting network) is faster than recursing
+        // down to single elements
+        if (hi - lo < Insertion.CUTOFF) {
+            smallSort(arr, lo, hi);
+            return;
+        }
+
+        // returns the partition index
+        int p = partition(arr, lo, hi);
+        // repeat for lower left array
+        classicSort(arr, lo, p - 1);
+        // repeat for lower right array
+        classicSort(arr, p + 1, hi);
+    }
+
+    /*
+     * Sorts arr[lo .. hi] using introspective Quick sort. Each step partitions the subarray
+     * in three parts (smaller, equal and bigger than the pivot), recurses on the smaller of
+     * the outer parts and loops on the bigger one, so the recursion depth is at most log(N).
+     * If the loop goes deeper than depthLimit partitions the pivots are bad and the
+     * subarray is sorted with Heap sort instead.
+     */
+
+    final void introSort(A arr, int lo, int hi, int depthLimit) {
+        while (lo < hi) {
+            // small subarrays: Insertion sort (or a sorting network) is faster than
+            // recursing down to single elements
+            if (hi - lo < Insertion.CUTOFF) {
+                smallSort(arr, lo, hi);
+                return;
+            }
+
+            // too many bad partitions: guarantees O(N*log(N)) with Heap sort
+            if (depthLimit == 0) {
+                heapSort(arr, lo, hi);
+                return;
+            }
+            --depthLimit;
+
+            // moves a good pivot to arr[lo]
+            choosePivot(arr, lo, hi);
+
+            long bounds = partition3(arr, lo, hi);
+            int lt = (int) (bounds >>> 32);
+            int gt = (int) bounds;
+
+            // recurses on the smaller side and loops on the bigger one
+            if (lt - lo < hi - gt) {
+                introSort(arr, lo, lt - 1, depthLimit);
+                lo = gt + 1;
+            } else {
+                introSort(arr, gt + 1, hi, depthLimit);
+                hi = lt - 1;
+            }
+        }
+    }
+
+    /*
+     * Rearranges arr[lo .. hi] so that arr[k] is the element that would be at index k if
+     * the subarray were sorted (lo <= k <= hi). Each step partitions the subarray around a
+     * median-of-three/ninther pivot and keeps only the side that holds index k (introselect).
+     */
+
+    final void select(A arr, int lo, int hi, int k) {
+        int depthLimit = depthLimit(hi - lo + 1);
+
+        while (lo < hi) {
+            // too many bad partitions: guarantees O(N*log(N)) with Heap sort
+            if (depthLimit == 0) {
+                heapSort(arr, lo, hi);
+                return;
+            }
+            --depthLimit;
+
+            choosePivot(arr, lo, hi);
+            int j = partition(arr, lo, hi);
+
+            // only the side that holds index k is partitioned again
+            if      (j < k) { lo = j + 1; }
+            else if (j > k) { hi = j - 1; }
+            else            { return; }
+        }
+    }
+
+    /*
+     * Rearranges arr[0 .. length - 1] so that arr[0 .. k - 1] holds its k smallest elements
+     * in sorted order: they are found with select() and then sorted with introSort().
+     */
+
+    final void partialSort(A arr, int length, int k) {
+        if (k < 0 || k > length) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Number of elements is out of bounds.");
+        }
+
+        if (k == 0) { return; }
+
+        // arr[0 .. k - 2] <= arr[k - 1]: only these elements are left to be sorted
+        select(arr, 0, length - 1, k - 1);
+        introSort(arr, 0, k - 2, depthLimit(k - 1));
+    }
+
+    /*
+     * Chooses a pivot for arr[lo .. hi] and swaps it with arr[lo]. Small subarrays use the
+     * median of the first, middle and last elements. Bigger subarrays use Tukey's ninther:
+     * the median of the medians of three evenly spaced samples of three elements each.
+     */
+
+    final void choosePivot(A arr, int lo, int hi) {
+        int size = hi - lo + 1;
+        int mid = lo + (hi - lo)/2;
+        int median;
+
+        if (size > NINTHER_CUTOFF) {
+            int eps = size/8;
+
+            median = median3(arr,
+                             median3(arr, lo, lo + eps, lo + 2*eps),
+                             median3(arr, mid - eps, mid, mid + eps),
+                             median3(arr, hi - 2*eps, hi - eps, hi));
+        } else {
+            median = median3(arr, lo, mid, hi);
+        }
+
+        swap(arr, lo, median);
+    }
+
+    /*
+     * Returns the index of the median of arr[i], arr[j] and arr[k].
+     */
+
+    final int median3(A arr, int i, int j, int k) {
+        if (isLess(arr, i, j)) {
+            if      (isLess(arr, j, k)) { return j; }   // arr[i] < arr[j] < arr[k]
+            else if (isLess(arr, i, k)) { return k; }   // arr[i] < arr[k] <= arr[j]
+            else                        { return i; }   // arr[k] <= arr[i] < arr[j]
+        } else {
+            if      (isLess(arr, k, j)) { return j; }   // arr[k] < arr[j] <= arr[i]
+            else if (isLess(arr, k, i)) { return k; }   // arr[j] <= arr[k] < arr[i]
+            else                        { return i; }   // arr[j] <= arr[i] <= arr[k]
+        }
+    }
+
+    /*
+     * Sinks heap node k of arr[lo .. lo + n - 1].
+     */
+
+    private void sink(A arr, int lo, int k, int n) {
+        while (k <= n/2) {
+            int j = 2*k;
+
+            if (j < n && isLess(arr, lo + j - 1, lo + j)) { ++j; }
+            if (!isLess(arr, lo + k - 1, lo + j - 1)) { break; }
+
+            swap(arr, lo + k - 1, lo + j - 1);
+            k = j;
+        }
+    }
+
+    /*
+     * Returns the number of partitions introSort() allows before it falls back to
+     * Heap sort: 2 * floor(log2(size)).
+     */
+
+    static int depthLimit(int size) {
+        if (size < 2) { return 0; }
+
+        return 2 * (31 - Integer.numberOfLeadingZeros(size));
+    }
+
+    /*
+     * Checks that k is the rank of an element of an array with length elements.
+     */
+
+    static void checkRank(int length, int k) {
+        if (k < 0 || k >= length) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Rank is out of bounds.");
+        }
+    }
+}
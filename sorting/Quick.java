@@ -13,6 +13,30 @@
  *
  *              Quick.sort(arrayReference)
  *
+ * The classic sort() uses the first element as the pivot so it degrades to O(N^2) on
+ * already sorted arrays. The hardened introSort() mode guarantees O(N*log(N)) with
+ * median-of-three/Tukey's ninther pivots, 3-way partitioning (for duplicate keys),
+ * recursion only on the smaller partition and a (bottom-up) Heap sort fallback:
+ *
+ *              Quick.introSort(arrayReference)
+ *
+ * A dual-pivot partitioning mode (three partitions per step) is available both as a
+ * sequential sort and as a parallel fork-join sort which sorts the partitions concurrently:
+ *
+ *              Quick.dualPivotSort(arrayReference)
+ *              Quick.parallelSort(arrayReference)
+ *
+ * Partitioning also finds the k-th smallest element (e.g., the median) or the k smallest
+ * elements in sorted order without sorting the whole array (introselect):
+ *
+ *              Quick.select(arrayReference, k)
+ *              Quick.partialSort(arrayReference, k)
+ *
+ * The argsort() methods return the permutation of the indexes that sorts an array
+ * instead of rearranging it:
+ *
+ *              int[] perm = Quick.argsort(arrayReference)
+ *
  * Based on Algorithms (4th ed.) by Robert Sedgewick and Kevin Wayne.
  * 
  * @author Igor G. Peternella
@@ -21,9 +45,24 @@
 
 package sorting;
 
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
 @SuppressWarnings({"unchecked", "rawtypes"})
 public class Quick {
 
+    // subarrays up to this size are sorted sequentially by parallelSort()
+    public static final int DEFAULT_GRAIN = 1 << 13;
+
+    // operations of the sorts of each array type (see Partitioner)
+    private static final Partitioner<Comparable[]> COMPARABLE = new ComparablePartitioner(null);
+    private static final Partitioner<int[]> INTS = new IntPartitioner();
+    private static final Partitioner<long[]> LONGS = new LongPartitioner();
+    private static final Partitioner<double[]> DOUBLES = new DoublePartitioner();
+    private static final Partitioner<float[]> FLOATS = new FloatPartitioner();
+
     /**
      * Wrapper method to call the overloaded private sort method. Makes
      * this class easier to use by taking just an array reference as an argument.
@@ -31,92 +70,399 @@ public class Quick {
      *
      * @param arr is a Comparable array.
      */
-    
+
     public static void sort(Comparable[] arr) {
-        sort(arr, 0, arr.length - 1);
+        COMPARABLE.classicSort(arr, 0, arr.length - 1);
     }
-    
-    /* 
-     * Method that sorts a Comparable array using Quick sort.
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a Comparable array using the classic Quick sort.
+     * Complexity: O(N*log(N)) compares on average for a range of N elements (O(N^2) on sorted ranges).
+     *
+     * @param arr is a Comparable array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(Comparable[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        COMPARABLE.classicSort(arr, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts a Comparable array using the hardened (introspective) Quick sort mode.
+     * Complexity: O(N*log(N)) compares in the worst case and O(N) compares when
+     * the array has only a few distinct keys.
+     *
+     * @param arr is a Comparable array.
+     */
+
+    public static void introSort(Comparable[] arr) {
+        COMPARABLE.introSort(arr, 0, arr.length - 1, Partitioner.depthLimit(arr.length));
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a Comparable array using the hardened (introspective) Quick sort mode.
+     * Complexity: O(N*log(N)) compares in the worst case for a range of N elements.
+     *
+     * @param arr is a Comparable array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void introSort(Comparable[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        COMPARABLE.introSort(arr, fromIndex, toIndex - 1, Partitioner.depthLimit(toIndex - fromIndex));
+    }
+
+    /**
+     * Sorts a Comparable array using dual-pivot Quick sort. Each step partitions the
+     * array in three parts using two pivots p <= q: elements smaller than p, elements
+     * between p and q and elements bigger than q. Just like introSort() it falls back
+     * to Heap sort if the partitions go too deep.
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is a Comparable array.
+     */
+
+    public static void dualPivotSort(Comparable[] arr) {
+        dualPivotSort(arr, 0, arr.length - 1, Partitioner.depthLimit(arr.length));
+    }
+
+    /*
+     * Method that sorts a Comparable array using dual-pivot Quick sort.
      *
      * arr is a reference to a Comparable array.
      * lo is the lowest index of arr
      * hi is the highest index of arr
+     * depthLimit is the number of partitions allowed before falling back to Heap sort
      */
-    
-    private static void sort(Comparable[] arr, int lo, int hi) {
+
+    private static void dualPivotSort(Comparable[] arr, int lo, int hi, int depthLimit) {
         if (lo >= hi) { return; }
-	
-        // returns the partition index
-        int p = partition(arr, lo, hi);
-        // repeat for lower left array
-        sort(arr, lo, p - 1);
-        // repeat for lower right array
-        sort(arr, p + 1, hi);
+
+        // small subarrays: Insertion sort is faster than recursing down to single elements
+        if (hi - lo < Insertion.CUTOFF) {
+            Insertion.shiftSort(arr, lo, hi + 1);
+            return;
+        }
+
+        // too many bad partitions: guarantees O(N*log(N)) with Heap sort
+        if (depthLimit == 0) {
+            Heap.bottomUpSortRange(arr, lo, hi, 2);
+            return;
+        }
+
+        long pivots = dualPivotPartition(arr, lo, hi);
+        int lt = (int) (pivots >>> 32);   // final index of the first pivot
+        int gt = (int) pivots;            // final index of the second pivot
+
+        dualPivotSort(arr, lo, lt - 1, depthLimit - 1);
+        // equal pivots: the middle partition only has elements equal to them
+        if (isLess(arr[lt], arr[gt])) {
+            dualPivotSort(arr, lt + 1, gt - 1, depthLimit - 1);
+        }
+        dualPivotSort(arr, gt + 1, hi, depthLimit - 1);
+    }
+
+    /*
+     * Partitions arr[lo .. hi] (at least two elements) with two pivots p <= q picked
+     * at one and two thirds of the subarray. After the partitioning:
+     *
+     *      arr[lo .. lt - 1] < p == arr[lt] <= arr[lt + 1 .. gt - 1] <= arr[gt] == q < arr[gt + 1 .. hi]
+     *
+     * Both final pivot indexes are returned packed in a long (lt on the upper 32 bits
+     * and gt on the lower 32 bits) so no array has to be allocated per partition.
+     *
+     * arr is a reference to a Comparable array.
+     * lo is the lowest index of arr
+     * hi is the highest index of arr
+     */
+
+    private static long dualPivotPartition(Comparable[] arr, int lo, int hi) {
+        int third = (hi - lo)/3;
+
+        // moves the pivots to the ends of the subarray with p <= q
+        swap(arr, lo, lo + third);
+        swap(arr, hi, hi - third);
+        if (isLess(arr[hi], arr[lo])) { swap(arr, lo, hi); }
+
+        Comparable p = arr[lo];
+        Comparable q = arr[hi];
+        int lt = lo + 1;   // arr[lo + 1 .. lt - 1] < p
+        int gt = hi - 1;   // arr[gt + 1 .. hi - 1] > q
+        int i = lo + 1;    // arr[lt .. i - 1] is between p and q
+
+        while (i <= gt) {
+            if      (isLess(arr[i], p)) { swap(arr, lt++, i++); }
+            else if (isLess(q, arr[i])) { swap(arr, i, gt--); }
+            else                        { ++i; }
+        }
+
+        // moves the pivots to their final positions
+        swap(arr, lo, --lt);
+        swap(arr, hi, ++gt);
+
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Sorts a Comparable array using a parallel dual-pivot Quick sort on the common
+     * ForkJoinPool.
+     * Complexity: O(N*log(N)) compares split among the threads of the pool.
+     *
+     * @param arr is a Comparable array.
+     */
+
+    public static void parallelSort(Comparable[] arr) {
+        parallelSort(arr, ForkJoinPool.commonPool(), DEFAULT_GRAIN);
+    }
+
+    /**
+     * Sorts a Comparable array using a parallel dual-pivot Quick sort on the given
+     * ForkJoinPool.
+     *
+     * @param arr is a Comparable array.
+     * @param pool is the ForkJoinPool whose threads sort the array.
+     */
+
+    public static void parallelSort(Comparable[] arr, ForkJoinPool pool) {
+        parallelSort(arr, pool, DEFAULT_GRAIN);
+    }
+
+    /**
+     * Sorts a Comparable array using a parallel dual-pivot Quick sort on the given
+     * ForkJoinPool. Subarrays bigger than grain are partitioned and their (two or three)
+     * partitions are sorted concurrently. Subarrays with grain elements or less are
+     * sorted sequentially with dualPivotSort().
+     *
+     * @param arr is a Comparable array.
+     * @param pool is the ForkJoinPool whose threads sort the array.
+     * @param grain is the size of the subarrays that are sorted sequentially.
+     * @throws java.lang.IllegalArgumentException if grain is not positive.
+     */
+
+    public static void parallelSort(Comparable[] arr, ForkJoinPool pool, int grain) {
+        if (grain < 1) {
+            throw new IllegalArgumentException("Grain size must be positive.");
+        }
+
+        // nothing to be gained from forking
+        if (arr.length <= grain || pool.getParallelism() == 1) {
+            dualPivotSort(arr);
+            return;
+        }
+
+        pool.invoke(new SortTask(arr, 0, arr.length - 1, Partitioner.depthLimit(arr.length), grain));
+    }
+
+    /*
+     * Fork-join task that sorts arr[lo .. hi] by partitioning it with two pivots and
+     * sorting the partitions in parallel. Subarrays with grain elements or less are
+     * sorted sequentially.
+     */
+
+    private static class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Comparable[] arr;   // array to be sorted
+        private final int lo;             // lowest index of the subarray
+        private final int hi;             // highest index of the subarray
+        private final int depthLimit;     // partitions allowed before falling back to Heap sort
+        private final int grain;          // size of the subarrays sorted sequentially
+
+        SortTask(Comparable[] arr, int lo, int hi, int depthLimit, int grain) {
+            this.arr = arr;
+            this.lo = lo;
+            this.hi = hi;
+            this.depthLimit = depthLimit;
+            this.grain = grain;
+        }
+
+        protected void compute() {
+            if (hi - lo + 1 <= grain || depthLimit == 0) {
+                dualPivotSort(arr, lo, hi, depthLimit);
+                return;
+            }
+
+            long pivots = dualPivotPartition(arr, lo, hi);
+            int lt = (int) (pivots >>> 32);   // final index of the first pivot
+            int gt = (int) pivots;            // final index of the second pivot
+
+            SortTask left = new SortTask(arr, lo, lt - 1, depthLimit - 1, grain);
+            SortTask right = new SortTask(arr, gt + 1, hi, depthLimit - 1, grain);
+
+            // equal pivots: the middle partition only has elements equal to them
+            if (isLess(arr[lt], arr[gt])) {
+                invokeAll(left, new SortTask(arr, lt + 1, gt - 1, depthLimit - 1, grain), right);
+            } else {
+                invokeAll(left, right);
+            }
+        }
     }
 
-    private static int partition(Comparable[] arr, int lo, int hi) {
-        Comparable pivot = arr[lo];
-        int i = lo + 1;
-        int j = hi;
+    /*
+     * Operations of the Comparable sorts (see Partitioner). The compares, swaps and writes
+     * are recorded on stats, which is null for the plain (not instrumented) sorts.
+     */
+
+    private static final class ComparablePartitioner extends Partitioner<Comparable[]> {
+        final SortStats stats;   // collector of the operations of the sort or null
+
+        ComparablePartitioner(SortStats stats) {
+            this.stats = stats;
+        }
+
+        boolean isLess(Comparable[] arr, int i, int j) {
+            return Quick.isLess(arr[i], arr[j], stats);
+        }
+
+        void swap(Comparable[] arr, int i, int j) {
+            Quick.swap(arr, i, j, stats);
+        }
+
+        /*
+         * Partitions arr[lo .. hi] around arr[lo] and returns the final index of the pivot.
+         */
 
-        while (true) {
-            // keeps moving up until a number
-            // bigger than pivot is found (wrong position)
-            while (i <= hi && isLess(arr[i], pivot)) {		
-                ++i;
+        int partition(Comparable[] arr, int lo, int hi) {
+            Comparable pivot = arr[lo];
+            int i = lo;
+            int j = hi + 1;
+
+            while (true) {
+                // keeps moving up until a number
+                // bigger than (or equal to) pivot is found (wrong position)
+                // i is incremented before the compare so it always moves past
+                // elements equal to the pivot that have just been swapped
+                while (Quick.isLess(arr[++i], pivot, stats)) {
+                    if (i == hi) { break; }
+                }
+
+                // keeps moving down until a number
+                // smaller than (or equal to) pivot is found (wrong position)
+                while (Quick.isLess(pivot, arr[--j], stats)) {
+                    if (j == lo) { break; }
+                }
+
+                if (i >= j) { break; }
+                // swaps reversed numbers i.e. numbers smaller
+                // than the pivot stays at the left subarray
+                // and numbers higher stays at the right subarray
+                Quick.swap(arr, i, j, stats);
             }
 
-            // keeps moving down until a number
-            // small than pivot is found (wrong position)
-            while (j >= 0 && isLess(pivot, arr[j])) {
-                --j;
+            // j has the proper position for the pivot where
+            // all numbers at the pivot's left are smaller and all numbers
+            // at its right are higher than itself
+            Quick.swap(arr, lo, j, stats);
+
+            return j;
+        }
+
+        long partition3(Comparable[] arr, int lo, int hi) {
+            Comparable pivot = arr[lo];
+            int lt = lo;
+            int gt = hi;
+            int i = lo + 1;
+
+            while (i <= gt) {
+                int cmp = arr[i].compareTo(pivot);
+                SortStats.compare(stats);
+
+                if      (cmp < 0) { Quick.swap(arr, lt++, i++, stats); }
+                else if (cmp > 0) { Quick.swap(arr, i, gt--, stats); }
+                else              { ++i; }
             }
 
-            if (i >= j) { break; }
-            // swaps reversed numbers i.e. numbers smaller
-            // than the pivot stays at the left subarray
-            // and numbers higher stays at the right subarray
-            swap(arr, i, j);
-            //show(arr);
+            return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
         }
 
-        // j has the proper position for the pivot where
-        // all numbers at the pivot's left are smaller and all numbers
-        // at its right are higher than itself
-        swap(arr, lo, j);
+        void smallSort(Comparable[] arr, int lo, int hi) {
+            Insertion.shiftSort(arr, lo, hi + 1, stats);
+        }
+
+        // a "heap fallback" phase means the input defeated the pivot choice
+        void heapSort(Comparable[] arr, int lo, int hi) {
+            long start = SortStats.start(stats);
 
-        return j;
+            Heap.bottomUpSortRange(arr, lo, hi, 2, stats);
+            SortStats.time(stats, "heap fallback", start);
+        }
     }
-    
+
     /*
      * Swaps two elements of a Comparable array.
-     * 
+     *
      * arr is a reference to a Comparable array.
      * ix1 is the index of the first element to be swapped on the array.
      * ix2 is the index of the second element to be swapped on the array.
-     */    
-    
+     */
+
     private static void swap(Comparable[] arr, int ix1, int ix2) {
         Comparable temp = arr[ix1];
-	
+
         arr[ix1] = arr[ix2];
         arr[ix2] = temp;
     }
-    
+
     /*
      * Compares two Comparables objects.
-     * 
+     *
      * one is one of the objects to be compared.
      * another is the other object to be compared.
      * returns true if the one object is less than the another object. Returns
      * false otherwise.
      */
-    
+
     private static boolean isLess(Comparable one, Comparable another) {
         return one.compareTo(another) < 0; // -1 when less
     }
 
+    /**
+     * Rearranges a Comparable array so that arr[k] is the element that would be at index k if the
+     * array were sorted, the elements of arr[0 .. k - 1] are less than or equal to it and
+     * the elements of arr[k + 1 .. N - 1] are greater than or equal to it (introselect). Each
+     * step moves a median-of-three/ninther pivot to the front, partitions the subarray with
+     * partition() and keeps only the side that holds index k. If there are too many bad
+     * partitions the remaining subarray is sorted with bottom-up Heap sort.
+     * Complexity: O(N) compares on average and O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is a Comparable array.
+     * @param k is the rank of the element to be selected (0 is the smallest element).
+     * @return the k-th smallest element of arr.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if k is out of bounds.
+     */
+
+    public static Comparable select(Comparable[] arr, int k) {
+        Partitioner.checkRank(arr.length, k);
+
+        COMPARABLE.select(arr, 0, arr.length - 1, k);
+
+        return arr[k];
+    }
+
+    /**
+     * Rearranges a Comparable array so that arr[0 .. k - 1] holds the k smallest elements of the
+     * array in sorted order. The order of the other elements is unspecified. The k smallest
+     * elements are found with select() and then sorted with introSort().
+     * Complexity: O(N + k*log(k)) compares on average.
+     *
+     * @param arr is a Comparable array.
+     * @param k is the number of smallest elements to be sorted (0 <= k <= N).
+     * @throws java.lang.ArrayIndexOutOfBoundsException if k is out of bounds.
+     */
+
+    public static void partialSort(Comparable[] arr, int k) {
+        COMPARABLE.partialSort(arr, arr.length, k);
+    }
+
     /**
      * Convenience method that checks if a Comparable array is sorted.
      *
@@ -134,6 +480,1145 @@ public class Quick {
         return true;
     }
 
+    /**
+     * Sorts an array using the classic Quick sort and the order defined by a Comparator.
+     * Complexity: O(N*log(N)) compares on average (O(N^2) on sorted arrays).
+     *
+     * @param arr is an array of any type.
+     * @param comparator defines the order of the elements of arr.
+     */
+
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator) {
+        new ComparatorPartitioner(comparator).classicSort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an array using the classic Quick sort
+     * and the order defined by a Comparator.
+     * Complexity: O(N*log(N)) compares on average for a range of N elements (O(N^2) on sorted ranges).
+     *
+     * @param arr is an array of any type.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @param comparator defines the order of the elements of arr.
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static <T> void sort(T[] arr, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        new ComparatorPartitioner(comparator).classicSort(arr, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts an array using the hardened (introspective) Quick sort mode and the order
+     * defined by a Comparator.
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is an array of any type.
+     * @param comparator defines the order of the elements of arr.
+     */
+
+    public static <T> void introSort(T[] arr, Comparator<? super T> comparator) {
+        new ComparatorPartitioner(comparator).introSort(arr, 0, arr.length - 1, Partitioner.depthLimit(arr.length));
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an array using the hardened (introspective) Quick sort mode
+     * and the order defined by a Comparator.
+     * Complexity: O(N*log(N)) compares in the worst case for a range of N elements.
+     *
+     * @param arr is an array of any type.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @param comparator defines the order of the elements of arr.
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static <T> void introSort(T[] arr, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        new ComparatorPartitioner(comparator).introSort(arr, fromIndex, toIndex - 1, Partitioner.depthLimit(toIndex - fromIndex));
+    }
+
+    /**
+     * Rearranges an array so that arr[k] is the element that would be at index k if the
+     * array were sorted by a Comparator, the elements of arr[0 .. k - 1] are less than or
+     * equal to it and the elements of arr[k + 1 .. N - 1] are greater than or equal to it
+     * (see the Comparable version).
+     * Complexity: O(N) compares on average and O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is an array of any type.
+     * @param k is the rank of the element to be selected (0 is the smallest element).
+     * @param comparator defines the order of the elements of arr.
+     * @return the k-th smallest element of arr.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if k is out of bounds.
+     */
+
+    public static <T> T select(T[] arr, int k, Comparator<? super T> comparator) {
+        Partitioner.checkRank(arr.length, k);
+
+        new ComparatorPartitioner(comparator).select(arr, 0, arr.length - 1, k);
+
+        return arr[k];
+    }
+
+    /**
+     * Rearranges an array so that arr[0 .. k - 1] holds the k smallest elements of the
+     * array sorted by a Comparator (see the Comparable version).
+     * Complexity: O(N + k*log(k)) compares on average.
+     *
+     * @param arr is an array of any type.
+     * @param k is the number of smallest elements to be sorted (0 <= k <= N).
+     * @param comparator defines the order of the elements of arr.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if k is out of bounds.
+     */
+
+    public static <T> void partialSort(T[] arr, int k, Comparator<? super T> comparator) {
+        new ComparatorPartitioner(comparator).partialSort(arr, arr.length, k);
+    }
+
+    /**
+     * Sorts an array by the keys computed by keyExtractor using the classic Quick sort. The key of each
+     * element is computed only once and cached next to it (decorate-sort-undecorate).
+     *
+     * @param arr is an array of any type.
+     * @param keyExtractor is the function that computes the Comparable sort key of an element.
+     */
+
+    public static <T, K extends Comparable<? super K>> void sort(T[] arr, Function<? super T, ? extends K> keyExtractor) {
+        CachedKey[] decorated = CachedKey.decorate(arr, keyExtractor);
+
+        sort(decorated);
+        CachedKey.undecorate(decorated, arr);
+    }
+
+    /**
+     * Sorts an array by the keys computed by keyExtractor using introspective Quick sort. The key of each
+     * element is computed only once and cached next to it (decorate-sort-undecorate).
+     *
+     * @param arr is an array of any type.
+     * @param keyExtractor is the function that computes the Comparable sort key of an element.
+     */
+
+    public static <T, K extends Comparable<? super K>> void introSort(T[] arr, Function<? super T, ? extends K> keyExtractor) {
+        CachedKey[] decorated = CachedKey.decorate(arr, keyExtractor);
+
+        introSort(decorated);
+        CachedKey.undecorate(decorated, arr);
+    }
+
+    /*
+     * Operations of the sorts with a Comparator (see Partitioner).
+     */
+
+    private static class ComparatorPartitioner extends Partitioner<Object[]> {
+        final Comparator c;   // order of the elements
+
+        ComparatorPartitioner(Comparator c) {
+            this.c = c;
+        }
+
+        boolean isLess(Object[] arr, int i, int j) {
+            return c.compare(arr[i], arr[j]) < 0;
+        }
+
+        void swap(Object[] arr, int i, int j) {
+            Object temp = arr[i];
+
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+
+        int partition(Object[] arr, int lo, int hi) {
+            Object pivot = arr[lo];
+            int i = lo;
+            int j = hi + 1;
+
+            while (true) {
+                while (c.compare(arr[++i], pivot) < 0) {
+                    if (i == hi) { break; }
+                }
+
+                while (c.compare(pivot, arr[--j]) < 0) {
+                    if (j == lo) { break; }
+                }
+
+                if (i >= j) { break; }
+
+                swap(arr, i, j);
+            }
+
+            swap(arr, lo, j);
+
+            return j;
+        }
+
+        long partition3(Object[] arr, int lo, int hi) {
+            Object pivot = arr[lo];
+            int lt = lo;
+            int gt = hi;
+            int i = lo + 1;
+
+            while (i <= gt) {
+                int cmp = c.compare(arr[i], pivot);
+
+                if      (cmp < 0) { swap(arr, lt++, i++); }
+                else if (cmp > 0) { swap(arr, i, gt--); }
+                else              { ++i; }
+            }
+
+            return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+        }
+
+        void smallSort(Object[] arr, int lo, int hi) {
+            Insertion.shiftSort(arr, lo, hi + 1, c);
+        }
+
+        void heapSort(Object[] arr, int lo, int hi) {
+            Heap.bottomUpSortRange(arr, c, lo, hi, 2);
+        }
+    }
+
+    /**
+     * Sorts an int array using the classic Quick sort. No boxing is done.
+     * Complexity: O(N*log(N)) compares on average (O(N^2) on sorted arrays).
+     *
+     * @param arr is an int array.
+     */
+
+    public static void sort(int[] arr) {
+        INTS.classicSort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an int array using the classic Quick sort.
+     * Complexity: O(N*log(N)) compares on average for a range of N elements (O(N^2) on sorted ranges).
+     *
+     * @param arr is an int array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(int[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        INTS.classicSort(arr, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts an int array using the hardened (introspective) Quick sort mode. No boxing is done.
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is an int array.
+     */
+
+    public static void introSort(int[] arr) {
+        INTS.introSort(arr, 0, arr.length - 1, Partitioner.depthLimit(arr.length));
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an int array using the hardened (introspective) Quick sort mode.
+     * Complexity: O(N*log(N)) compares in the worst case for a range of N elements.
+     *
+     * @param arr is an int array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void introSort(int[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        INTS.introSort(arr, fromIndex, toIndex - 1, Partitioner.depthLimit(toIndex - fromIndex));
+    }
+
+    /**
+     * Rearranges an int array so that arr[k] is the element that would be at index k if the
+     * array were sorted, the elements of arr[0 .. k - 1] are less than or equal to it and
+     * the elements of arr[k + 1 .. N - 1] are greater than or equal to it (introselect, see
+     * the Comparable version).
+     * Complexity: O(N) compares on average and O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is an int array.
+     * @param k is the rank of the element to be selected (0 is the smallest element).
+     * @return the k-th smallest element of arr.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if k is out of bounds.
+     */
+
+    public static int select(int[] arr, int k) {
+        Partitioner.checkRank(arr.length, k);
+
+        INTS.select(arr, 0, arr.length - 1, k);
+
+        return arr[k];
+    }
+
+    /**
+     * Rearranges an int array so that arr[0 .. k - 1] holds the k smallest elements of the
+     * array in sorted order (see the Comparable version).
+     * Complexity: O(N + k*log(k)) compares on average.
+     *
+     * @param arr is an int array.
+     * @param k is the number of smallest elements to be sorted (0 <= k <= N).
+     * @throws java.lang.ArrayIndexOutOfBoundsException if k is out of bounds.
+     */
+
+    public static void partialSort(int[] arr, int k) {
+        INTS.partialSort(arr, arr.length, k);
+    }
+
+    /**
+     * Convenience method that checks if an int array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to an int array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(int[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (arr[i + 1] < arr[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /*
+     * Operations of the int sorts (see Partitioner): the partitions keep the pivot in a local
+     * variable and small subarrays are sorted by sorting networks.
+     */
+
+    private static final class IntPartitioner extends Partitioner<int[]> {
+
+        boolean isLess(int[] arr, int i, int j) {
+            return arr[i] < arr[j];
+        }
+
+        void swap(int[] arr, int i, int j) {
+            int temp = arr[i];
+
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+
+        int partition(int[] arr, int lo, int hi) {
+            int pivot = arr[lo];
+            int i = lo;
+            int j = hi + 1;
+
+            while (true) {
+                while (arr[++i] < pivot) {
+                    if (i == hi) { break; }
+                }
+
+                while (pivot < arr[--j]) {
+                    if (j == lo) { break; }
+                }
+
+                if (i >= j) { break; }
+
+                swap(arr, i, j);
+            }
+
+            swap(arr, lo, j);
+
+            return j;
+        }
+
+        long partition3(int[] arr, int lo, int hi) {
+            int pivot = arr[lo];
+            int lt = lo;
+            int gt = hi;
+            int i = lo + 1;
+
+            while (i <= gt) {
+                if      (arr[i] < pivot) { swap(arr, lt++, i++); }
+                else if (pivot < arr[i]) { swap(arr, i, gt--); }
+                else                     { ++i; }
+            }
+
+            return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+        }
+
+        void smallSort(int[] arr, int lo, int hi) {
+            Network.sort(arr, lo, hi);
+        }
+
+        void heapSort(int[] arr, int lo, int hi) {
+            Heap.bottomUpSortRange(arr, lo, hi, 2);
+        }
+    }
+
+    /**
+     * Sorts a long array using the classic Quick sort. No boxing is done.
+     * Complexity: O(N*log(N)) compares on average (O(N^2) on sorted arrays).
+     *
+     * @param arr is a long array.
+     */
+
+    public static void sort(long[] arr) {
+        LONGS.classicSort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a long array using the classic Quick sort.
+     * Complexity: O(N*log(N)) compares on average for a range of N elements (O(N^2) on sorted ranges).
+     *
+     * @param arr is a long array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(long[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        LONGS.classicSort(arr, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts a long array using the hardened (introspective) Quick sort mode. No boxing is done.
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is a long array.
+     */
+
+    public static void introSort(long[] arr) {
+        LONGS.introSort(arr, 0, arr.length - 1, Partitioner.depthLimit(arr.length));
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a long array using the hardened (introspective) Quick sort mode.
+     * Complexity: O(N*log(N)) compares in the worst case for a range of N elements.
+     *
+     * @param arr is a long array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void introSort(long[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        LONGS.introSort(arr, fromIndex, toIndex - 1, Partitioner.depthLimit(toIndex - fromIndex));
+    }
+
+    /**
+     * Rearranges a long array so that arr[k] is the element that would be at index k if the
+     * array were sorted, the elements of arr[0 .. k - 1] are less than or equal to it and
+     * the elements of arr[k + 1 .. N - 1] are greater than or equal to it (introselect, see
+     * the Comparable version).
+     * Complexity: O(N) compares on average and O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is a long array.
+     * @param k is the rank of the element to be selected (0 is the smallest element).
+     * @return the k-th smallest element of arr.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if k is out of bounds.
+     */
+
+    public static long select(long[] arr, int k) {
+        Partitioner.checkRank(arr.length, k);
+
+        LONGS.select(arr, 0, arr.length - 1, k);
+
+        return arr[k];
+    }
+
+    /**
+     * Rearranges a long array so that arr[0 .. k - 1] holds the k smallest elements of the
+     * array in sorted order (see the Comparable version).
+     * Complexity: O(N + k*log(k)) compares on average.
+     *
+     * @param arr is a long array.
+     * @param k is the number of smallest elements to be sorted (0 <= k <= N).
+     * @throws java.lang.ArrayIndexOutOfBoundsException if k is out of bounds.
+     */
+
+    public static void partialSort(long[] arr, int k) {
+        LONGS.partialSort(arr, arr.length, k);
+    }
+
+    /**
+     * Convenience method that checks if a long array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a long array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(long[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (arr[i + 1] < arr[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /*
+     * Operations of the long sorts (see Partitioner): the partitions keep the pivot in a local
+     * variable and small subarrays are sorted by sorting networks.
+     */
+
+    private static class LongPartitioner extends Partitioner<long[]> {
+
+        boolean isLess(long[] arr, int i, int j) {
+            return arr[i] < arr[j];
+        }
+
+        void swap(long[] arr, int i, int j) {
+            long temp = arr[i];
+
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+
+        int partition(long[] arr, int lo, int hi) {
+            long pivot = arr[lo];
+            int i = lo;
+            int j = hi + 1;
+
+            while (true) {
+                while (arr[++i] < pivot) {
+                    if (i == hi) { break; }
+                }
+
+                while (pivot < arr[--j]) {
+                    if (j == lo) { break; }
+                }
+
+                if (i >= j) { break; }
+
+                swap(arr, i, j);
+            }
+
+            swap(arr, lo, j);
+
+            return j;
+        }
+
+        long partition3(long[] arr, int lo, int hi) {
+            long pivot = arr[lo];
+            int lt = lo;
+            int gt = hi;
+            int i = lo + 1;
+
+            while (i <= gt) {
+                if      (arr[i] < pivot) { swap(arr, lt++, i++); }
+                else if (pivot < arr[i]) { swap(arr, i, gt--); }
+                else                     { ++i; }
+            }
+
+            return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+        }
+
+        void smallSort(long[] arr, int lo, int hi) {
+            Network.sort(arr, lo, hi);
+        }
+
+        void heapSort(long[] arr, int lo, int hi) {
+            Heap.bottomUpSortRange(arr, lo, hi, 2);
+        }
+    }
+
+    /**
+     * Sorts a double array using the classic Quick sort. No boxing is done.
+     * Complexity: O(N*log(N)) compares on average (O(N^2) on sorted arrays).
+     *
+     * @param arr is a double array.
+     */
+
+    public static void sort(double[] arr) {
+        DOUBLES.classicSort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a double array using the classic Quick sort.
+     * Complexity: O(N*log(N)) compares on average for a range of N elements (O(N^2) on sorted ranges).
+     *
+     * @param arr is a double array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(double[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        DOUBLES.classicSort(arr, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts a double array using the hardened (introspective) Quick sort mode. No boxing is done.
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is a double array.
+     */
+
+    public static void introSort(double[] arr) {
+        DOUBLES.introSort(arr, 0, arr.length - 1, Partitioner.depthLimit(arr.length));
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a double array using the hardened (introspective) Quick sort mode.
+     * Complexity: O(N*log(N)) compares in the worst case for a range of N elements.
+     *
+     * @param arr is a double array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void introSort(double[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        DOUBLES.introSort(arr, fromIndex, toIndex - 1, Partitioner.depthLimit(toIndex - fromIndex));
+    }
+
+    /**
+     * Rearranges a double array so that arr[k] is the element that would be at index k if the
+     * array were sorted, the elements of arr[0 .. k - 1] are less than or equal to it and
+     * the elements of arr[k + 1 .. N - 1] are greater than or equal to it (introselect, see
+     * the Comparable version).
+     * Complexity: O(N) compares on average and O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is a double array.
+     * @param k is the rank of the element to be selected (0 is the smallest element).
+     * @return the k-th smallest element of arr.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if k is out of bounds.
+     */
+
+    public static double select(double[] arr, int k) {
+        Partitioner.checkRank(arr.length, k);
+
+        DOUBLES.select(arr, 0, arr.length - 1, k);
+
+        return arr[k];
+    }
+
+    /**
+     * Rearranges a double array so that arr[0 .. k - 1] holds the k smallest elements of the
+     * array in sorted order (see the Comparable version).
+     * Complexity: O(N + k*log(k)) compares on average.
+     *
+     * @param arr is a double array.
+     * @param k is the number of smallest elements to be sorted (0 <= k <= N).
+     * @throws java.lang.ArrayIndexOutOfBoundsException if k is out of bounds.
+     */
+
+    public static void partialSort(double[] arr, int k) {
+        DOUBLES.partialSort(arr, arr.length, k);
+    }
+
+    /**
+     * Convenience method that checks if a double array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a double array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(double[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (Double.compare(arr[i + 1], arr[i]) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /*
+     * Operations of the double sorts (see Partitioner): the partitions keep the pivot in a local
+     * variable.
+     */
+
+    private static final class DoublePartitioner extends Partitioner<double[]> {
+
+        boolean isLess(double[] arr, int i, int j) {
+            return less(arr[i], arr[j]);
+        }
+
+        void swap(double[] arr, int i, int j) {
+            double temp = arr[i];
+
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+
+        int partition(double[] arr, int lo, int hi) {
+            double pivot = arr[lo];
+            int i = lo;
+            int j = hi + 1;
+
+            while (true) {
+                while (less(arr[++i], pivot)) {
+                    if (i == hi) { break; }
+                }
+
+                while (less(pivot, arr[--j])) {
+                    if (j == lo) { break; }
+                }
+
+                if (i >= j) { break; }
+
+                swap(arr, i, j);
+            }
+
+            swap(arr, lo, j);
+
+            return j;
+        }
+
+        long partition3(double[] arr, int lo, int hi) {
+            double pivot = arr[lo];
+            int lt = lo;
+            int gt = hi;
+            int i = lo + 1;
+
+            while (i <= gt) {
+                if      (less(arr[i], pivot)) { swap(arr, lt++, i++); }
+                else if (less(pivot, arr[i])) { swap(arr, i, gt--); }
+                else                          { ++i; }
+            }
+
+            return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+        }
+
+        void smallSort(double[] arr, int lo, int hi) {
+            Insertion.shiftSort(arr, lo, hi + 1);
+        }
+
+        void heapSort(double[] arr, int lo, int hi) {
+            Heap.bottomUpSortRange(arr, lo, hi, 2);
+        }
+
+        /*
+         * Double.compare() orders -0.0 before 0.0 and NaN after every other value.
+         */
+
+        private static boolean less(double one, double another) {
+            return Double.compare(one, another) < 0;
+        }
+    }
+
+    /**
+     * Sorts a float array using the classic Quick sort. No boxing is done.
+     * Complexity: O(N*log(N)) compares on average (O(N^2) on sorted arrays).
+     *
+     * @param arr is a float array.
+     */
+
+    public static void sort(float[] arr) {
+        FLOATS.classicSort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a float array using the classic Quick sort.
+     * Complexity: O(N*log(N)) compares on average for a range of N elements (O(N^2) on sorted ranges).
+     *
+     * @param arr is a float array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(float[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        FLOATS.classicSort(arr, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts a float array using the hardened (introspective) Quick sort mode. No boxing is done.
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is a float array.
+     */
+
+    public static void introSort(float[] arr) {
+        FLOATS.introSort(arr, 0, arr.length - 1, Partitioner.depthLimit(arr.length));
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a float array using the hardened (introspective) Quick sort mode.
+     * Complexity: O(N*log(N)) compares in the worst case for a range of N elements.
+     *
+     * @param arr is a float array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void introSort(float[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        FLOATS.introSort(arr, fromIndex, toIndex - 1, Partitioner.depthLimit(toIndex - fromIndex));
+    }
+
+    /**
+     * Rearranges a float array so that arr[k] is the element that would be at index k if the
+     * array were sorted, the elements of arr[0 .. k - 1] are less than or equal to it and
+     * the elements of arr[k + 1 .. N - 1] are greater than or equal to it (introselect, see
+     * the Comparable version).
+     * Complexity: O(N) compares on average and O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is a float array.
+     * @param k is the rank of the element to be selected (0 is the smallest element).
+     * @return the k-th smallest element of arr.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if k is out of bounds.
+     */
+
+    public static float select(float[] arr, int k) {
+        Partitioner.checkRank(arr.length, k);
+
+        FLOATS.select(arr, 0, arr.length - 1, k);
+
+        return arr[k];
+    }
+
+    /**
+     * Rearranges a float array so that arr[0 .. k - 1] holds the k smallest elements of the
+     * array in sorted order (see the Comparable version).
+     * Complexity: O(N + k*log(k)) compares on average.
+     *
+     * @param arr is a float array.
+     * @param k is the number of smallest elements to be sorted (0 <= k <= N).
+     * @throws java.lang.ArrayIndexOutOfBoundsException if k is out of bounds.
+     */
+
+    public static void partialSort(float[] arr, int k) {
+        FLOATS.partialSort(arr, arr.length, k);
+    }
+
+    /**
+     * Convenience method that checks if a float array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a float array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(float[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (Float.compare(arr[i + 1], arr[i]) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /*
+     * Operations of the float sorts (see Partitioner): the partitions keep the pivot in a local
+     * variable.
+     */
+
+    private static final class FloatPartitioner extends Partitioner<float[]> {
+
+        boolean isLess(float[] arr, int i, int j) {
+            return less(arr[i], arr[j]);
+        }
+
+        void swap(float[] arr, int i, int j) {
+            float temp = arr[i];
+
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+
+        int partition(float[] arr, int lo, int hi) {
+            float pivot = arr[lo];
+            int i = lo;
+            int j = hi + 1;
+
+            while (true) {
+                while (less(arr[++i], pivot)) {
+                    if (i == hi) { break; }
+                }
+
+                while (less(pivot, arr[--j])) {
+                    if (j == lo) { break; }
+                }
+
+                if (i >= j) { break; }
+
+                swap(arr, i, j);
+            }
+
+            swap(arr, lo, j);
+
+            return j;
+        }
+
+        long partition3(float[] arr, int lo, int hi) {
+            float pivot = arr[lo];
+            int lt = lo;
+            int gt = hi;
+            int i = lo + 1;
+
+            while (i <= gt) {
+                if      (less(arr[i], pivot)) { swap(arr, lt++, i++); }
+                else if (less(pivot, arr[i])) { swap(arr, i, gt--); }
+                else                          { ++i; }
+            }
+
+            return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+        }
+
+        void smallSort(float[] arr, int lo, int hi) {
+            Insertion.shiftSort(arr, lo, hi + 1);
+        }
+
+        void heapSort(float[] arr, int lo, int hi) {
+            Heap.bottomUpSortRange(arr, lo, hi, 2);
+        }
+
+        /*
+         * Float.compare() orders -0.0 before 0.0 and NaN after every other value.
+         */
+
+        private static boolean less(float one, float another) {
+            return Float.compare(one, another) < 0;
+        }
+    }
+
+    /**
+     * Returns the permutation of the indexes that sorts a Comparable array using the hardened
+     * (introspective) Quick sort mode: arr[perm[0]], arr[perm[1]], ... is in ascending order.
+     * The array is not rearranged, so many orders of the same array can be kept as
+     * permutations. The permutation is not stable (see Merge.argsort() for a stable one).
+     * Complexity: O(N*log(N)) compares in the worst case, a copy of the N references and
+     * N ints for the permutation.
+     *
+     * @param arr is a Comparable array.
+     * @return the indexes of arr in sorted order.
+     */
+
+    public static int[] argsort(Comparable[] arr) {
+        return argsort(arr, Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns the permutation of the indexes that sorts an array using introspective Quick
+     * sort and the order defined by a Comparator (see argsort(Comparable[])).
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param arr is an array of any type.
+     * @param comparator defines the order of the elements of arr.
+     * @return the indexes of arr in sorted order.
+     */
+
+    public static <T> int[] argsort(T[] arr, Comparator<? super T> comparator) {
+        // the keys are moved along with the indexes so compares read keys next to each other
+        Object[] keys = arr.clone();
+        int[] perm = Argsort.identity(arr.length);
+
+        new ComparatorArgsort(comparator, perm).introSort(keys, 0, arr.length - 1, Partitioner.depthLimit(arr.length));
+
+        return perm;
+    }
+
+    /**
+     * Returns the permutation of the indexes that sorts an int array of keys using
+     * introspective Quick sort (see argsort(Comparable[])). Every key is packed with its
+     * index into a long and the packed array is sorted by introSort(long[]) (see Argsort), so
+     * equal keys are ordered by their indexes and the permutation is stable.
+     * Complexity: O(N*log(N)) compares in the worst case and N longs.
+     *
+     * @param keys is an int array.
+     * @return the indexes of keys in sorted order.
+     */
+
+    public static int[] argsort(int[] keys) {
+        long[] packed = Argsort.pack(keys);
+
+        introSort(packed);
+
+        return Argsort.unpack(packed);
+    }
+
+    /**
+     * Returns the permutation of the indexes that sorts a long array of keys using
+     * introspective Quick sort (see argsort(Comparable[])).
+     * Complexity: O(N*log(N)) compares in the worst case, a copy of the N keys and N ints
+     * for the permutation.
+     *
+     * @param keys is a long array.
+     * @return the indexes of keys in sorted order.
+     */
+
+    public static int[] argsort(long[] keys) {
+        return argsortCopy(keys.clone());
+    }
+
+    /**
+     * Returns the permutation of the indexes that sorts a double array of keys using
+     * introspective Quick sort (see argsort(Comparable[])). The keys are ordered as by
+     * Double.compare().
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param keys is a double array.
+     * @return the indexes of keys in sorted order.
+     */
+
+    public static int[] argsort(double[] keys) {
+        return argsortCopy(Argsort.sortable(keys));
+    }
+
+    /**
+     * Returns the permutation of the indexes that sorts a float array of keys using
+     * introspective Quick sort (see argsort(int[])). The keys are ordered as by
+     * Float.compare() and the permutation is stable.
+     * Complexity: O(N*log(N)) compares in the worst case.
+     *
+     * @param keys is a float array.
+     * @return the indexes of keys in sorted order.
+     */
+
+    public static int[] argsort(float[] keys) {
+        long[] packed = Argsort.pack(keys);
+
+        introSort(packed);
+
+        return Argsort.unpack(packed);
+    }
+
+    /*
+     * Sorts keys, which is a copy owned by the caller, and returns the permutation of its
+     * indexes.
+     */
+
+    private static int[] argsortCopy(long[] keys) {
+        int[] perm = Argsort.identity(keys.length);
+
+        new LongArgsort(perm).introSort(keys, 0, keys.length - 1, Partitioner.depthLimit(keys.length));
+
+        return perm;
+    }
+
+    /*
+     * Operations of argsort(long[]): the keys are sorted by the long introSort() and every
+     * move of a key is applied to its index in perm. The Heap sort fallback is the one of
+     * Partitioner since Heap does not move the indexes.
+     */
+
+    private static final class LongArgsort extends LongPartitioner {
+        private final int[] perm;   // indexes of the keys
+
+        LongArgsort(int[] perm) {
+            this.perm = perm;
+        }
+
+        void swap(long[] keys, int i, int j) {
+            super.swap(keys, i, j);
+
+            int temp = perm[i];
+            perm[i] = perm[j];
+            perm[j] = temp;
+        }
+
+        void smallSort(long[] keys, int lo, int hi) {
+            Insertion.shiftSort(keys, perm, lo, hi + 1);
+        }
+
+        void heapSort(long[] keys, int lo, int hi) {
+            siftSort(keys, lo, hi);
+        }
+    }
+
+    /*
+     * Operations of argsort() with a Comparator (see LongArgsort).
+     */
+
+    private static final class ComparatorArgsort extends ComparatorPartitioner {
+        private final int[] perm;   // indexes of the keys
+
+        ComparatorArgsort(Comparator c, int[] perm) {
+            super(c);
+            this.perm = perm;
+        }
+
+        void swap(Object[] keys, int i, int j) {
+            super.swap(keys, i, j);
+
+            int temp = perm[i];
+            perm[i] = perm[j];
+            perm[j] = temp;
+        }
+
+        void smallSort(Object[] keys, int lo, int hi) {
+            Insertion.shiftSort(keys, perm, lo, hi + 1, c);
+        }
+
+        void heapSort(Object[] keys, int lo, int hi) {
+            siftSort(keys, lo, hi);
+        }
+    }
+
+    /**
+     * Sorts a Comparable array using the classic Quick sort and records the compares,
+     * swaps and wall time ("sort" phase) of the sort on stats. The sort is the same as sort().
+     *
+     * @param arr is a Comparable array.
+     * @param stats is the collector of the operations of the sort.
+     */
+
+    public static void sort(Comparable[] arr, SortStats stats) {
+        long start = SortStats.start(stats);
+
+        new ComparablePartitioner(stats).classicSort(arr, 0, arr.length - 1);
+        SortStats.time(stats, "sort", start);
+    }
+
+    /**
+     * Sorts a Comparable array using the hardened (introspective) Quick sort mode and
+     * records the compares, swaps, writes and wall time of the sort on stats. The phases
+     * are "sort" (the whole sort) and "heap fallback" (subarrays sorted by bottom-up Heap
+     * sort after too many bad partitions, which is part of the sort and also records its
+     * "heapify" and "sortdown" phases). A non-zero "heap fallback" time means the input
+     * defeated the pivot choice. The sort is the same as introSort().
+     *
+     * @param arr is a Comparable array.
+     * @param stats is the collector of the operations of the sort.
+     */
+
+    public static void introSort(Comparable[] arr, SortStats stats) {
+        long start = SortStats.start(stats);
+
+        new ComparablePartitioner(stats).introSort(arr, 0, arr.length - 1, Partitioner.depthLimit(arr.length));
+        SortStats.time(stats, "sort", start);
+    }
+
+    /*
+     * Swaps two elements of a Comparable array and records the swap on stats.
+     */
+
+    private static void swap(Comparable[] arr, int ix1, int ix2, SortStats stats) {
+        SortStats.swap(stats);
+        swap(arr, ix1, ix2);
+    }
+
+    /*
+     * Compares two Comparables objects and records the compare on stats.
+     */
+
+    private static boolean isLess(Comparable one, Comparable another, SortStats stats) {
+        SortStats.compare(stats);
+        return isLess(one, another);
+    }
+
     /**
      * Convenience method that prints to standard output all elements
      * of a Comparable array in an organized way, e.g., [1, 2, 3].
@@ -0,0 +1,393 @@
+/**
+ * This class consists of implementations of the Radix Sort algorithms, which are not
+ * comparison sorts: keys are sorted digit by digit with key-indexed counting, so they
+ * are not bound by the O(N*log(N)) compares of the other algorithms of this package.
+ *
+ *      1. LSD (least significant digit first) Radix sort for int[] and long[] keys. Keys are
+ *         sorted one byte (R = 256) at a time, from the lowest byte to the highest one. The sign
+ *         bit is flipped on the highest byte so negative keys come before positive ones. The
+ *         counts of every byte are computed in a single pass and passes in which every key has
+ *         the same byte are skipped (e.g., the higher bytes of small keys);
+ *      2. MSD (most significant digit first) Radix sort for String[] keys. Strings are sorted by
+ *         their first digit and then each bucket is sorted recursively by the next digit. Each
+ *         UTF-16 char is split in two one-byte digits so the order is the same as compareTo().
+ *         Small buckets are sorted with Insertion sort.
+ *
+ * The sort() methods of this class are implemented in ascending order. The sorts are stable.
+ *
+ * The methods of this class are static so no instantiation is required
+ * which makes the class more suitable for practical use, e.g., to sort an int
+ * array one could use the sort() method:
+ *
+ *              Radix.sort(arrayReference)
+ *
+ * Based on Algorithms (4th ed.) by Robert Sedgewick and Kevin Wayne.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package sorting;
+
+public class Radix {
+
+    private static final int BITS_PER_DIGIT = 8;                 // each digit is one byte
+    private static final int R = 1 << BITS_PER_DIGIT;            // radix: 256 values per digit
+    private static final int MASK = R - 1;                       // extracts a digit from a key
+    private static final int INSERTION_CUTOFF = 64;              // int/long arrays up to this size use Insertion
+    private static final int MSD_CUTOFF = 15;                    // String buckets up to this size use Insertion
+
+    /**
+     * Sorts an int array using LSD Radix sort.
+     * Complexity: O(W*N) where W <= 4 is the number of bytes that are not the same for every key.
+     *
+     * @param arr is an int array.
+     */
+
+    public static void sort(int[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an int array using LSD Radix sort.
+     * Complexity: O(W*N) for a range of N keys where W <= 4 is the number of bytes that are
+     * not the same for every key of the range.
+     *
+     * @param arr is an int array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(int[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        int size = toIndex - fromIndex;
+        int digits = Integer.BYTES;
+
+        if (size <= INSERTION_CUTOFF) {
+            Insertion.sort(arr, fromIndex, toIndex);
+            return;
+        }
+
+        // counts of every digit of every byte in a single pass over the keys
+        // count[d][r + 1] is the number of keys whose digit d is r
+        int[][] count = new int[digits][R + 1];
+        for (int i = 0; i < size; ++i) {
+            for (int d = 0; d < digits; ++d) {
+                ++count[d][digit(arr[fromIndex + i], d) + 1];
+            }
+        }
+
+        int[] src = arr;         // keys sorted by the digits of the previous passes
+        int[] dst = null;        // keys sorted by one more digit (allocated on the first useful pass)
+        int srcLo = fromIndex;   // index of the first key of the range on src
+        int dstLo = 0;           // index of the first key of the range on dst
+
+        for (int d = 0; d < digits; ++d) {
+            // every key has the same digit d so this pass would not move any key
+            if (count[d][digit(src[srcLo], d) + 1] == size) { continue; }
+
+            if (dst == null) { dst = new int[size]; }
+
+            // computes the first index of each digit value
+            for (int r = 0; r < R; ++r) {
+                count[d][r + 1] += count[d][r];
+            }
+
+            // distributes the keys (stable)
+            for (int i = 0; i < size; ++i) {
+                dst[dstLo + count[d][digit(src[srcLo + i], d)]++] = src[srcLo + i];
+            }
+
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+
+            int tempLo = srcLo;
+            srcLo = dstLo;
+            dstLo = tempLo;
+        }
+
+        // the sorted keys ended up on the auxiliar array
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, fromIndex, size);
+        }
+    }
+
+    /**
+     * Sorts a long array using LSD Radix sort.
+     * Complexity: O(W*N) where W <= 8 is the number of bytes that are not the same for every key.
+     *
+     * @param arr is a long array.
+     */
+
+    public static void sort(long[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a long array using LSD Radix sort.
+     * Complexity: O(W*N) for a range of N keys where W <= 8 is the number of bytes that are
+     * not the same for every key of the range.
+     *
+     * @param arr is a long array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(long[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        int size = toIndex - fromIndex;
+        int digits = Long.BYTES;
+
+        if (size <= INSERTION_CUTOFF) {
+            Insertion.sort(arr, fromIndex, toIndex);
+            return;
+        }
+
+        // counts of every digit of every byte in a single pass over the keys
+        // count[d][r + 1] is the number of keys whose digit d is r
+        int[][] count = new int[digits][R + 1];
+        for (int i = 0; i < size; ++i) {
+            for (int d = 0; d < digits; ++d) {
+                ++count[d][digit(arr[fromIndex + i], d) + 1];
+            }
+        }
+
+        long[] src = arr;         // keys sorted by the digits of the previous passes
+        long[] dst = null;        // keys sorted by one more digit (allocated on the first useful pass)
+        int srcLo = fromIndex;    // index of the first key of the range on src
+        int dstLo = 0;            // index of the first key of the range on dst
+
+        for (int d = 0; d < digits; ++d) {
+            // every key has the same digit d so this pass would not move any key
+            if (count[d][digit(src[srcLo], d) + 1] == size) { continue; }
+
+            if (dst == null) { dst = new long[size]; }
+
+            // computes the first index of each digit value
+            for (int r = 0; r < R; ++r) {
+                count[d][r + 1] += count[d][r];
+            }
+
+            // distributes the keys (stable)
+            for (int i = 0; i < size; ++i) {
+                dst[dstLo + count[d][digit(src[srcLo + i], d)]++] = src[srcLo + i];
+            }
+
+            long[] temp = src;
+            src = dst;
+            dst = temp;
+
+            int tempLo = srcLo;
+            srcLo = dstLo;
+            dstLo = tempLo;
+        }
+
+        // the sorted keys ended up on the auxiliar array
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, fromIndex, size);
+        }
+    }
+
+    /*
+     * Returns the digit d (byte d, 0 is the lowest byte) of an int key. The sign bit of
+     * the highest byte is flipped so negative keys have smaller digits than positive keys.
+     */
+
+    private static int digit(int key, int d) {
+        int digit = (key >>> (BITS_PER_DIGIT * d)) & MASK;
+
+        return d == Integer.BYTES - 1 ? digit ^ (R >>> 1) : digit;
+    }
+
+    /*
+     * Returns the digit d (byte d, 0 is the lowest byte) of a long key. The sign bit of
+     * the highest byte is flipped so negative keys have smaller digits than positive keys.
+     */
+
+    private static int digit(long key, int d) {
+        int digit = (int) (key >>> (BITS_PER_DIGIT * d)) & MASK;
+
+        return d == Long.BYTES - 1 ? digit ^ (R >>> 1) : digit;
+    }
+
+    /**
+     * Sorts a String array using MSD Radix sort. Strings are sorted in the same order
+     * as String's compareTo() (lexicographic order of the UTF-16 chars).
+     * Complexity: O(N*W) digit accesses in the worst case where W is the average length of
+     * the strings and usually much less since only distinguishing prefixes are examined.
+     *
+     * @param arr is a String array.
+     */
+
+    public static void sort(String[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a String array using MSD Radix sort.
+     * Complexity: O(N*W) digit accesses in the worst case for a range of N strings.
+     *
+     * @param arr is a String array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(String[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        String[] aux = new String[toIndex - fromIndex];
+
+        sort(arr, aux, fromIndex, toIndex - 1, 0);
+    }
+
+    /*
+     * Sorts arr[lo .. hi] by the digits d, d + 1, ... of the strings given that all of
+     * them have the same digits before d.
+     *
+     * arr is a reference to a String array.
+     * aux is a reference to the auxiliar array used for the key-indexed counting.
+     * lo is the lowest index of arr
+     * hi is the highest index of arr
+     * d is the digit by which the subarray is sorted
+     */
+
+    private static void sort(String[] arr, String[] aux, int lo, int hi, int d) {
+        while (true) {
+            // small buckets: Insertion sort is faster than counting R digits
+            if (hi <= lo + MSD_CUTOFF) {
+                Insertion.classicSort(arr, lo, hi);
+                return;
+            }
+
+            // count[r + 2] is the number of strings whose digit d is r
+            // (r == -1 is used by the strings that have no digit d)
+            int[] count = new int[R + 2];
+            for (int i = lo; i <= hi; ++i) {
+                ++count[digit(arr[i], d) + 2];
+            }
+
+            // every string has the same digit d: moves to the next digit without
+            // distributing the strings (avoids a recursion per digit of long common prefixes)
+            int first = digit(arr[lo], d);
+            if (count[first + 2] == hi - lo + 1) {
+                if (first == -1) { return; }   // all the strings are equal
+
+                ++d;
+                continue;
+            }
+
+            // computes the first index of each digit value
+            for (int r = 0; r < R + 1; ++r) {
+                count[r + 1] += count[r];
+            }
+
+            // distributes the strings (stable)
+            for (int i = lo; i <= hi; ++i) {
+                aux[count[digit(arr[i], d) + 1]++] = arr[i];
+            }
+            System.arraycopy(aux, 0, arr, lo, hi - lo + 1);
+
+            // sorts each bucket by the next digit (strings that ended are already sorted)
+            for (int r = 0; r < R; ++r) {
+                sort(arr, aux, lo + count[r], lo + count[r + 1] - 1, d + 1);
+            }
+
+            return;
+        }
+    }
+
+    /*
+     * Returns the digit d of a string or -1 if the string has no digit d. Each char has
+     * two digits: its high byte (even d) followed by its low byte (odd d).
+     */
+
+    private static int digit(String s, int d) {
+        int charIndex = d >>> 1;
+
+        if (charIndex >= s.length()) { return -1; }
+
+        char c = s.charAt(charIndex);
+
+        return (d & 1) == 0 ? c >>> BITS_PER_DIGIT : c & MASK;
+    }
+
+    /**
+     * Convenience method that checks if an int array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to an int array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(int[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (arr[i + 1] < arr[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Convenience method that checks if a long array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a long array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(long[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (arr[i + 1] < arr[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Convenience method that checks if a String array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a String array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(String[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (arr[i + 1].compareTo(arr[i]) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // unit testing
+    public static void main(String[] args) {
+        int[] arr = {3, 10, -1, 0, 5, 4, 15, 0, 7, 7};
+        String[] strings = {"zzz", "ccc", "ddd", "eee", "aaa", "iii", "cc", "c"};
+
+        System.out.println("\nArrays BEFORE sorting:");
+        System.out.println(java.util.Arrays.toString(arr));
+        System.out.println(java.util.Arrays.toString(strings));
+
+        System.out.println("\nSorting the arrays...\n");
+        Radix.sort(arr);
+        Radix.sort(strings);
+
+        System.out.println("Arrays AFTER sorting:");
+        System.out.println(java.util.Arrays.toString(arr));
+        System.out.println(java.util.Arrays.toString(strings));
+
+        System.out.println();
+    }
+}
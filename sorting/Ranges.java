@@ -0,0 +1,40 @@
+/**
+ * This class consists of a helper for the range sort(arr, fromIndex, toIndex) overloads
+ * of this package. Ranges follow the convention of java.util.Arrays: fromIndex is
+ * inclusive and toIndex is exclusive, so arr[fromIndex .. toIndex - 1] is sorted and an
+ * empty range (fromIndex == toIndex) is valid.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package sorting;
+
+final class Ranges {
+
+    private Ranges() { }
+
+    /*
+     * Checks that fromIndex and toIndex are a valid range of an array.
+     *
+     * length is the length of the array.
+     * fromIndex is the first index of the range (inclusive).
+     * toIndex is the index after the last element of the range (exclusive).
+     * throws IllegalArgumentException if fromIndex > toIndex.
+     * throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > length.
+     */
+
+    static void check(int length, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+
+        if (fromIndex < 0) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("fromIndex is out of bounds: " + fromIndex);
+        }
+
+        if (toIndex > length) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("toIndex is out of bounds: " + toIndex);
+        }
+    }
+}
@@ -0,0 +1,472 @@
+/**
+ * This class consists of sorts of fixed-width binary records that live in a ByteBuffer,
+ * e.g., a direct buffer or a memory-mapped file (MappedByteBuffer). The records are
+ * sorted where they are: no object is created per record and the records are swapped
+ * (or copied) in place with bulk reads and writes of the buffer.
+ *
+ * Every record has recordWidth bytes and its sort key is the keyLength bytes that start
+ * at keyOffset of the record (the rest of the record is the payload which moves along with
+ * the key). Keys are compared in unsigned lexicographic order (as by Arrays.compareUnsigned()),
+ * 8 bytes at a time. The records are the bytes between the position and the limit of the
+ * buffer, whose position, limit and byte order are not changed by the sorts.
+ *
+ * A RecordSort object holds the layout of the records and sorts buffers with:
+ *
+ *      1. quickSort(): introspective Quick sort (median-of-three/ninther pivots, 3-way
+ *         partitioning and Heap sort fallback). In place and not stable;
+ *      2. mergeSort(): top-down Merge sort. Stable, with an auxiliar direct buffer of N/2
+ *         records;
+ *      3. radixSort(): MSD radix sort of the key bytes (American flag sort), which moves
+ *         every record to its bucket with swaps. In place and not stable. It does not
+ *         compare whole keys, so it is the fastest for long keys with random bytes.
+ *
+ * Small subarrays (and buckets) are sorted with Insertion sort, e.g.:
+ *
+ *              new RecordSort(64, 0, 16).radixSort(mappedBuffer)
+ *
+ * @author Igor G. Peternella
+ * @date 10-17-2026
+ */
+
+package sorting;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class RecordSort {
+
+    private static final int R = 256;   // radix of the key bytes
+
+    private final int recordWidth;                      // bytes of each record
+    private final int keyOffset;                        // offset of the key in the record
+    private final int keyLength;                        // bytes of the key
+    private final Partitioner<ByteBuffer> partitioner;  // operations of quickSort() on the records
+
+    /**
+     * Builds a sort of records of recordWidth bytes whose keys are the keyLength bytes at
+     * keyOffset of each record.
+     *
+     * @param recordWidth is the number of bytes of each record.
+     * @param keyOffset is the offset of the key in a record.
+     * @param keyLength is the number of bytes of the key.
+     * @throws java.lang.IllegalArgumentException if recordWidth is not positive, keyOffset or
+     *         keyLength is negative or the key does not fit in the record.
+     */
+
+    public RecordSort(int recordWidth, int keyOffset, int keyLength) {
+        if (recordWidth <= 0) {
+            throw new IllegalArgumentException("recordWidth must be positive: " + recordWidth);
+        }
+
+        if (keyOffset < 0 || keyLength < 0 || keyOffset > recordWidth - keyLength) {
+            throw new IllegalArgumentException("the key [" + keyOffset + ", " + keyOffset + " + " + keyLength
+                                               + ") does not fit in a record of " + recordWidth + " bytes");
+        }
+
+        this.recordWidth = recordWidth;
+        this.keyOffset = keyOffset;
+        this.keyLength = keyLength;
+        this.partitioner = new RecordPartitioner();
+    }
+
+    /**
+     * Sorts the records of a buffer using introspective Quick sort.
+     * Complexity: O(N*log(N)) key compares in the worst case and O(1) extra memory.
+     *
+     * @param buf is the buffer whose records (between its position and limit) are sorted.
+     * @throws java.lang.IllegalArgumentException if the remaining bytes of buf are not a
+     *         whole number of records.
+     * @throws java.nio.ReadOnlyBufferException if buf is read-only.
+     */
+
+    public void quickSort(ByteBuffer buf) {
+        ByteBuffer records = records(buf);
+        int n = records.capacity()/recordWidth;
+
+        partitioner.introSort(records, 0, n - 1, Partitioner.depthLimit(n));
+    }
+
+    /**
+     * Sorts the records of a buffer using Merge sort. The sort is stable.
+     * Complexity: O(N*log(N)) key compares and a direct buffer of N/2 records.
+     *
+     * @param buf is the buffer whose records (between its position and limit) are sorted.
+     * @throws java.lang.IllegalArgumentException if the remaining bytes of buf are not a
+     *         whole number of records.
+     * @throws java.nio.ReadOnlyBufferException if buf is read-only.
+     */
+
+    public void mergeSort(ByteBuffer buf) {
+        ByteBuffer records = records(buf);
+        int n = records.capacity()/recordWidth;
+
+        // a merge only copies its left subarray which has at most half of the records
+        ByteBuffer aux = ByteBuffer.allocateDirect((n + 1)/2 * recordWidth).order(ByteOrder.BIG_ENDIAN);
+
+        mergeSort(records, aux, 0, n - 1);
+    }
+
+    /**
+     * Sorts the records of a buffer using MSD radix sort of the key bytes.
+     * Complexity: O(N*W) byte reads for keys of W bytes, W + 1 count arrays of 256 ints.
+     *
+     * @param buf is the buffer whose records (between its position and limit) are sorted.
+     * @throws java.lang.IllegalArgumentException if the remaining bytes of buf are not a
+     *         whole number of records.
+     * @throws java.nio.ReadOnlyBufferException if buf is read-only.
+     */
+
+    public void radixSort(ByteBuffer buf) {
+        ByteBuffer records = records(buf);
+        int n = records.capacity()/recordWidth;
+
+        // one count array per key byte: the buckets of a level are kept while its children are
+        // sorted. The next free record of each bucket is only used before the recursion
+        radixSort(records, 0, n - 1, 0, new int[keyLength][R + 1], new int[R]);
+    }
+
+    /**
+     * Checks if the records of a buffer are sorted by their keys.
+     *
+     * @param buf is the buffer whose records (between its position and limit) are checked.
+     * @return true if the records are sorted. Returns false otherwise.
+     * @throws java.lang.IllegalArgumentException if the remaining bytes of buf are not a
+     *         whole number of records.
+     */
+
+    public boolean isSorted(ByteBuffer buf) {
+        ByteBuffer records = records(buf);
+        int n = records.capacity()/recordWidth;
+
+        for (int i = 1; i < n; ++i) {
+            if (isLess(records, i, i - 1)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /*
+     * Returns a big-endian view of the records of buf whose index 0 is the position of buf,
+     * so 8 key bytes can be read as a long that compares like the bytes.
+     */
+
+    private ByteBuffer records(ByteBuffer buf) {
+        if (buf.remaining() % recordWidth != 0) {
+            throw new IllegalArgumentException(buf.remaining() + " bytes are not a whole number of "
+                                               + recordWidth + "-byte records");
+        }
+
+        return buf.slice().order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /***************************************************************************
+     *  Quick sort.
+     ***************************************************************************/
+
+    /*
+     * Operations of the introspective Quick sort on the records of a buffer (see Partitioner):
+     * record i of the buffer is element i of the array.
+     */
+
+    private final class RecordPartitioner extends Partitioner<ByteBuffer> {
+
+        boolean isLess(ByteBuffer b, int i, int j) {
+            return RecordSort.this.isLess(b, i, j);
+        }
+
+        void swap(ByteBuffer b, int i, int j) {
+            RecordSort.this.swap(b, i, j);
+        }
+
+        /*
+         * Both scans stop on keys equal to the pivot (record lo) so duplicated keys are
+         * split evenly.
+         */
+
+        int partition(ByteBuffer b, int lo, int hi) {
+            int i = lo;
+            int j = hi + 1;
+
+            while (true) {
+                while (isLess(b, ++i, lo)) {
+                    if (i == hi) { break; }
+                }
+
+                while (isLess(b, lo, --j)) {
+                    if (j == lo) { break; }
+                }
+
+                if (i >= j) { break; }
+
+                swap(b, i, j);
+            }
+
+            swap(b, lo, j);
+
+            return j;
+        }
+
+        /*
+         * Bentley-McIlroy 3-way partitioning: the scans of partition() swap keys equal to
+         * the pivot (record lo) to both ends of the subarray and they are swapped to the
+         * middle at the end. Records are swapped about as rarely as by partition() while
+         * Dijkstra's partitioning would swap every key smaller than the pivot, which is
+         * expensive for wide records.
+         */
+
+        long partition3(ByteBuffer b, int lo, int hi) {
+            int i = lo;
+            int j = hi + 1;
+            int p = lo;       // b[lo .. p] are equal to the pivot
+            int q = hi + 1;   // b[q .. hi] are equal to the pivot
+
+            while (true) {
+                while (isLess(b, ++i, lo)) {
+                    if (i == hi) { break; }
+                }
+
+                while (isLess(b, lo, --j)) {
+                    if (j == lo) { break; }
+                }
+
+                // the scans met on a key equal to the pivot
+                if (i == j && compare(b, i * recordWidth, b, lo * recordWidth, 0) == 0) { swap(b, ++p, i); }
+                if (i >= j) { break; }
+
+                swap(b, i, j);
+                if (!isLess(b, i, lo)) { swap(b, ++p, i); }
+                if (!isLess(b, lo, j)) { swap(b, --q, j); }
+            }
+
+            // moves the keys equal to the pivot from both ends to the middle
+            i = j + 1;
+            for (int k = lo; k <= p; ++k) { swap(b, k, j--); }
+            for (int k = hi; k >= q; --k) { swap(b, k, i++); }
+
+            return ((long) (j + 1) << 32) | ((i - 1) & 0xFFFFFFFFL);
+        }
+
+        void smallSort(ByteBuffer b, int lo, int hi) {
+            insertionSort(b, lo, hi, 0);
+        }
+
+        void heapSort(ByteBuffer b, int lo, int hi) {
+            siftSort(b, lo, hi);
+        }
+    }
+
+    /***************************************************************************
+     *  Merge sort.
+     ***************************************************************************/
+
+    /*
+     * Sorts the records lo .. hi using Merge sort (see Merge.sort()).
+     */
+
+    private void mergeSort(ByteBuffer b, ByteBuffer aux, int lo, int hi) {
+        if (hi <= lo) { return; }
+
+        // small subarrays: Insertion sort is faster than recursing down to single records
+        if (hi - lo < Insertion.CUTOFF) {
+            insertionSort(b, lo, hi, 0);
+            return;
+        }
+
+        int mid = lo + (hi - lo)/2;
+
+        mergeSort(b, aux, lo, mid);
+        mergeSort(b, aux, mid + 1, hi);
+
+        if (!isLess(b, mid + 1, mid)) { return; }
+
+        merge(b, aux, lo, mid, hi);
+    }
+
+    /*
+     * Merges the sorted records lo .. mid and mid + 1 .. hi: the left ones are copied to aux
+     * and the records are copied back in order.
+     */
+
+    private void merge(ByteBuffer b, ByteBuffer aux, int lo, int mid, int hi) {
+        int n = mid - lo + 1;
+        int i = 0;
+        int j = mid + 1;
+        int k = lo;
+
+        aux.put(0, b, lo * recordWidth, n * recordWidth);
+
+        while (i < n && j <= hi) {
+            // ties are taken from the left subarray so the sort is stable
+            if (compare(b, j * recordWidth, aux, i * recordWidth, 0) < 0) {
+                b.put(k++ * recordWidth, b, j++ * recordWidth, recordWidth);
+            } else {
+                b.put(k++ * recordWidth, aux, i++ * recordWidth, recordWidth);
+            }
+        }
+
+        // only the left subarray remainder has to be copied: the right one is in place
+        b.put(k * recordWidth, aux, i * recordWidth, (n - i) * recordWidth);
+    }
+
+    /***************************************************************************
+     *  MSD radix sort.
+     ***************************************************************************/
+
+    /*
+     * Sorts the records lo .. hi whose keys have the same first d bytes by the key bytes
+     * d, d + 1, ... (see Radix.sort(String[])). Every record is swapped into the bucket of
+     * its byte d (American flag sort) and each bucket is sorted by the next byte.
+     */
+
+    private void radixSort(ByteBuffer b, int lo, int hi, int d, int[][] counts, int[] next) {
+        if (hi <= lo || d == keyLength) { return; }
+
+        // small buckets: Insertion sort on the remaining key bytes
+        if (hi - lo < Insertion.CUTOFF) {
+            insertionSort(b, lo, hi, d);
+            return;
+        }
+
+        int[] start = counts[d];
+        java.util.Arrays.fill(start, 0);
+
+        // counts the records of each byte value
+        for (int i = lo; i <= hi; ++i) {
+            ++start[byteAt(b, i, d) + 1];
+        }
+
+        // first record of each bucket
+        start[0] = lo;
+        for (int r = 0; r < R; ++r) {
+            start[r + 1] += start[r];
+        }
+
+        // start[r] .. start[r + 1] - 1 is the bucket of r: every record is swapped into the
+        // next free record of its bucket until the bucket is full
+        System.arraycopy(start, 0, next, 0, R);
+
+        for (int r = 0; r < R; ++r) {
+            while (next[r] < start[r + 1]) {
+                int digit = byteAt(b, next[r], d);
+
+                if (digit == r) {
+                    ++next[r];
+                } else {
+                    swap(b, next[r], next[digit]++);
+                }
+            }
+        }
+
+        for (int r = 0; r < R; ++r) {
+            radixSort(b, start[r], start[r + 1] - 1, d + 1, counts, next);
+        }
+    }
+
+    /*
+     * Returns byte d of the key of record i as an unsigned value (0 .. 255).
+     */
+
+    private int byteAt(ByteBuffer b, int i, int d) {
+        return b.get(i * recordWidth + keyOffset + d) & 0xff;
+    }
+
+    /***************************************************************************
+     *  Helpers.
+     ***************************************************************************/
+
+    /*
+     * Sorts the records lo .. hi, whose keys have the same first d bytes, using Insertion sort.
+     */
+
+    private void insertionSort(ByteBuffer b, int lo, int hi, int d) {
+        for (int i = lo + 1; i <= hi; ++i) {
+            for (int j = i; j > lo && compare(b, j * recordWidth, b, (j - 1) * recordWidth, d) < 0; --j) {
+                swap(b, j, j - 1);
+            }
+        }
+    }
+
+    /*
+     * Returns true if the key of record i is less than the key of record j.
+     */
+
+    private boolean isLess(ByteBuffer b, int i, int j) {
+        return compare(b, i * recordWidth, b, j * recordWidth, 0) < 0;
+    }
+
+    /*
+     * Compares the keys of the records at byte offsets x and y of buffers bx and by from
+     * key byte d on, in unsigned lexicographic order. Whole longs of a big-endian buffer
+     * compare (unsigned) like their 8 bytes.
+     */
+
+    private int compare(ByteBuffer bx, int x, ByteBuffer by, int y, int d) {
+        x += keyOffset;
+        y += keyOffset;
+
+        for (; d + Long.BYTES <= keyLength; d += Long.BYTES) {
+            long one = bx.getLong(x + d);
+            long another = by.getLong(y + d);
+
+            if (one != another) {
+                return Long.compareUnsigned(one, another);
+            }
+        }
+
+        for (; d < keyLength; ++d) {
+            int one = bx.get(x + d) & 0xff;
+            int another = by.get(y + d) & 0xff;
+
+            if (one != another) {
+                return one - another;
+            }
+        }
+
+        return 0;
+    }
+
+    /*
+     * Swaps the records i and j, 8 bytes at a time.
+     */
+
+    private void swap(ByteBuffer b, int i, int j) {
+        int x = i * recordWidth;
+        int y = j * recordWidth;
+        int k = 0;
+
+        for (; k + Long.BYTES <= recordWidth; k += Long.BYTES) {
+            long temp = b.getLong(x + k);
+
+            b.putLong(x + k, b.getLong(y + k));
+            b.putLong(y + k, temp);
+        }
+
+        for (; k < recordWidth; ++k) {
+            byte temp = b.get(x + k);
+
+            b.put(x + k, b.get(y + k));
+            b.put(y + k, temp);
+        }
+    }
+
+    // unit testing
+    public static void main(String[] args) {
+        // records of 12 bytes: a 4-byte key (unsigned) followed by an 8-byte payload
+        int[] keys = {3, 10, -1, 0, 5, 4, 15, 0, 7, 7};
+        ByteBuffer buf = ByteBuffer.allocateDirect(keys.length * 12);
+
+        for (int i = 0; i < keys.length; ++i) {
+            buf.putInt(keys[i]).putLong(i);
+        }
+        buf.flip();
+
+        new RecordSort(12, 0, 4).radixSort(buf);
+
+        // -1 (0xffffffff) is the biggest unsigned key
+        for (int i = 0; i < keys.length; ++i) {
+            System.out.println(Integer.toUnsignedString(buf.getInt(i * 12)) + " (payload " + buf.getLong(i * 12 + 4) + ")");
+        }
+    }
+}
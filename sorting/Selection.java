@@ -21,6 +21,9 @@
 
 package sorting;
 
+import java.util.Comparator;
+import java.util.function.Function;
+
 @SuppressWarnings({"unchecked", "rawtypes"})
 public class Selection {
 
@@ -32,20 +35,44 @@ public class Selection {
      */
     
     public static void sort(Comparable[] arr) {
-        int size = arr.length;
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a Comparable array using Selection sort.
+     * Complexity: O(N^2) compares for a range of N elements.
+     *
+     * @param arr is a Comparable array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(Comparable[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
 
-        for (int i = 0; i < size; ++i) {
+        sort(arr, fromIndex, toIndex, (SortStats) null);
+    }
+
+    /*
+     * Sorts arr[fromIndex .. toIndex - 1] using Selection sort and records the compares
+     * and swaps on stats (null when the sort is not instrumented).
+     */
+
+    private static void sort(Comparable[] arr, int fromIndex, int toIndex, SortStats stats) {
+        for (int i = fromIndex; i < toIndex; ++i) {
             // minIndex represents arr[i]
             int minIndex = i; 
-            for (int j = i + 1; j < size; ++j) {
+            for (int j = i + 1; j < toIndex; ++j) {
                 // if arr[j] < arr[minIndex]
-                if (isLess(arr[j], arr[minIndex])) {
+                if (isLess(arr[j], arr[minIndex], stats)) {
                     // arr[j] holds the smallest value
                     minIndex = j;
                 }		
             }
             // swaps arr[i], arr[minIndex]
-            swap(arr, i, minIndex);
+            swap(arr, i, minIndex, stats);
         }
     }
 
@@ -94,6 +121,407 @@ public class Selection {
         return true;
     }
 
+    /**
+     * Sorts an array using Selection sort and the order defined by a Comparator.
+     * Complexity: O(N^2) compares (isLess() operations)
+     *
+     * @param arr is an array of any type.
+     * @param comparator defines the order of the elements of arr.
+     */
+
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator) {
+        sort(arr, 0, arr.length, comparator);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an array using Selection sort
+     * and the order defined by a Comparator.
+     * Complexity: O(N^2) compares for a range of N elements.
+     *
+     * @param arr is an array of any type.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @param comparator defines the order of the elements of arr.
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static <T> void sort(T[] arr, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex; i < toIndex; ++i) {
+            int minIndex = i;
+            for (int j = i + 1; j < toIndex; ++j) {
+                if (isLess(comparator, arr[j], arr[minIndex])) {
+                    minIndex = j;
+                }
+            }
+            swap(arr, i, minIndex);
+        }
+    }
+
+    /**
+     * Sorts an array by the keys computed by keyExtractor using Selection sort. The key of each
+     * element is computed only once and cached next to it (decorate-sort-undecorate).
+     *
+     * @param arr is an array of any type.
+     * @param keyExtractor is the function that computes the Comparable sort key of an element.
+     */
+
+    public static <T, K extends Comparable<? super K>> void sort(T[] arr, Function<? super T, ? extends K> keyExtractor) {
+        CachedKey[] decorated = CachedKey.decorate(arr, keyExtractor);
+
+        sort(decorated);
+        CachedKey.undecorate(decorated, arr);
+    }
+
+    /*
+     * Compares two objects with a Comparator.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(Comparator c, Object one, Object another) {
+        return c.compare(one, another) < 0;
+    }
+
+    /*
+     * Swaps two elements of an array of any type.
+     */
+
+    private static void swap(Object[] arr, int ix1, int ix2) {
+        Object temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /**
+     * Method that sorts an int array using Selection sort. No boxing is done.
+     * Complexity: O(N^2) compares (isLess() operations)
+     *
+     * @param arr is an int array.
+     */
+
+    public static void sort(int[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of an int array using Selection sort.
+     * Complexity: O(N^2) compares for a range of N elements.
+     *
+     * @param arr is an int array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(int[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex; i < toIndex; ++i) {
+            int minIndex = i;
+            for (int j = i + 1; j < toIndex; ++j) {
+                if (isLess(arr[j], arr[minIndex])) {
+                    minIndex = j;
+                }
+            }
+            swap(arr, i, minIndex);
+        }
+    }
+
+    /*
+     * Swaps two elements of an int array.
+     */
+
+    private static void swap(int[] arr, int ix1, int ix2) {
+        int temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /*
+     * Compares two int values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(int one, int another) {
+        return one < another;
+    }
+
+    /**
+     * Convenience method that checks if an int array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to an int array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(int[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Method that sorts a long array using Selection sort. No boxing is done.
+     * Complexity: O(N^2) compares (isLess() operations)
+     *
+     * @param arr is a long array.
+     */
+
+    public static void sort(long[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a long array using Selection sort.
+     * Complexity: O(N^2) compares for a range of N elements.
+     *
+     * @param arr is a long array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(long[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex; i < toIndex; ++i) {
+            int minIndex = i;
+            for (int j = i + 1; j < toIndex; ++j) {
+                if (isLess(arr[j], arr[minIndex])) {
+                    minIndex = j;
+                }
+            }
+            swap(arr, i, minIndex);
+        }
+    }
+
+    /*
+     * Swaps two elements of a long array.
+     */
+
+    private static void swap(long[] arr, int ix1, int ix2) {
+        long temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /*
+     * Compares two long values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(long one, long another) {
+        return one < another;
+    }
+
+    /**
+     * Convenience method that checks if a long array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a long array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(long[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Method that sorts a double array using Selection sort. No boxing is done.
+     * Complexity: O(N^2) compares (isLess() operations)
+     *
+     * @param arr is a double array.
+     */
+
+    public static void sort(double[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a double array using Selection sort.
+     * Complexity: O(N^2) compares for a range of N elements.
+     *
+     * @param arr is a double array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(double[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex; i < toIndex; ++i) {
+            int minIndex = i;
+            for (int j = i + 1; j < toIndex; ++j) {
+                if (isLess(arr[j], arr[minIndex])) {
+                    minIndex = j;
+                }
+            }
+            swap(arr, i, minIndex);
+        }
+    }
+
+    /*
+     * Swaps two elements of a double array.
+     */
+
+    private static void swap(double[] arr, int ix1, int ix2) {
+        double temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /*
+     * Compares two double values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(double one, double another) {
+        // Double.compare() orders -0.0 before 0.0 and NaN after every other value
+        return Double.compare(one, another) < 0;
+    }
+
+    /**
+     * Convenience method that checks if a double array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a double array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(double[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Method that sorts a float array using Selection sort. No boxing is done.
+     * Complexity: O(N^2) compares (isLess() operations)
+     *
+     * @param arr is a float array.
+     */
+
+    public static void sort(float[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range arr[fromIndex .. toIndex - 1] of a float array using Selection sort.
+     * Complexity: O(N^2) compares for a range of N elements.
+     *
+     * @param arr is a float array.
+     * @param fromIndex is the index of the first element to be sorted (inclusive).
+     * @param toIndex is the index after the last element to be sorted (exclusive).
+     * @throws java.lang.IllegalArgumentException if fromIndex > toIndex.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > arr.length.
+     */
+
+    public static void sort(float[] arr, int fromIndex, int toIndex) {
+        Ranges.check(arr.length, fromIndex, toIndex);
+
+        for (int i = fromIndex; i < toIndex; ++i) {
+            int minIndex = i;
+            for (int j = i + 1; j < toIndex; ++j) {
+                if (isLess(arr[j], arr[minIndex])) {
+                    minIndex = j;
+                }
+            }
+            swap(arr, i, minIndex);
+        }
+    }
+
+    /*
+     * Swaps two elements of a float array.
+     */
+
+    private static void swap(float[] arr, int ix1, int ix2) {
+        float temp = arr[ix1];
+
+        arr[ix1] = arr[ix2];
+        arr[ix2] = temp;
+    }
+
+    /*
+     * Compares two float values.
+     * returns true if one is less than another. Returns false otherwise.
+     */
+
+    private static boolean isLess(float one, float another) {
+        // Float.compare() orders -0.0 before 0.0 and NaN after every other value
+        return Float.compare(one, another) < 0;
+    }
+
+    /**
+     * Convenience method that checks if a float array is sorted (in non-descending order).
+     *
+     * @param arr is a reference to a float array.
+     * @return true if the array is sorted. Returns false otherwise.
+     */
+
+    public static boolean isSorted(float[] arr) {
+        for (int i = 0; i < arr.length - 1; ++i) {
+            if (isLess(arr[i + 1], arr[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts a Comparable array using Selection sort and records the compares, swaps and
+     * wall time ("sort" phase) of the sort on stats. The sort is the same as sort().
+     *
+     * @param arr is a Comparable array.
+     * @param stats is the collector of the operations of the sort.
+     */
+
+    public static void sort(Comparable[] arr, SortStats stats) {
+        long start = SortStats.start(stats);
+
+        sort(arr, 0, arr.length, stats);
+        SortStats.time(stats, "sort", start);
+    }
+
+    /*
+     * Swaps two elements of a Comparable array and records the swap on stats.
+     */
+
+    private static void swap(Comparable[] arr, int ix1, int ix2, SortStats stats) {
+        SortStats.swap(stats);
+        swap(arr, ix1, ix2);
+    }
+
+    /*
+     * Compares two Comparables objects and records the compare on stats.
+     */
+
+    private static boolean isLess(Comparable one, Comparable another, SortStats stats) {
+        SortStats.compare(stats);
+        return isLess(one, another);
+    }
+
     /**
      * Convenience method that prints to standard output all elements
      * of a Comparable array in an organized way, e.g., [1, 2, 3].
@@ -0,0 +1,536 @@
+/**
+ * This class consists of a front door to the sorting algorithms of this package. Instead of
+ * guessing which algorithm suits an array, a caller may use:
+ *
+ *              Sort.sort(arrayReference)
+ *
+ * which samples a few elements of the array, estimates its characteristics and dispatches
+ * to the algorithm that fits them best:
+ *
+ *      1. INSERTION (Insertion.shiftSort()): small arrays (at most 32 elements). int and long
+ *         arrays use the vectorized sorting networks of Network when they are available;
+ *      2. NATURAL_MERGE (NaturalMerge.sort()): presorted Comparable arrays, i.e., few
+ *         inversions or a few long ascending or descending runs, which it sorts in near linear
+ *         time. MERGE (Merge.sort()) is used for the other presorted arrays since it skips the
+ *         merges of subarrays that are already in order and beats Quick sort on long runs;
+ *      3. QUICK (Quick.introSort()): arrays with many duplicated keys (3-way partitioning
+ *         sorts the equal keys in a single pass) and primitive arrays in general;
+ *      4. MERGE (Merge.sort()): object arrays in general, since it does fewer compares than
+ *         Quick sort and compares of objects are expensive;
+ *      5. HEAP (Heap.bottomUpSort()): object arrays when the free heap memory cannot hold the
+ *         auxiliar array of Merge sort. It sorts in place with the fewest compares.
+ *
+ * The characteristics are estimated on samples of N/8 elements or pairs (at least 16 and at
+ * most 64), so the dispatch costs O(1) compares no matter the size of the array:
+ *
+ *      - descent ratio: fraction of sampled adjacent pairs that are out of order, which
+ *        estimates the number of runs of the array;
+ *      - monotone segments: number of ascending or descending stretches of the sampled
+ *        adjacent pairs (1 for sorted and reversed arrays, 2 for organ pipes);
+ *      - inversion ratio: fraction of sampled pairs (i < j) with arr[j] < arr[i], which is
+ *        0 for sorted arrays, about 0.5 for random arrays and 1 for reversed arrays;
+ *      - duplicate ratio: 1 - (distinct keys of the sample)/(size of the sample).
+ *
+ * The decision can be logged through an optional hook which receives a Sort.Decision with
+ * the chosen algorithm and the estimates before the array is sorted, e.g.:
+ *
+ *              Sort.sort(arrayReference, decision -> System.out.println(decision));
+ *
+ * The sort is not stable since QUICK and HEAP may be chosen. Use Merge or NaturalMerge if
+ * equal elements must keep their relative order.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package sorting;
+
+import java.util.Comparator;
+import java.util.function.Consumer;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class Sort {
+
+    private static final int INSERTION_MAX = 32;                 // arrays up to this size use Insertion
+    private static final int SAMPLE = 64;                        // maximum number of sampled pairs/keys per estimate
+    private static final int MIN_SAMPLE = 16;                    // minimum number of sampled pairs/keys per estimate
+    private static final double PRESORTED_INVERSIONS = 0.05;     // inversion ratio of nearly sorted arrays
+    private static final double FEW_RUNS_DESCENTS = 1.0/SAMPLE;  // descent ratio of arrays with long runs
+    private static final int FEW_SEGMENTS = 3;                   // monotone segments of arrays with a few long runs
+    private static final double MANY_DUPLICATES = 0.5;           // duplicate ratio that favours 3-way Quick sort
+
+    /**
+     * The algorithms to which Sort.sort() dispatches.
+     */
+
+    public enum Algorithm { INSERTION, NATURAL_MERGE, MERGE, QUICK, HEAP }
+
+    /**
+     * An immutable record of a dispatch decision: the chosen algorithm and the estimated
+     * characteristics of the array that led to it. Small arrays (INSERTION) are not sampled
+     * so their estimates are 0 (and 1 monotone segment).
+     */
+
+    public static final class Decision {
+        private final Algorithm algorithm;      // the chosen algorithm
+        private final int size;                 // number of elements of the array
+        private final boolean primitive;        // true for int, long, double and float arrays
+        private final double descentRatio;      // fraction of sampled adjacent pairs out of order
+        private final int segments;             // monotone segments of the sampled adjacent pairs
+        private final double inversionRatio;    // fraction of sampled pairs out of order
+        private final double duplicateRatio;    // fraction of duplicated keys of the sample
+
+        private Decision(Algorithm algorithm, int size, boolean primitive, double descentRatio,
+                         int segments, double inversionRatio, double duplicateRatio) {
+            this.algorithm = algorithm;
+            this.size = size;
+            this.primitive = primitive;
+            this.descentRatio = descentRatio;
+            this.segments = segments;
+            this.inversionRatio = inversionRatio;
+            this.duplicateRatio = duplicateRatio;
+        }
+
+        /**
+         * @return the algorithm chosen to sort the array.
+         */
+
+        public Algorithm algorithm() {
+            return algorithm;
+        }
+
+        /**
+         * @return the number of elements of the array.
+         */
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return true if the array is an int, long, double or float array.
+         */
+
+        public boolean isPrimitive() {
+            return primitive;
+        }
+
+        /**
+         * @return the estimated number of runs (maximal ascending subarrays) of the array.
+         */
+
+        public long estimatedRuns() {
+            return size == 0 ? 0 : 1 + Math.round(descentRatio * (size - 1));
+        }
+
+        /**
+         * @return the number of ascending or descending stretches of the sampled adjacent pairs.
+         */
+
+        public int monotoneSegments() {
+            return segments;
+        }
+
+        /**
+         * @return the estimated fraction of pairs of elements that are out of order (0 when sorted).
+         */
+
+        public double inversionRatio() {
+            return inversionRatio;
+        }
+
+        /**
+         * @return the estimated fraction of duplicated keys (0 when every key is distinct).
+         */
+
+        public double duplicateRatio() {
+            return duplicateRatio;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (size=%d, %s, runs~%d, segments=%d, inversions~%.2f, duplicates~%.2f)",
+                                 algorithm, size, primitive ? "primitive" : "object",
+                                 estimatedRuns(), segments, inversionRatio, duplicateRatio);
+        }
+    }
+
+    /*
+     * Compares the elements at indexes i and j of the array being sampled, so the estimates
+     * are computed once for every type of array.
+     */
+
+    private interface Probe {
+        int compare(int i, int j);
+    }
+
+    private Sort() { }
+
+    /**
+     * Sorts a Comparable array with the algorithm that fits its characteristics best.
+     * Complexity: O(N*log(N)) compares in the worst case and O(N) compares if the array is presorted.
+     *
+     * @param arr is a Comparable array.
+     */
+
+    public static void sort(Comparable[] arr) {
+        sort(arr, (Consumer<? super Decision>) null);
+    }
+
+    /**
+     * Sorts a Comparable array with the algorithm that fits its characteristics best and
+     * passes the decision to a hook before sorting.
+     *
+     * @param arr is a Comparable array.
+     * @param hook receives the dispatch decision (may be null).
+     */
+
+    public static void sort(Comparable[] arr, Consumer<? super Decision> hook) {
+        Decision decision = decide(arr.length, false, true, (i, j) -> arr[i].compareTo(arr[j]));
+
+        if (hook != null) { hook.accept(decision); }
+
+        switch (decision.algorithm()) {
+            case INSERTION:     Insertion.shiftSort(arr); break;
+            case NATURAL_MERGE: NaturalMerge.sort(arr); break;
+            case MERGE:         Merge.sort(arr); break;
+            case QUICK:         Quick.introSort(arr); break;
+            default:            Heap.bottomUpSort(arr); break;
+        }
+    }
+
+    /**
+     * Sorts an array with the algorithm that fits its characteristics best and the order
+     * defined by a Comparator.
+     *
+     * @param arr is an array of any type.
+     * @param comparator defines the order of the elements of arr.
+     */
+
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator) {
+        sort(arr, comparator, null);
+    }
+
+    /**
+     * Sorts an array with the algorithm that fits its characteristics best and the order
+     * defined by a Comparator and passes the decision to a hook before sorting.
+     *
+     * @param arr is an array of any type.
+     * @param comparator defines the order of the elements of arr.
+     * @param hook receives the dispatch decision (may be null).
+     */
+
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator, Consumer<? super Decision> hook) {
+        Decision decision = decide(arr.length, false, true, (i, j) -> comparator.compare(arr[i], arr[j]));
+
+        if (hook != null) { hook.accept(decision); }
+
+        switch (decision.algorithm()) {
+            case INSERTION:     Insertion.shiftSort(arr, comparator); break;
+            case NATURAL_MERGE: NaturalMerge.sort(arr, comparator); break;
+            case MERGE:         Merge.sort(arr, comparator); break;
+            case QUICK:         Quick.introSort(arr, comparator); break;
+            default:            Heap.bottomUpSort(arr, comparator); break;
+        }
+    }
+
+    /**
+     * Sorts an int array with the algorithm that fits its characteristics best. No boxing is done.
+     *
+     * @param arr is an int array.
+     */
+
+    public static void sort(int[] arr) {
+        sort(arr, null);
+    }
+
+    /**
+     * Sorts an int array with the algorithm that fits its characteristics best and passes
+     * the decision to a hook before sorting.
+     *
+     * @param arr is an int array.
+     * @param hook receives the dispatch decision (may be null).
+     */
+
+    public static void sort(int[] arr, Consumer<? super Decision> hook) {
+        Decision decision = decide(arr.length, true, false, (i, j) -> Integer.compare(arr[i], arr[j]));
+
+        if (hook != null) { hook.accept(decision); }
+
+        switch (decision.algorithm()) {
+            case INSERTION: Network.sort(arr, 0, arr.length - 1); break;
+            case MERGE:     Merge.sort(arr); break;
+            default:        Quick.introSort(arr); break;
+        }
+    }
+
+    /**
+     * Sorts a long array with the algorithm that fits its characteristics best. No boxing is done.
+     *
+     * @param arr is a long array.
+     */
+
+    public static void sort(long[] arr) {
+        sort(arr, null);
+    }
+
+    /**
+     * Sorts a long array with the algorithm that fits its characteristics best and passes
+     * the decision to a hook before sorting.
+     *
+     * @param arr is a long array.
+     * @param hook receives the dispatch decision (may be null).
+     */
+
+    public static void sort(long[] arr, Consumer<? super Decision> hook) {
+        Decision decision = decide(arr.length, true, false, (i, j) -> Long.compare(arr[i], arr[j]));
+
+        if (hook != null) { hook.accept(decision); }
+
+        switch (decision.algorithm()) {
+            case INSERTION: Network.sort(arr, 0, arr.length - 1); break;
+            case MERGE:     Merge.sort(arr); break;
+            default:        Quick.introSort(arr); break;
+        }
+    }
+
+    /**
+     * Sorts a double array with the algorithm that fits its characteristics best. No boxing is done.
+     *
+     * @param arr is a double array.
+     */
+
+    public static void sort(double[] arr) {
+        sort(arr, null);
+    }
+
+    /**
+     * Sorts a double array with the algorithm that fits its characteristics best and passes
+     * the decision to a hook before sorting.
+     *
+     * @param arr is a double array.
+     * @param hook receives the dispatch decision (may be null).
+     */
+
+    public static void sort(double[] arr, Consumer<? super Decision> hook) {
+        Decision decision = decide(arr.length, true, false, (i, j) -> Double.compare(arr[i], arr[j]));
+
+        if (hook != null) { hook.accept(decision); }
+
+        switch (decision.algorithm()) {
+            case INSERTION: Insertion.shiftSort(arr); break;
+            case MERGE:     Merge.sort(arr); break;
+            default:        Quick.introSort(arr); break;
+        }
+    }
+
+    /**
+     * Sorts a float array with the algorithm that fits its characteristics best. No boxing is done.
+     *
+     * @param arr is a float array.
+     */
+
+    public static void sort(float[] arr) {
+        sort(arr, null);
+    }
+
+    /**
+     * Sorts a float array with the algorithm that fits its characteristics best and passes
+     * the decision to a hook before sorting.
+     *
+     * @param arr is a float array.
+     * @param hook receives the dispatch decision (may be null).
+     */
+
+    public static void sort(float[] arr, Consumer<? super Decision> hook) {
+        Decision decision = decide(arr.length, true, false, (i, j) -> Float.compare(arr[i], arr[j]));
+
+        if (hook != null) { hook.accept(decision); }
+
+        switch (decision.algorithm()) {
+            case INSERTION: Insertion.shiftSort(arr); break;
+            case MERGE:     Merge.sort(arr); break;
+            default:        Quick.introSort(arr); break;
+        }
+    }
+
+    /*
+     * Estimates the characteristics of an array and chooses the algorithm to sort it.
+     *
+     * size is the number of elements of the array.
+     * primitive is true for int, long, double and float arrays.
+     * natural is true if NaturalMerge can sort the array (object arrays).
+     * probe compares two elements of the array by their indexes.
+     */
+
+    private static Decision decide(int size, boolean primitive, boolean natural, Probe probe) {
+        if (size <= INSERTION_MAX) {
+            return new Decision(Algorithm.INSERTION, size, primitive, 0, 1, 0, 0);
+        }
+
+        int sample = Math.min(SAMPLE, Math.max(MIN_SAMPLE, size >>> 3));
+        long runs = sampleRuns(size, sample, probe);
+        double descents = (double) (runs >>> 32)/sample;
+        int segments = (int) runs;
+        double inversions = inversionRatio(size, sample, probe);
+        double duplicates = duplicateRatio(size, sample, probe);
+        Algorithm algorithm;
+
+        // ascending: nearly sorted or long ascending runs
+        // fewRuns: a few long ascending or descending runs (e.g., reversed arrays and organ pipes)
+        boolean ascending = inversions <= PRESORTED_INVERSIONS || descents <= FEW_RUNS_DESCENTS;
+        boolean fewRuns = ascending || segments <= FEW_SEGMENTS;
+
+        if (fewRuns) {
+            // presorted: the runs are merged (or the merges skipped) in near linear time
+            algorithm = natural ? Algorithm.NATURAL_MERGE : Algorithm.MERGE;
+        } else if (primitive || duplicates >= MANY_DUPLICATES) {
+            // 3-way partitioning is the fastest for primitives and for few distinct keys
+            algorithm = Algorithm.QUICK;
+        } else {
+            // objects: fewest compares, with or without an auxiliar array
+            algorithm = fitsInMemory((size + 1)/2) ? Algorithm.MERGE : Algorithm.HEAP;
+        }
+
+        return new Decision(algorithm, size, primitive, descents, segments, inversions, duplicates);
+    }
+
+    /*
+     * Samples evenly spaced adjacent pairs (arr[i], arr[i + 1]) and returns the number of pairs
+     * with arr[i + 1] < arr[i] (high 32 bits) and the number of monotone segments of the sampled
+     * pairs (low 32 bits), i.e., 1 + the number of times the direction of the pairs changes
+     * (pairs of equal elements keep the current direction).
+     */
+
+    private static long sampleRuns(int size, int sample, Probe probe) {
+        long step = size - 1;
+        int descents = 0;
+        int segments = 1;
+        int direction = 0;   // -1 descending, 1 ascending and 0 not known yet
+
+        for (int k = 0; k < sample; ++k) {
+            int i = (int) (k*step/sample);
+            int cmp = probe.compare(i + 1, i);
+
+            if (cmp < 0) { ++descents; }
+
+            if (cmp != 0) {
+                int pairDirection = cmp < 0 ? -1 : 1;
+
+                if (direction != 0 && pairDirection != direction) { ++segments; }
+                direction = pairDirection;
+            }
+        }
+
+        return ((long) descents << 32) | segments;
+    }
+
+    /*
+     * Returns the fraction of sampled pseudo-random pairs i < j with arr[j] < arr[i]. The
+     * generator (xorshift) is seeded with the size so the dispatch is deterministic.
+     */
+
+    private static double inversionRatio(int size, int sample, Probe probe) {
+        int seed = size*0x9E3779B9 | 1;
+        int inversions = 0;
+
+        for (int k = 0; k < sample; ++k) {
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            int i = (int) ((seed & 0xFFFFFFFFL) % size);
+
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            int j = (int) ((seed & 0xFFFFFFFFL) % size);
+
+            if (i > j) {
+                int temp = i;
+                i = j;
+                j = temp;
+            }
+
+            if (i != j && probe.compare(j, i) < 0) { ++inversions; }
+        }
+
+        return (double) inversions/sample;
+    }
+
+    /*
+     * Returns 1 - distinct/sample where distinct is the number of distinct keys among the
+     * evenly spaced elements of the sample. The indexes of the sample are sorted by Insertion
+     * sort so equal keys become neighbours.
+     */
+
+    private static double duplicateRatio(int size, int sample, Probe probe) {
+        int[] ix = new int[sample];
+
+        for (int k = 0; k < sample; ++k) {
+            ix[k] = (int) ((long) k*size/sample);
+        }
+
+        for (int i = 1; i < sample; ++i) {
+            int item = ix[i];
+            int j = i;
+
+            while (j > 0 && probe.compare(item, ix[j - 1]) < 0) {
+                ix[j] = ix[j - 1];
+                --j;
+            }
+
+            ix[j] = item;
+        }
+
+        int distinct = 1;
+        for (int k = 1; k < sample; ++k) {
+            if (probe.compare(ix[k], ix[k - 1]) != 0) { ++distinct; }
+        }
+
+        return 1 - (double) distinct/sample;
+    }
+
+    /*
+     * Returns true if an auxiliar array of the given length (8 bytes per element at most)
+     * fits in half of the heap memory that is still free.
+     */
+
+    private static boolean fitsInMemory(int length) {
+        Runtime runtime = Runtime.getRuntime();
+        long free = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+
+        return 8L*length <= free/2;
+    }
+
+    // unit testing
+    public static void main(String[] args) {
+        int n = 100000;
+        Integer[] random = new Integer[n];
+        Integer[] sorted = new Integer[n];
+        Integer[] reversed = new Integer[n];
+        Integer[] fewUnique = new Integer[n];
+        Integer[] organPipe = new Integer[n];
+        java.util.Random rnd = new java.util.Random(7);
+
+        for (int i = 0; i < n; ++i) {
+            random[i] = rnd.nextInt();
+            sorted[i] = i;
+            reversed[i] = n - i;
+            fewUnique[i] = rnd.nextInt(4);
+            organPipe[i] = i < n/2 ? i : n - i;
+        }
+
+        Integer[][] inputs = {random, sorted, reversed, fewUnique, organPipe, {3, 10, -1, 0, 5, 4}};
+        for (Integer[] arr : inputs) {
+            Sort.sort(arr, decision -> System.out.println(decision));
+            System.out.println("    sorted: " + NaturalMerge.isSorted(arr));
+        }
+
+        int[] primitives = new int[n];
+        for (int i = 0; i < n; ++i) {
+            primitives[i] = rnd.nextInt();
+        }
+
+        Sort.sort(primitives, decision -> System.out.println(decision));
+    }
+}
@@ -0,0 +1,258 @@
+/**
+ * This class consists of a collector of the operations performed by a sort. It is passed
+ * to the instrumented sort() overloads of this package, e.g.:
+ *
+ *              SortStats stats = new SortStats();
+ *              Merge.sort(arrayReference, stats);
+ *              System.out.println(stats);
+ *
+ * and it records:
+ *
+ *      1. compares: calls to compareTo() (isLess() operations);
+ *      2. swaps: exchanges of two array elements;
+ *      3. writes: every write of an element to the array or to an auxiliar array (a swap
+ *         is two writes);
+ *      4. allocations: auxiliar arrays allocated by the sort and their total number of elements;
+ *      5. the wall time (in nanoseconds) of each phase of the sort, e.g. "heapify" and
+ *         "sortdown" for Heap sort. Phases may be nested (e.g. the "heap fallback" phase of
+ *         introSort() is part of its "sort" phase).
+ *
+ * The instrumented overloads run the same code as the plain sort() methods, which pass
+ * a null SortStats, so the plain sorts only pay for a null check per recorded operation.
+ * Counts and times accumulate over every sort that uses the
+ * same SortStats object until reset() is called. A SortStats object is not thread safe so
+ * it must not be shared by concurrent sorts.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package sorting;
+
+import java.util.Arrays;
+
+public final class SortStats {
+
+    private long compares;            // number of compares
+    private long swaps;               // number of swaps
+    private long writes;              // number of element writes (2 per swap)
+    private long allocations;         // number of auxiliar arrays allocated
+    private long allocatedElements;   // total length of the auxiliar arrays
+
+    private String[] phaseNames = new String[4];   // names of the phases in the order they were first seen
+    private long[] phaseNanos = new long[4];        // accumulated wall time of each phase
+    private int phaseCount;                         // number of distinct phases
+
+    /**
+     * @return the number of compares (isLess() operations).
+     */
+
+    public long compares() {
+        return compares;
+    }
+
+    /**
+     * @return the number of swaps of two elements.
+     */
+
+    public long swaps() {
+        return swaps;
+    }
+
+    /**
+     * @return the number of element writes to the array or to auxiliar arrays (a swap is two writes).
+     */
+
+    public long writes() {
+        return writes;
+    }
+
+    /**
+     * @return the number of auxiliar arrays allocated.
+     */
+
+    public long allocations() {
+        return allocations;
+    }
+
+    /**
+     * @return the total number of elements of the auxiliar arrays allocated.
+     */
+
+    public long allocatedElements() {
+        return allocatedElements;
+    }
+
+    /**
+     * @return the number of distinct phases timed so far.
+     */
+
+    public int phaseCount() {
+        return phaseCount;
+    }
+
+    /**
+     * Returns the name of a phase. Phases are numbered in the order they were first timed.
+     *
+     * @param ix is the number of the phase (0 <= ix < phaseCount()).
+     * @return the name of the phase.
+     * @throws java.lang.ArrayIndexOutOfBoundsException if ix is out of bounds.
+     */
+
+    public String phaseName(int ix) {
+        if (ix < 0 || ix >= phaseCount) {
+            throw new java.lang.ArrayIndexOutOfBoundsException("Phase number out of bounds.");
+        }
+
+        return phaseNames[ix];
+    }
+
+    /**
+     * Returns the accumulated wall time of a phase.
+     *
+     * @param phase is the name of the phase.
+     * @return the wall time of the phase in nanoseconds or 0 if the phase was never timed.
+     */
+
+    public long phaseNanos(String phase) {
+        int ix = indexOf(phase);
+
+        return ix == -1 ? 0 : phaseNanos[ix];
+    }
+
+    /**
+     * Clears every counter and phase time.
+     */
+
+    public void reset() {
+        compares = 0;
+        swaps = 0;
+        writes = 0;
+        allocations = 0;
+        allocatedElements = 0;
+
+        Arrays.fill(phaseNames, 0, phaseCount, null);
+        Arrays.fill(phaseNanos, 0, phaseCount, 0);
+        phaseCount = 0;
+    }
+
+    /*
+     * Recorders used by the sorts of this package. Each sort has a single implementation
+     * that takes a SortStats argument: the plain sort() methods pass null and the
+     * instrumented overloads pass the collector, so every recorder ignores a null stats.
+     */
+
+    static void compare(SortStats stats) {
+        if (stats != null) { ++stats.compares; }
+    }
+
+    static void swap(SortStats stats) {
+        if (stats != null) {
+            ++stats.swaps;
+            stats.writes += 2;
+        }
+    }
+
+    static void write(SortStats stats) {
+        if (stats != null) { ++stats.writes; }
+    }
+
+    static void write(SortStats stats, int count) {
+        if (stats != null) { stats.writes += count; }
+    }
+
+    static void allocate(SortStats stats, int length) {
+        if (stats != null) {
+            ++stats.allocations;
+            stats.allocatedElements += length;
+        }
+    }
+
+    /*
+     * Returns the start time (a System.nanoTime() value) of a phase or 0 if stats is null
+     * so uninstrumented sorts do not read the clock.
+     */
+
+    static long start(SortStats stats) {
+        return stats == null ? 0 : System.nanoTime();
+    }
+
+    /*
+     * Adds the wall time elapsed since start (a value returned by start()) to a phase.
+     */
+
+    static void time(SortStats stats, String phase, long start) {
+        if (stats == null) { return; }
+
+        long elapsed = System.nanoTime() - start;
+        int ix = stats.indexOf(phase);
+
+        if (ix == -1) {
+            if (stats.phaseCount == stats.phaseNames.length) {
+                stats.phaseNames = Arrays.copyOf(stats.phaseNames, 2 * stats.phaseCount);
+                stats.phaseNanos = Arrays.copyOf(stats.phaseNanos, 2 * stats.phaseCount);
+            }
+
+            ix = stats.phaseCount++;
+            stats.phaseNames[ix] = phase;
+        }
+
+        stats.phaseNanos[ix] += elapsed;
+    }
+
+    /*
+     * Returns the number of a phase or -1 if it was never timed (sorts have only a few phases).
+     */
+
+    private int indexOf(String phase) {
+        for (int i = 0; i < phaseCount; ++i) {
+            if (phaseNames[i].equals(phase)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("compares=").append(compares)
+          .append(", swaps=").append(swaps)
+          .append(", writes=").append(writes)
+          .append(", allocations=").append(allocations)
+          .append(" (").append(allocatedElements).append(" elements)");
+
+        for (int i = 0; i < phaseCount; ++i) {
+            sb.append(", ").append(phaseNames[i]).append('=')
+              .append(phaseNanos[i]/1000).append("us");
+        }
+
+        return sb.toString();
+    }
+
+    // unit testing
+    public static void main(String[] args) {
+        Integer[] arr = {3, 10, 1, 0, 5, 4, 15, 0, 7, 7};
+        SortStats stats = new SortStats();
+
+        for (String name : new String[] {"Selection", "Insertion", "Merge", "Quick", "Quick.introSort", "Heap", "Heap.bottomUpSort"}) {
+            Integer[] copy = arr.clone();
+
+            stats.reset();
+            switch (name) {
+                case "Selection":       Selection.sort(copy, stats); break;
+                case "Insertion":       Insertion.sort(copy, stats); break;
+                case "Merge":           Merge.sort(copy, stats); break;
+                case "Quick":           Quick.sort(copy, stats); break;
+                case "Quick.introSort": Quick.introSort(copy, stats); break;
+                case "Heap":            Heap.sort(copy, stats); break;
+                default:                Heap.bottomUpSort(copy, stats); break;
+            }
+
+            System.out.println(name + ": " + Arrays.toString(copy));
+            System.out.println("    " + stats);
+        }
+    }
+}
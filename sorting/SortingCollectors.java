@@ -0,0 +1,176 @@
+/**
+ * This class consists of java.util.stream Collectors that collect the elements of a stream
+ * into a sorted List with the sorts of this package, e.g.:
+ *
+ *              List<String> sorted = lines.parallelStream().collect(SortingCollectors.toSortedList())
+ *
+ * The elements are appended to a buffer (one per thread of a parallel stream) and sorted
+ * with Merge sort, so the collected lists are stable: equal elements keep the encounter
+ * order of the stream. The buffers of a parallel stream are sorted by the thread that
+ * filled them and combined with a linear merge, so the sort runs in parallel with the
+ * stream. A buffer which is never combined (e.g., of a sequential stream) is sorted when
+ * the collection finishes: with Merge.parallelSort() on the natural order and with
+ * Merge.sort() when a Comparator is given.
+ *
+ * @author Igor G. Peternella
+ * @date 10-17-2026
+ */
+
+package sorting;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class SortingCollectors {
+
+    private static final int INITIAL_CAPACITY = 16;   // initial length of a buffer
+
+    private SortingCollectors() { }
+
+    /**
+     * Returns a Collector that collects the elements into a List sorted by their natural
+     * order. The sort is stable and the List is unmodifiable.
+     *
+     * @return a Collector of the elements into a sorted List.
+     */
+
+    public static <T extends Comparable<? super T>> Collector<T, ?, List<T>> toSortedList() {
+        return collector(null);
+    }
+
+    /**
+     * Returns a Collector that collects the elements into a List sorted by the order
+     * defined by a Comparator. The sort is stable and the List is unmodifiable.
+     *
+     * @param comparator defines the order of the elements.
+     * @return a Collector of the elements into a sorted List.
+     */
+
+    public static <T> Collector<T, ?, List<T>> toSortedList(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("null comparator");
+        }
+
+        return collector(comparator);
+    }
+
+    /*
+     * Builds the Collector: a null comparator is the natural order.
+     */
+
+    private static <T> Collector<T, ?, List<T>> collector(Comparator<? super T> comparator) {
+        return Collector.of(
+            () -> new Buffer<T>(comparator),
+            Buffer::add,
+            Buffer::combine,
+            Buffer::toList);
+    }
+
+    /*
+     * Growable array of the elements collected by one thread. It is sorted lazily: only
+     * when it is combined with another buffer or when the collection finishes.
+     */
+
+    private static final class Buffer<T> {
+        private final Comparator<? super T> comparator;   // null: natural order
+        private Object[] items;                           // items[0 .. size - 1] are the elements
+        private int size;
+        private boolean sorted;                           // true when items is in order
+
+        Buffer(Comparator<? super T> comparator) {
+            this(comparator, INITIAL_CAPACITY);
+        }
+
+        // natural order buffers hold a Comparable[] which Merge.parallelSort() takes
+        Buffer(Comparator<? super T> comparator, int capacity) {
+            this.comparator = comparator;
+            this.items = comparator == null ? new Comparable[capacity] : new Object[capacity];
+            this.sorted = true;
+        }
+
+        void add(T item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, 2 * size);
+            }
+
+            items[size++] = item;
+            sorted = false;
+        }
+
+        /*
+         * Sorts both buffers (on the thread that combines them) and merges them into a new
+         * buffer. This buffer's elements come first in the encounter order, so ties are
+         * taken from it which keeps the merge stable.
+         */
+
+        Buffer<T> combine(Buffer<T> other) {
+            if (other.size == 0) { return this; }
+            if (size == 0) { return other; }
+
+            sortSequentially();
+            other.sortSequentially();
+
+            Buffer<T> merged = new Buffer<T>(comparator, size + other.size);
+            Object[] to = merged.items;
+            Comparator c = order();
+            int i = 0;
+            int j = 0;
+            int k = 0;
+
+            while (i < size && j < other.size) {
+                if (c.compare(other.items[j], items[i]) < 0) { to[k++] = other.items[j++]; }
+                else                                         { to[k++] = items[i++]; }
+            }
+
+            System.arraycopy(items, i, to, k, size - i);
+            System.arraycopy(other.items, j, to, k + size - i, other.size - j);
+
+            merged.size = to.length;
+
+            return merged;
+        }
+
+        /*
+         * Sorts the elements, which are not sorted yet if the buffer was never combined,
+         * and returns them as an unmodifiable List.
+         */
+
+        List<T> toList() {
+            Object[] all = size == items.length ? items : Arrays.copyOf(items, size);
+
+            if (!sorted) {
+                if (comparator == null) { Merge.parallelSort((Comparable[]) all); }
+                else                    { Merge.sort((T[]) all, comparator); }
+            }
+
+            return Collections.unmodifiableList(Arrays.asList((T[]) all));
+        }
+
+        private void sortSequentially() {
+            if (!sorted) {
+                Merge.sort((T[]) items, 0, size, order());
+                sorted = true;
+            }
+        }
+
+        private Comparator order() {
+            return comparator == null ? Comparator.naturalOrder() : comparator;
+        }
+    }
+
+    // unit testing
+    public static void main(String[] args) {
+        List<Integer> sorted = Stream.of(5, 3, 9, 1, 7, 3, 0).collect(toSortedList());
+        System.out.println(sorted);
+
+        List<String> words = Stream.of("merge", "sort", "a", "stream", "of", "words")
+                                   .parallel()
+                                   .collect(toSortedList(Comparator.comparing(String::length)));
+        System.out.println(words);
+    }
+}
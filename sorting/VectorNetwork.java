@@ -0,0 +1,423 @@
+/**
+ * This class consists of the vectorized sorting networks used by Network when the
+ * jdk.incubator.vector module is present. A block of up to 4 * L elements (L is the
+ * number of lanes of the preferred vector species: 16 ints on AVX-512 and 8 ints on
+ * AVX2) is loaded into at most 4 vector registers and sorted with a bitonic network:
+ *
+ *      1. each register is sorted across its lanes (log2(L) * (log2(L) + 1)/2 steps);
+ *      2. pairs of sorted registers are merged by comparing the first one against the
+ *         lane reversal of the second one (the min/max lanes are two bitonic sequences)
+ *         and cleaning each register with the last log2(L) steps of the lane sort;
+ *      3. for 4 registers the two sorted pairs are merged the same way.
+ *
+ * Each network step is a lane permutation (rearrange), a lanewise min and max and a
+ * blend that keeps the min on the lower lane of each compared pair and the max on the
+ * upper one, so no step branches on the data and the cost only depends on the block
+ * size. A block that does not fill its registers is sorted on a copy padded with the
+ * maximum value of the type, so the padding ends up after the block. The copy is made on
+ * a scratch block of the calling thread which is reused by all of its partial blocks, so
+ * sorting a block never allocates.
+ *
+ * Every stage loads its registers from the array and stores them back: C2 only keeps the
+ * vectors in registers (instead of boxing them) while a compiled method stays small, and
+ * the shuffles and masks of the steps are constants (static final fields) for the same
+ * reason. On JDK 17 each rearrange still checks its shuffle indexes, which can be turned
+ * off with -Djdk.incubator.vector.VECTOR_ACCESS_OOB_CHECK=0 for faster blocks.
+ *
+ * This class must only be loaded when the jdk.incubator.vector module is resolved (see
+ * Network.VECTORIZED), otherwise its vector types cannot be linked.
+ *
+ * @author Igor G. Peternella
+ * @date 10-16-2026
+ */
+
+package sorting;
+
+import java.util.Arrays;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorNetwork {
+
+    /***************************************************************************
+     *  int blocks.
+     ***************************************************************************/
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final int INT_LANES = INTS.length();
+
+    // biggest int block sorted by the network: 4 registers
+    static final int INT_BLOCK = 4 * INT_LANES;
+
+    // partner lanes (P) and max lanes (M) of the steps of the network: up to 10 steps for
+    // 16 lanes; the steps a register does not have are null
+    private static final VectorShuffle<Integer> IP0 = intPartner(0);
+    private static final VectorMask<Integer> IM0 = intMaxLanes(0);
+    private static final VectorShuffle<Integer> IP1 = intPartner(1);
+    private static final VectorMask<Integer> IM1 = intMaxLanes(1);
+    private static final VectorShuffle<Integer> IP2 = intPartner(2);
+    private static final VectorMask<Integer> IM2 = intMaxLanes(2);
+    private static final VectorShuffle<Integer> IP3 = intPartner(3);
+    private static final VectorMask<Integer> IM3 = intMaxLanes(3);
+    private static final VectorShuffle<Integer> IP4 = intPartner(4);
+    private static final VectorMask<Integer> IM4 = intMaxLanes(4);
+    private static final VectorShuffle<Integer> IP5 = intPartner(5);
+    private static final VectorMask<Integer> IM5 = intMaxLanes(5);
+    private static final VectorShuffle<Integer> IP6 = intPartner(6);
+    private static final VectorMask<Integer> IM6 = intMaxLanes(6);
+    private static final VectorShuffle<Integer> IP7 = intPartner(7);
+    private static final VectorMask<Integer> IM7 = intMaxLanes(7);
+    private static final VectorShuffle<Integer> IP8 = intPartner(8);
+    private static final VectorMask<Integer> IM8 = intMaxLanes(8);
+    private static final VectorShuffle<Integer> IP9 = intPartner(9);
+    private static final VectorMask<Integer> IM9 = intMaxLanes(9);
+
+    private static final VectorShuffle<Integer> INT_REVERSE = VectorShuffle.fromOp(INTS, i -> INT_LANES - 1 - i);
+
+    // scratch block of the partial blocks of each thread (the parallel sorts sort blocks concurrently)
+    private static final ThreadLocal<int[]> INT_SCRATCH = ThreadLocal.withInitial(() -> new int[INT_BLOCK]);
+
+    private VectorNetwork() { }
+
+    /*
+     * Sorts arr[lo .. hi] (inclusive) which has at most INT_BLOCK elements.
+     */
+
+    static void sort(int[] arr, int lo, int hi) {
+        int n = hi - lo + 1;
+        int registers = n <= INT_LANES ? 1 : (n <= 2 * INT_LANES ? 2 : 4);
+        int[] block = arr;
+        int offset = lo;
+
+        // a partial block is sorted on a copy padded with the maximum value
+        if (n < registers * INT_LANES) {
+            block = INT_SCRATCH.get();
+            offset = 0;
+            System.arraycopy(arr, lo, block, 0, n);
+            Arrays.fill(block, n, registers * INT_LANES, Integer.MAX_VALUE);
+        }
+
+        if (registers == 1) {
+            sort1(block, offset);
+        } else if (registers == 2) {
+            sort2(block, offset);
+        } else {
+            sort2(block, offset);
+            sort2(block, offset + 2 * INT_LANES);
+            merge4(block, offset);
+        }
+
+        if (block != arr) {
+            System.arraycopy(block, 0, arr, lo, n);
+        }
+    }
+
+    /*
+     * Sorts the register a[offset .. offset + L - 1].
+     */
+
+    private static void sort1(int[] a, int offset) {
+        sortLanes(IntVector.fromArray(INTS, a, offset)).intoArray(a, offset);
+    }
+
+    /*
+     * Sorts the 2 registers a[offset .. offset + 2L - 1].
+     */
+
+    private static void sort2(int[] a, int offset) {
+        sort1(a, offset);
+        sort1(a, offset + INT_LANES);
+        merge2(a, offset);
+    }
+
+    /*
+     * Merges the sorted registers a[offset .. offset + L - 1] and a[offset + L .. offset + 2L - 1]:
+     * the min and max lanes of the first one against the reversal of the second one are
+     * bitonic.
+     */
+
+    private static void merge2(int[] a, int offset) {
+        IntVector v0 = IntVector.fromArray(INTS, a, offset);
+        IntVector v1 = IntVector.fromArray(INTS, a, offset + INT_LANES).rearrange(INT_REVERSE);
+
+        cleanLanes(v0.min(v1)).intoArray(a, offset);
+        cleanLanes(v0.max(v1)).intoArray(a, offset + INT_LANES);
+    }
+
+    /*
+     * Merges the 2 sorted pairs of registers a[offset .. offset + 2L - 1] and
+     * a[offset + 2L .. offset + 4L - 1].
+     */
+
+    private static void merge4(int[] a, int offset) {
+        IntVector v0 = IntVector.fromArray(INTS, a, offset);
+        IntVector v1 = IntVector.fromArray(INTS, a, offset + INT_LANES);
+        IntVector v2 = IntVector.fromArray(INTS, a, offset + 3 * INT_LANES).rearrange(INT_REVERSE);
+        IntVector v3 = IntVector.fromArray(INTS, a, offset + 2 * INT_LANES).rearrange(INT_REVERSE);
+        IntVector t;
+
+        // the first pair against the reversal of the second one is bitonic: half cleaners
+        t = v0.min(v2); v2 = v0.max(v2); v0 = t;
+        t = v1.min(v3); v3 = v1.max(v3); v1 = t;
+        t = v0.min(v1); v1 = v0.max(v1); v0 = t;
+        t = v2.min(v3); v3 = v2.max(v3); v2 = t;
+
+        cleanLanes(v0).intoArray(a, offset);
+        cleanLanes(v1).intoArray(a, offset + INT_LANES);
+        cleanLanes(v2).intoArray(a, offset + 2 * INT_LANES);
+        cleanLanes(v3).intoArray(a, offset + 3 * INT_LANES);
+    }
+
+    /*
+     * Sorts the lanes of a register with every step of the bitonic network.
+     */
+
+    private static IntVector sortLanes(IntVector v) {
+        // steps of k = 2, 4, 8 and 16 lanes
+        v = step(v, IP0, IM0);
+
+        if (INT_LANES >= 4)  { v = step(v, IP1, IM1); v = step(v, IP2, IM2); }
+        if (INT_LANES >= 8)  { v = step(v, IP3, IM3); v = step(v, IP4, IM4); v = step(v, IP5, IM5); }
+        if (INT_LANES >= 16) { v = step(v, IP6, IM6); v = step(v, IP7, IM7); v = step(v, IP8, IM8); v = step(v, IP9, IM9); }
+
+        return v;
+    }
+
+    /*
+     * Sorts the lanes of a bitonic register.
+     */
+
+    private static IntVector cleanLanes(IntVector v) {
+        // the last log2(L) steps of the network: k == L
+        switch (INT_LANES) {
+            case 16: return step(step(step(step(v, IP6, IM6), IP7, IM7), IP8, IM8), IP9, IM9);
+            case 8:  return step(step(step(v, IP3, IM3), IP4, IM4), IP5, IM5);
+            case 4:  return step(step(v, IP1, IM1), IP2, IM2);
+            default: return step(v, IP0, IM0);
+        }
+    }
+
+    /*
+     * One step of the network: every lane is compared with its partner lane.
+     */
+
+    private static IntVector step(IntVector v, VectorShuffle<Integer> partners, VectorMask<Integer> maxLanes) {
+        IntVector partner = v.rearrange(partners);
+
+        return v.min(partner).blend(v.max(partner), maxLanes);
+    }
+
+    /*
+     * Returns the partner lanes of step s of the network (null if there is no such step).
+     */
+
+    private static VectorShuffle<Integer> intPartner(int s) {
+        int[][] steps = steps(INTS.length());
+
+        if (s >= steps.length) { return null; }
+
+        int j = steps[s][1];
+
+        return VectorShuffle.fromOp(INTS, i -> i ^ j);
+    }
+
+    /*
+     * Returns the max lanes of step s of the network (null if there is no such step).
+     */
+
+    private static VectorMask<Integer> intMaxLanes(int s) {
+        int[][] steps = steps(INTS.length());
+
+        if (s >= steps.length) { return null; }
+
+        return VectorMask.fromArray(INTS, maxLanes(INTS.length(), steps[s][0], steps[s][1]), 0);
+    }
+
+    /***************************************************************************
+     *  long blocks.
+     ***************************************************************************/
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final int LONG_LANES = LONGS.length();
+
+    // biggest long block sorted by the network: 4 registers
+    static final int LONG_BLOCK = 4 * LONG_LANES;
+
+    // partner lanes (P) and max lanes (M) of the steps: up to 6 steps for 8 lanes
+    private static final VectorShuffle<Long> LP0 = longPartner(0);
+    private static final VectorMask<Long> LM0 = longMaxLanes(0);
+    private static final VectorShuffle<Long> LP1 = longPartner(1);
+    private static final VectorMask<Long> LM1 = longMaxLanes(1);
+    private static final VectorShuffle<Long> LP2 = longPartner(2);
+    private static final VectorMask<Long> LM2 = longMaxLanes(2);
+    private static final VectorShuffle<Long> LP3 = longPartner(3);
+    private static final VectorMask<Long> LM3 = longMaxLanes(3);
+    private static final VectorShuffle<Long> LP4 = longPartner(4);
+    private static final VectorMask<Long> LM4 = longMaxLanes(4);
+    private static final VectorShuffle<Long> LP5 = longPartner(5);
+    private static final VectorMask<Long> LM5 = longMaxLanes(5);
+
+    private static final VectorShuffle<Long> LONG_REVERSE = VectorShuffle.fromOp(LONGS, i -> LONG_LANES - 1 - i);
+
+    // scratch block of the partial blocks of each thread
+    private static final ThreadLocal<long[]> LONG_SCRATCH = ThreadLocal.withInitial(() -> new long[LONG_BLOCK]);
+
+    /*
+     * Sorts arr[lo .. hi] (inclusive) which has at most LONG_BLOCK elements (see the int
+     * version).
+     */
+
+    static void sort(long[] arr, int lo, int hi) {
+        int n = hi - lo + 1;
+        int registers = n <= LONG_LANES ? 1 : (n <= 2 * LONG_LANES ? 2 : 4);
+        long[] block = arr;
+        int offset = lo;
+
+        // a partial block is sorted on a copy padded with the maximum value
+        if (n < registers * LONG_LANES) {
+            block = LONG_SCRATCH.get();
+            offset = 0;
+            System.arraycopy(arr, lo, block, 0, n);
+            Arrays.fill(block, n, registers * LONG_LANES, Long.MAX_VALUE);
+        }
+
+        if (registers == 1) {
+            sort1(block, offset);
+        } else if (registers == 2) {
+            sort2(block, offset);
+        } else {
+            sort2(block, offset);
+            sort2(block, offset + 2 * LONG_LANES);
+            merge4(block, offset);
+        }
+
+        if (block != arr) {
+            System.arraycopy(block, 0, arr, lo, n);
+        }
+    }
+
+    private static void sort1(long[] a, int offset) {
+        sortLanes(LongVector.fromArray(LONGS, a, offset)).intoArray(a, offset);
+    }
+
+    private static void sort2(long[] a, int offset) {
+        sort1(a, offset);
+        sort1(a, offset + LONG_LANES);
+        merge2(a, offset);
+    }
+
+    private static void merge2(long[] a, int offset) {
+        LongVector v0 = LongVector.fromArray(LONGS, a, offset);
+        LongVector v1 = LongVector.fromArray(LONGS, a, offset + LONG_LANES).rearrange(LONG_REVERSE);
+
+        cleanLanes(v0.min(v1)).intoArray(a, offset);
+        cleanLanes(v0.max(v1)).intoArray(a, offset + LONG_LANES);
+    }
+
+    private static void merge4(long[] a, int offset) {
+        LongVector v0 = LongVector.fromArray(LONGS, a, offset);
+        LongVector v1 = LongVector.fromArray(LONGS, a, offset + LONG_LANES);
+        LongVector v2 = LongVector.fromArray(LONGS, a, offset + 3 * LONG_LANES).rearrange(LONG_REVERSE);
+        LongVector v3 = LongVector.fromArray(LONGS, a, offset + 2 * LONG_LANES).rearrange(LONG_REVERSE);
+        LongVector t;
+
+        t = v0.min(v2); v2 = v0.max(v2); v0 = t;
+        t = v1.min(v3); v3 = v1.max(v3); v1 = t;
+        t = v0.min(v1); v1 = v0.max(v1); v0 = t;
+        t = v2.min(v3); v3 = v2.max(v3); v2 = t;
+
+        cleanLanes(v0).intoArray(a, offset);
+        cleanLanes(v1).intoArray(a, offset + LONG_LANES);
+        cleanLanes(v2).intoArray(a, offset + 2 * LONG_LANES);
+        cleanLanes(v3).intoArray(a, offset + 3 * LONG_LANES);
+    }
+
+    private static LongVector sortLanes(LongVector v) {
+        v = step(v, LP0, LM0);
+
+        if (LONG_LANES >= 4)  { v = step(v, LP1, LM1); v = step(v, LP2, LM2); }
+        if (LONG_LANES >= 8)  { v = step(v, LP3, LM3); v = step(v, LP4, LM4); v = step(v, LP5, LM5); }
+
+        return v;
+    }
+
+    private static LongVector cleanLanes(LongVector v) {
+        switch (LONG_LANES) {
+            case 8:  return step(step(step(v, LP3, LM3), LP4, LM4), LP5, LM5);
+            case 4:  return step(step(v, LP1, LM1), LP2, LM2);
+            default: return step(v, LP0, LM0);
+        }
+    }
+
+    private static LongVector step(LongVector v, VectorShuffle<Long> partners, VectorMask<Long> maxLanes) {
+        LongVector partner = v.rearrange(partners);
+
+        return v.min(partner).blend(v.max(partner), maxLanes);
+    }
+
+    private static VectorShuffle<Long> longPartner(int s) {
+        int[][] steps = steps(LONGS.length());
+
+        if (s >= steps.length) { return null; }
+
+        int j = steps[s][1];
+
+        return VectorShuffle.fromOp(LONGS, i -> i ^ j);
+    }
+
+    private static VectorMask<Long> longMaxLanes(int s) {
+        int[][] steps = steps(LONGS.length());
+
+        if (s >= steps.length) { return null; }
+
+        return VectorMask.fromArray(LONGS, maxLanes(LONGS.length(), steps[s][0], steps[s][1]), 0);
+    }
+
+    /***************************************************************************
+     *  Bitonic network of a register.
+     ***************************************************************************/
+
+    /*
+     * Returns the (k, j) steps of the bitonic sorting network of lanes elements: lane i is
+     * compared with lane i ^ j and the blocks of k lanes alternate between ascending and
+     * descending order until k == lanes.
+     */
+
+    private static int[][] steps(int lanes) {
+        int count = 0;
+
+        for (int k = 2; k <= lanes; k *= 2) {
+            for (int j = k/2; j > 0; j /= 2) { ++count; }
+        }
+
+        int[][] steps = new int[count][];
+        int s = 0;
+
+        for (int k = 2; k <= lanes; k *= 2) {
+            for (int j = k/2; j > 0; j /= 2) {
+                steps[s++] = new int[] {k, j};
+            }
+        }
+
+        return steps;
+    }
+
+    /*
+     * Returns the lanes that keep the max of their compared pair on a (k, j) step: the
+     * upper lane of an ascending block and the lower lane of a descending one.
+     */
+
+    private static boolean[] maxLanes(int lanes, int k, int j) {
+        boolean[] max = new boolean[lanes];
+
+        for (int i = 0; i < lanes; ++i) {
+            max[i] = ((i & j) != 0) == ((i & k) == 0);
+        }
+
+        return max;
+    }
+}
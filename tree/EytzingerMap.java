@@ -0,0 +1,276 @@
+/**
+ * This class consists of an implementation of a static Ordered Symbol Table with key, value
+ * pairs for read-mostly data: it is built once from arrays of keys and values and then
+ * supports the searches of BinarySearchTree (get(), floor(), ceiling(), min() and max())
+ * but no insertions or deletions.
+ *
+ * The pairs are bulk sorted with Merge sort and laid out in Eytzinger (BFS) order in an
+ * array: the root of a perfectly balanced BST is at index 1 and the children of the node
+ * at index k are at indexes 2*k and 2*k + 1 such as in a binary heap:
+ *
+ *      sorted keys:    A C E H L M P            Eytzinger:  _ H C P A E L M
+ *                                                           0 1 2 3 4 5 6 7
+ *
+ * Hence, a search has no node references to follow (k only moves to 2*k or 2*k + 1) and the
+ * first levels of the tree, which are read by every search, share a few cache lines at the
+ * beginning of the array. Also, the descent does not branch on the compares: the result of
+ * each compare is added to 2*k, so the searches have no branch mispredictions and the CPU
+ * can load the next levels ahead of the compares. The searched node is recovered from the
+ * bits of the final k (see ceilingIndex()).
+ *
+ * Complexity: O(N*log(N)) to build, ~log(N) compares for every search and O(N) memory.
+ *
+ * @author Igor G. Peternella
+ * @date 10-17-2026
+ */
+
+package tree;
+
+import java.util.NoSuchElementException;
+
+import sorting.Merge;
+
+@SuppressWarnings("unchecked")
+public class EytzingerMap<K extends Comparable<K>, V> {
+
+    private final K[] keys;     // keys in Eytzinger order: keys[1 .. n]
+    private final V[] values;   // values[k] is the value of keys[k]
+    private final int n;        // number of key, value pairs
+    private final int minIndex; // index of the smallest key: the leftmost node
+    private final int maxIndex; // index of the biggest key: the rightmost node
+
+    /**
+     * Builds a map with the given key, value pairs: keys[i] is associated with values[i].
+     * Should a key appear more than once, the value of its last occurrence is kept
+     * (such as successive puts on a BinarySearchTree).
+     * Complexity: O(N*log(N)) compares.
+     *
+     * @param keys are the Comparable keys of the map.
+     * @param values are the values associated with the keys.
+     * @throws java.lang.IllegalArgumentException if the arrays have different lengths or a
+     *         key is null.
+     */
+
+    public EytzingerMap(K[] keys, V[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("keys and values have different lengths: "
+                                               + keys.length + " and " + values.length);
+        }
+
+        for (K key : keys) {
+            if (key == null) { throw new IllegalArgumentException("null key"); }
+        }
+
+        // the permutation is stable: the last of the equal keys is the most recent value
+        int[] perm = Merge.argsort(keys);
+        K[] sortedKeys = (K[]) new Comparable<?>[keys.length];
+        V[] sortedValues = (V[]) new Object[keys.length];
+        int size = 0;
+
+        for (int i = 0; i < perm.length; ++i) {
+            K key = keys[perm[i]];
+
+            if (size > 0 && key.compareTo(sortedKeys[size - 1]) == 0) { --size; }
+
+            sortedKeys[size] = key;
+            sortedValues[size++] = values[perm[i]];
+        }
+
+        this.n = size;
+        this.keys = (K[]) new Comparable<?>[n + 1];
+        this.values = (V[]) new Object[n + 1];
+
+        eytzinger(sortedKeys, sortedValues, 0, 1);
+
+        // the leftmost node is reached by left children only: 1, 2, 4, ...
+        this.minIndex = n == 0 ? 0 : Integer.highestOneBit(n);
+
+        // the rightmost node is reached by right children only: 1, 3, 7, ...
+        this.maxIndex = n == 0 ? 0 : Integer.highestOneBit(n + 1) - 1;
+    }
+
+    /*
+     * Copies the sorted pairs to the subtree rooted at index k with an inorder traversal: the
+     * left subtree gets the smallest keys, then the root and then the right subtree.
+     *
+     * param i is the next sorted pair to be copied.
+     * return the next sorted pair to be copied after the subtree.
+     */
+
+    private int eytzinger(K[] sortedKeys, V[] sortedValues, int i, int k) {
+        if (k > n) { return i; }
+
+        i = eytzinger(sortedKeys, sortedValues, i, 2*k);
+
+        keys[k] = sortedKeys[i];
+        values[k] = sortedValues[i++];
+
+        return eytzinger(sortedKeys, sortedValues, i, 2*k + 1);
+    }
+
+    /**
+     * Returns the number of key, value pairs of the map.
+     *
+     * @return size of the map.
+     */
+
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Returns true if the map is empty.
+     *
+     * @return true if the map has no keys and false otherwise.
+     */
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Searches for the value associated with a given key.
+     * Complexity: ~log(N) compares.
+     *
+     * @param key is the search key.
+     * @return value associated with the given key on a search hit or null on a search miss.
+     */
+
+    public V get(K key) {
+        int k = ceilingIndex(key);
+
+        // the ceiling is the key itself on a search hit
+        if (k == 0 || key.compareTo(keys[k]) != 0) { return null; }
+
+        return values[k];
+    }
+
+    /**
+     * Returns true if the map has a given key.
+     *
+     * @param key is the search key.
+     * @return true if the key is in the map and false otherwise.
+     */
+
+    public boolean contains(K key) {
+        int k = ceilingIndex(key);
+
+        return k != 0 && key.compareTo(keys[k]) == 0;
+    }
+
+    /**
+     * Returns the minimum key of the map.
+     *
+     * @return minimum key of the map.
+     * @throws java.util.NoSuchElementException if the map is empty.
+     */
+
+    public K min() {
+        if (isEmpty()) { throw new NoSuchElementException("Empty map"); }
+
+        return keys[minIndex];
+    }
+
+    /**
+     * Returns the maximum key of the map.
+     *
+     * @return maximum key of the map.
+     * @throws java.util.NoSuchElementException if the map is empty.
+     */
+
+    public K max() {
+        if (isEmpty()) { throw new NoSuchElementException("Empty map"); }
+
+        return keys[maxIndex];
+    }
+
+    /**
+     * Returns the floor of a given key: the largest key of the map which is less than or
+     * equal to the given key.
+     * Complexity: ~log(N) compares.
+     *
+     * @param key is the key whose floor is desired.
+     * @return the floor of the argument key or null if there's no such key.
+     */
+
+    public K floor(K key) {
+        return keys[floorIndex(key)];
+    }
+
+    /**
+     * Returns the ceiling of a given key: the smallest key of the map which is larger than
+     * or equal to the given key.
+     * Complexity: ~log(N) compares.
+     *
+     * @param key is the key whose ceiling is desired.
+     * @return the ceiling of the argument key or null if there's no such key.
+     */
+
+    public K ceiling(K key) {
+        return keys[ceilingIndex(key)];
+    }
+
+    /*
+     * Returns the index of the ceiling of key or 0 (keys[0] is null) if every key is smaller.
+     *
+     * The descent moves to the right child (2*k + 1) when keys[k] < key and to the left
+     * child (2*k) otherwise, until it falls off the tree. The ceiling is the last node where
+     * the descent moved left: the bits of k after it are the right moves (trailing 1s), so k
+     * is shifted right by the number of trailing 1s plus the left move itself. If the descent
+     * never moved left, k is only 1s and the shift yields 0.
+     */
+
+    private int ceilingIndex(K key) {
+        int k = 1;
+
+        while (k <= n) {
+            // keys[k] < key: the sign bit of the compare is 1 (right child), else 0 (left child)
+            k = 2*k + (keys[k].compareTo(key) >>> 31);
+        }
+
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    /*
+     * Returns the index of the floor of key or 0 (keys[0] is null) if every key is bigger.
+     *
+     * The mirror of ceilingIndex(): the descent moves right when keys[k] <= key and the
+     * floor is the last node where it moved right (k without its trailing 0s).
+     */
+
+    private int floorIndex(K key) {
+        int k = 1;
+
+        while (k <= n) {
+            // key < keys[k]: the sign bit of the compare is 1 (left child), else 0 (right child)
+            k = 2*k + 1 - (key.compareTo(keys[k]) >>> 31);
+        }
+
+        return k >>> (Integer.numberOfTrailingZeros(k) + 1);
+    }
+
+    // unit testing
+    public static void main(String[] args) {
+        String[] keys = {"S", "E", "A", "R", "C", "H", "E", "X", "M", "P", "L"};
+        Integer[] values = {0, 1, 2, 3, 4, 5, 6, 7, 9, 10, 11};
+
+        EytzingerMap<String, Integer> map = new EytzingerMap<String, Integer>(keys, values);
+
+        // size test: E appears twice
+        System.out.println(map.size());
+
+        // get an updated value (6) and a search miss (null)
+        System.out.println(map.get("E"));
+        System.out.println(map.get("B"));
+
+        // min max test
+        System.out.println(map.min());
+        System.out.println(map.max());
+
+        // floor, ceiling test
+        System.out.println(map.floor("G"));
+        System.out.println(map.ceiling("N"));
+        System.out.println(map.floor("0"));
+        System.out.println(map.ceiling("Y"));
+    }
+}